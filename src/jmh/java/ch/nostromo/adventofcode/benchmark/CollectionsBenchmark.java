@@ -0,0 +1,135 @@
+package ch.nostromo.adventofcode.benchmark;
+
+import ch.nostromo.adventofcode.utils.collections.BitSet2D;
+import ch.nostromo.adventofcode.utils.collections.IntSet;
+import ch.nostromo.adventofcode.utils.collections.LongLongMap;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Boxed JDK collections against {@code utils.collections} on the access patterns of the migrated solvers: counting
+ * stones per number (2024 day 11), packed position/direction visits (2024 day 6) and rope positions (2022 day 9).
+ * <p>
+ * Run with the GC profiler to see the allocation per operation:
+ * {@code java -cp target/benchmarks.jar org.openjdk.jmh.Main CollectionsBenchmark -prof gc}
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CollectionsBenchmark {
+
+    @Param({"100000"})
+    public int operations;
+
+    private long[] stones;
+
+    private int[] visits;
+
+    private int[] steps;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        Random random = new Random(1);
+
+        // Few distinct stones with many repetitions, like the stone counts per generation
+        stones = new long[operations];
+        for (int i = 0; i < operations; i++) {
+            stones[i] = random.nextInt(4000) * 2024L;
+        }
+
+        // Positions of a 130x130 map times four directions, revisited often
+        visits = new int[operations];
+        for (int i = 0; i < operations; i++) {
+            visits[i] = random.nextInt(130 * 130 * 4);
+        }
+
+        // Random walk around the origin
+        steps = new int[operations];
+        for (int i = 0; i < operations; i++) {
+            steps[i] = random.nextInt(4);
+        }
+    }
+
+    @Benchmark
+    public long stoneCountsBoxed() {
+        Map<Long, Long> counts = new HashMap<>();
+        for (long stone : stones) {
+            counts.merge(stone, 1L, Long::sum);
+        }
+        return counts.size();
+    }
+
+    @Benchmark
+    public long stoneCountsPrimitive() {
+        LongLongMap counts = new LongLongMap();
+        for (long stone : stones) {
+            counts.addTo(stone, 1);
+        }
+        return counts.size();
+    }
+
+    @Benchmark
+    public int visitsBoxed() {
+        Set<Integer> visited = new HashSet<>();
+        for (int visit : visits) {
+            visited.add(visit);
+        }
+        return visited.size();
+    }
+
+    @Benchmark
+    public int visitsPrimitive() {
+        IntSet visited = new IntSet();
+        for (int visit : visits) {
+            visited.add(visit);
+        }
+        return visited.size();
+    }
+
+    @Benchmark
+    public int walkBoxed() {
+        Set<Long> visited = new HashSet<>();
+        int x = 0;
+        int y = 0;
+        for (int step : steps) {
+            x += step == 1 ? 1 : step == 3 ? -1 : 0;
+            y += step == 2 ? 1 : step == 0 ? -1 : 0;
+            visited.add((long) x << 32 | (y & 0xffffffffL));
+        }
+        return visited.size();
+    }
+
+    @Benchmark
+    public int walkPrimitive() {
+        BitSet2D visited = new BitSet2D();
+        int x = 0;
+        int y = 0;
+        for (int step : steps) {
+            x += step == 1 ? 1 : step == 3 ? -1 : 0;
+            y += step == 2 ? 1 : step == 0 ? -1 : 0;
+            visited.set(x, y);
+        }
+        return visited.cardinality();
+    }
+
+}
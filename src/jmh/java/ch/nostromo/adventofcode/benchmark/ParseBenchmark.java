@@ -0,0 +1,175 @@
+package ch.nostromo.adventofcode.benchmark;
+
+import ch.nostromo.adventofcode.BasePuzzle;
+import ch.nostromo.adventofcode.PuzzleInput;
+import ch.nostromo.adventofcode.runner.PuzzleDescriptor;
+import ch.nostromo.adventofcode.runner.PuzzleRegistry;
+import ch.nostromo.adventofcode.utils.Scanner;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Parse time of the full inputs of 2024 day 1, 2024 day 13 and 2022 day 5, the former string based parsers against
+ * {@link Scanner}, next to the time of solving the whole puzzle.
+ * <p>
+ * The parse benchmarks only sum up the numbers so nothing but the tokenizing is measured:
+ * {@code java -cp target/benchmarks.jar org.openjdk.jmh.Main ParseBenchmark -prof gc}
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ParseBenchmark {
+
+    private static final Pattern BUTTON_PATTERN = Pattern.compile("X\\+(-?\\d+), Y\\+(-?\\d+)");
+
+    private static final Pattern PRIZE_PATTERN = Pattern.compile("X=([0-9]+), Y=([0-9]+)");
+
+    private BasePuzzle lists;
+
+    private PuzzleInput listsInput;
+
+    private List<String> listsLines;
+
+    private BasePuzzle machines;
+
+    private PuzzleInput machinesInput;
+
+    private List<String> machinesLines;
+
+    private BasePuzzle crates;
+
+    private PuzzleInput cratesInput;
+
+    private List<String> moves;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        lists = newPuzzle("year2024/day01/Part2");
+        listsInput = lists.loadFullInput();
+        listsLines = listsInput.toLines();
+
+        machines = newPuzzle("year2024/day13/Part1");
+        machinesInput = machines.loadFullInput();
+        machinesLines = machinesInput.toLines();
+
+        crates = newPuzzle("year2022/day05/Part1");
+        cratesInput = crates.loadFullInput();
+        List<String> lines = cratesInput.toLines();
+        moves = lines.subList(lines.indexOf("") + 1, lines.size());
+    }
+
+    private static BasePuzzle newPuzzle(String name) {
+        PuzzleDescriptor descriptor = new PuzzleRegistry().getPuzzles().stream()
+                .filter(candidate -> candidate.getName().equals(name))
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException("Unknown puzzle " + name));
+        return descriptor.newInstance();
+    }
+
+    @Benchmark
+    public long listsSplit() {
+        long sum = 0;
+        for (String line : listsLines) {
+            sum += Integer.parseInt(line.split("\\s+")[0]);
+            sum += Integer.parseInt(line.split("\\s+")[1]);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long listsScanner() {
+        long sum = 0;
+        Scanner scanner = new Scanner();
+        for (String line : listsLines) {
+            scanner.reset(line);
+            sum += scanner.nextInt();
+            sum += scanner.nextInt();
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public String listsSolve() {
+        return lists.solvePuzzle(listsInput);
+    }
+
+    @Benchmark
+    public long machinesRegex() {
+        long sum = 0;
+        for (int i = 0; i < machinesLines.size(); i += 4) {
+            for (int j = 0; j < 3; j++) {
+                Matcher matcher = (j < 2 ? BUTTON_PATTERN : PRIZE_PATTERN).matcher(machinesLines.get(i + j));
+                matcher.find();
+                sum += Integer.parseInt(matcher.group(1));
+                sum += Integer.parseInt(matcher.group(2));
+            }
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long machinesScanner() {
+        long sum = 0;
+        Scanner scanner = new Scanner();
+        for (int i = 0; i < machinesLines.size(); i += 4) {
+            for (int j = 0; j < 3; j++) {
+                scanner.reset(machinesLines.get(i + j));
+                sum += scanner.nextInt();
+                sum += scanner.nextInt();
+            }
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public String machinesSolve() {
+        return machines.solvePuzzle(machinesInput);
+    }
+
+    @Benchmark
+    public long movesSubstring() {
+        long sum = 0;
+        for (String order : moves) {
+            sum += Integer.valueOf(order.substring(5, order.indexOf("from") - 1));
+            sum += Integer.valueOf(order.substring(order.indexOf("from") + 5, order.indexOf("to") - 1));
+            sum += Integer.valueOf(order.substring(order.indexOf("to") + 3));
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long movesScanner() {
+        long sum = 0;
+        Scanner scanner = new Scanner();
+        for (String order : moves) {
+            scanner.reset(order);
+            sum += scanner.expect("move ").nextInt();
+            sum += scanner.expect(" from ").nextInt();
+            sum += scanner.expect(" to ").nextInt();
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public String movesSolve() {
+        return crates.solvePuzzle(cratesInput);
+    }
+
+}
@@ -0,0 +1,59 @@
+package ch.nostromo.adventofcode.benchmark;
+
+import ch.nostromo.adventofcode.BasePuzzle;
+import ch.nostromo.adventofcode.PuzzleInput;
+import ch.nostromo.adventofcode.runner.PuzzleDescriptor;
+import ch.nostromo.adventofcode.runner.PuzzleRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks {@link BasePuzzle#solvePuzzle(PuzzleInput)} of a single puzzle against its full input.
+ * <p>
+ * The puzzle is selected by name (e.g. {@code year2024/day06/Part2}); {@link PuzzleBenchmarkRunner} fills the
+ * parameter with every puzzle of the {@link PuzzleRegistry}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.AverageTime, Mode.SingleShotTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PuzzleBenchmark {
+
+    @Param("year2022/day01/Part1")
+    public String puzzle;
+
+    private BasePuzzle instance;
+
+    private PuzzleInput input;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        PuzzleDescriptor descriptor = new PuzzleRegistry().getPuzzles().stream()
+                .filter(candidate -> candidate.getName().equals(puzzle))
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException("Unknown puzzle " + puzzle));
+
+        instance = descriptor.newInstance();
+        input = instance.loadFullInput();
+    }
+
+    @Benchmark
+    public String solvePuzzle() {
+        return instance.solvePuzzle(input);
+    }
+
+}
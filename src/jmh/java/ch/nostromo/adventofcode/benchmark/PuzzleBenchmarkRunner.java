@@ -0,0 +1,45 @@
+package ch.nostromo.adventofcode.benchmark;
+
+import ch.nostromo.adventofcode.runner.PuzzleDescriptor;
+import ch.nostromo.adventofcode.runner.PuzzleRegistry;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.Arrays;
+
+/**
+ * Runs {@link PuzzleBenchmark} for every puzzle of the registry.
+ * <p>
+ * The first argument is an optional regular expression restricting the puzzles (e.g. {@code year2024/day0[6-8].*}),
+ * all remaining arguments are passed to JMH as usual.
+ */
+public class PuzzleBenchmarkRunner {
+
+    public static void main(String... args) throws RunnerException, CommandLineOptionException {
+        String filter = ".*";
+        String[] jmhArgs = args;
+        if (args.length > 0 && !args[0].startsWith("-")) {
+            filter = args[0];
+            jmhArgs = Arrays.copyOfRange(args, 1, args.length);
+        }
+
+        String regex = filter;
+        String[] puzzles = new PuzzleRegistry().getPuzzles().stream()
+                .map(PuzzleDescriptor::getName)
+                .filter(name -> name.matches(regex))
+                .toArray(String[]::new);
+
+        Options options = new OptionsBuilder()
+                .parent(new CommandLineOptions(jmhArgs))
+                .include(PuzzleBenchmark.class.getSimpleName())
+                .param("puzzle", puzzles)
+                .build();
+
+        new Runner(options).run();
+    }
+
+}
@@ -0,0 +1,68 @@
+package ch.nostromo.adventofcode.benchmark;
+
+import ch.nostromo.adventofcode.BaseInputGenerator;
+import ch.nostromo.adventofcode.BasePuzzle;
+import ch.nostromo.adventofcode.PuzzleInput;
+import ch.nostromo.adventofcode.runner.PuzzleDescriptor;
+import ch.nostromo.adventofcode.runner.PuzzleRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks {@link BasePuzzle#solvePuzzle(PuzzleInput)} against synthetic inputs of the day's
+ * {@link BaseInputGenerator} at growing scales. {@link ScalingBenchmarkRunner} turns the results into a
+ * throughput-versus-size curve.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 1)
+@Measurement(iterations = 3, time = 1)
+@Fork(1)
+public class ScalingBenchmark {
+
+    static final long SEED = 1;
+
+    @Param("year2022/day01/Part1")
+    public String puzzle;
+
+    @Param({"1", "4", "16"})
+    public double scale;
+
+    private BasePuzzle instance;
+
+    private PuzzleInput input;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        PuzzleDescriptor descriptor = findPuzzle(puzzle);
+
+        instance = descriptor.newInstance();
+        input = descriptor.newGenerator().generate(scale, SEED);
+    }
+
+    @Benchmark
+    public String solvePuzzle() {
+        return instance.solvePuzzle(input);
+    }
+
+    static PuzzleDescriptor findPuzzle(String name) {
+        return new PuzzleRegistry().getPuzzles().stream()
+                .filter(candidate -> candidate.getName().equals(name))
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException("Unknown puzzle " + name));
+    }
+
+}
@@ -0,0 +1,72 @@
+package ch.nostromo.adventofcode.benchmark;
+
+import ch.nostromo.adventofcode.runner.PuzzleDescriptor;
+import ch.nostromo.adventofcode.runner.PuzzleRegistry;
+import org.openjdk.jmh.results.RunResult;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.Arrays;
+import java.util.Collection;
+
+/**
+ * Runs {@link ScalingBenchmark} for every puzzle with an input generator and prints time and throughput per input size.
+ * <p>
+ * Arguments: an optional puzzle regular expression, an optional comma separated list of scales (e.g. {@code 1,4,16,64}),
+ * then the usual JMH arguments.
+ */
+public class ScalingBenchmarkRunner {
+
+    public static void main(String... args) throws RunnerException, CommandLineOptionException {
+        String filter = ".*";
+        String[] scales = {"1", "4", "16"};
+
+        int consumed = 0;
+        if (args.length > consumed && !args[consumed].startsWith("-")) {
+            filter = args[consumed++];
+        }
+        if (args.length > consumed && !args[consumed].startsWith("-")) {
+            scales = args[consumed++].split(",");
+        }
+        String[] jmhArgs = Arrays.copyOfRange(args, consumed, args.length);
+
+        String regex = filter;
+        String[] puzzles = new PuzzleRegistry().getPuzzles().stream()
+                .filter(puzzle -> puzzle.getName().matches(regex))
+                .filter(puzzle -> puzzle.newGenerator() != null)
+                .map(PuzzleDescriptor::getName)
+                .toArray(String[]::new);
+
+        Options options = new OptionsBuilder()
+                .parent(new CommandLineOptions(jmhArgs))
+                .include(ScalingBenchmark.class.getSimpleName())
+                .param("puzzle", puzzles)
+                .param("scale", scales)
+                .build();
+
+        printCurve(new Runner(options).run());
+    }
+
+    private static void printCurve(Collection<RunResult> results) {
+        StringBuilder sb = new StringBuilder();
+        sb.append(String.format("%n%-24s %8s %12s %12s %10s%n", "Puzzle", "Scale", "Bytes", "ms/op", "MB/s"));
+
+        for (RunResult result : results) {
+            String puzzle = result.getParams().getParam("puzzle");
+            double scale = Double.parseDouble(result.getParams().getParam("scale"));
+            double millis = result.getPrimaryResult().getScore();
+
+            int bytes = ScalingBenchmark.findPuzzle(puzzle).newGenerator().generate(scale, ScalingBenchmark.SEED).size();
+            double throughput = bytes / (1024.0 * 1024.0) / (millis / 1000.0);
+
+            sb.append(String.format("%-24s %8.1f %12d %12.3f %10.2f%n", puzzle, scale, bytes, millis, throughput));
+        }
+
+        System.out.println(sb);
+    }
+
+}
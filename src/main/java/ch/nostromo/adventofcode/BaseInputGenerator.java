@@ -0,0 +1,59 @@
+package ch.nostromo.adventofcode;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+
+/**
+ * Generates valid synthetic inputs for one day at a given scale, where a scale of 1 is roughly the size of a regular
+ * puzzle input. By convention the generator of a day is {@code yearYYYY.dayDD.InputGenerator}.
+ */
+public abstract class BaseInputGenerator {
+
+    public abstract void generate(double scale, Random random, PrintWriter out);
+
+    public PuzzleInput generate(double scale, long seed) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (PrintWriter out = new PrintWriter(new OutputStreamWriter(bytes, StandardCharsets.ISO_8859_1))) {
+            generate(scale, new Random(seed), out);
+        }
+        return PuzzleInput.of(bytes.toByteArray());
+    }
+
+    public void generate(double scale, long seed, Path file) {
+        try (Writer writer = Files.newBufferedWriter(file, StandardCharsets.ISO_8859_1); PrintWriter out = new PrintWriter(writer)) {
+            generate(scale, new Random(seed), out);
+        } catch (IOException e) {
+            throw new RuntimeException("Unable to write input file " + file, e);
+        }
+    }
+
+    /**
+     * Scales a count (e.g. lines) linearly.
+     */
+    protected static int scaled(int base, double scale) {
+        return (int) Math.max(1, Math.round(base * scale));
+    }
+
+    /**
+     * Scales the side of a square grid, so the number of cells grows linearly with the scale.
+     */
+    protected static int scaledSide(int base, double scale) {
+        return (int) Math.max(1, Math.round(base * Math.sqrt(scale)));
+    }
+
+    protected static int between(Random random, int from, int to) {
+        return from + random.nextInt(to - from + 1);
+    }
+
+    protected static long between(Random random, long from, long to) {
+        return from + (long) (random.nextDouble() * (to - from + 1));
+    }
+
+}
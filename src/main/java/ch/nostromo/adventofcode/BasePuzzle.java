@@ -1,21 +1,42 @@
 package ch.nostromo.adventofcode;
 
+import ch.nostromo.adventofcode.jfr.InputLoadEvent;
+import ch.nostromo.adventofcode.jfr.ParseEvent;
+import ch.nostromo.adventofcode.jfr.Phase;
+import ch.nostromo.adventofcode.jfr.PhaseEvent;
+import ch.nostromo.adventofcode.jfr.PuzzleEvent;
+import ch.nostromo.adventofcode.jfr.SolveEvent;
+import ch.nostromo.adventofcode.jfr.VerifyEvent;
+import ch.nostromo.adventofcode.utils.AllocationStats;
 import ch.nostromo.adventofcode.utils.AnsiColor;
+import ch.nostromo.adventofcode.utils.AsyncConsoleHandler;
+import ch.nostromo.adventofcode.utils.LatencyStats;
+import ch.nostromo.adventofcode.utils.LineIterator;
 import ch.nostromo.adventofcode.utils.LogFormatter;
 
-import java.nio.charset.Charset;
+import java.io.IOException;
+import java.net.URL;
+import java.nio.channels.FileChannel;
 import java.nio.file.Files;
-import java.nio.file.Paths;
-import java.time.Duration;
-import java.time.Instant;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
 import java.util.Arrays;
 import java.util.List;
-import java.util.logging.ConsoleHandler;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Supplier;
 import java.util.logging.Level;
 import java.util.logging.LogManager;
 import java.util.logging.Logger;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 
 public abstract class BasePuzzle {
+
+    private static final Pattern PUZZLE_CLASS = Pattern.compile("year(\\d+)\\.day(\\d+)\\.Part(\\d+)$");
+
     public Logger LOG = Logger.getLogger(BasePuzzle.class.getName());
 
 
@@ -25,7 +46,16 @@ public abstract class BasePuzzle {
 
     private String fullInput;
 
-    private boolean isTestRun;
+    private Path fullInputFile;
+
+    // Scoped per solve, so test and full input can be solved concurrently on the same instance
+    private final ThreadLocal<Boolean> isTestRun = ThreadLocal.withInitial(() -> Boolean.FALSE);
+
+    private static final ExecutorService CONCURRENT_EXECUTOR = Executors.newCachedThreadPool(runnable -> {
+        Thread thread = new Thread(runnable, "puzzle-solver");
+        thread.setDaemon(true);
+        return thread;
+    });
 
     public BasePuzzle(String expectedTestResult) {
         this.expectedTestResult = expectedTestResult;
@@ -39,41 +69,314 @@ public abstract class BasePuzzle {
 
     public abstract String solvePuzzle(List<String> input);
 
-    protected void run() {
-        initializeLogging();
+    /**
+     * Solvers working on the raw input override this; by default the input is streamed to a {@link StreamingPuzzle}
+     * or handed over as a list of lines.
+     */
+    public String solvePuzzle(PuzzleInput input) {
+        if (this instanceof StreamingPuzzle) {
+            return ((StreamingPuzzle) this).solvePuzzle(input.lines().iterator());
+        }
+
+        ParseEvent event = new ParseEvent();
+        event.begin();
+        List<String> lines = input.toLines();
+        event.end();
+        if (event.shouldCommit()) {
+            describe(event);
+            event.inputSize = input.size();
+            event.lines = lines.size();
+            event.commit();
+        }
+
+        return solvePuzzle(lines);
+    }
+
+    /**
+     * Solves an input file of arbitrary size: a {@link StreamingPuzzle} pulls it line by line from the channel, all
+     * other puzzles get it memory-mapped.
+     */
+    public String solveFile(Path file) {
+        if (this instanceof StreamingPuzzle) {
+            try (LineIterator lines = new LineIterator(FileChannel.open(file, StandardOpenOption.READ))) {
+                return ((StreamingPuzzle) this).solvePuzzle(lines);
+            } catch (IOException e) {
+                throw new RuntimeException("Unable to read input file " + file, e);
+            }
+        }
+        return solvePuzzle(PuzzleInput.of(file));
+    }
+
+    /**
+     * Solves test and full input once, or - if the system property {@code aoc.measure} is set - runs
+     * {@code aoc.warmup} warm-up iterations (default 5) followed by {@code aoc.iterations} measured ones (default 20).
+     * <p>
+     * Single runs answer from the {@link ResultCache} unless the system property {@code nocache} is set.
+     */
+    public PuzzleResult execute() {
+        return execute(System.getProperty("nocache") == null);
+    }
+
+    /**
+     * Like {@link #execute()}, but {@code cached = false} always solves, e.g. to take timings.
+     */
+    public PuzzleResult execute(boolean cached) {
+        if (isMeasureMode()) {
+            return execute(Integer.getInteger("aoc.warmup", 5), Integer.getInteger("aoc.iterations", 20), null);
+        } else {
+            return execute(0, 1, cached ? new ResultCache() : null);
+        }
+    }
+
+    public PuzzleResult execute(int warmupIterations, int measuredIterations) {
+        return execute(warmupIterations, measuredIterations, null);
+    }
 
-        Instant startTest = Instant.now();
+    /**
+     * Test and full input are solved one after the other, or at the same time if the system property
+     * {@code aoc.concurrent} is set.
+     */
+    public PuzzleResult execute(int warmupIterations, int measuredIterations, ResultCache cache) {
+        LatencyStats testLatency = new LatencyStats(measuredIterations);
+        AllocationStats testAllocation = new AllocationStats();
+        Supplier<String> testSolve = () -> measure(true, loadInput(true), warmupIterations, measuredIterations, testLatency, testAllocation, cache);
+
+        LatencyStats fullLatency = new LatencyStats(measuredIterations);
+        AllocationStats fullAllocation = new AllocationStats();
+        Supplier<String> fullSolve = fullInputFile != null && this instanceof StreamingPuzzle
+                ? () -> measureFile(fullInputFile, warmupIterations, measuredIterations, fullLatency, fullAllocation)
+                : () -> measure(false, loadInput(false), warmupIterations, measuredIterations, fullLatency, fullAllocation, cache);
 
-        isTestRun = true;
         String testResult;
-        if (testInput == null) {
-            testResult = solvePuzzle(readInput("test.txt"));
+        String fullResult;
+        if (isConcurrentMode()) {
+            CompletableFuture<String> testFuture = CompletableFuture.supplyAsync(testSolve, CONCURRENT_EXECUTOR);
+            CompletableFuture<String> fullFuture = CompletableFuture.supplyAsync(fullSolve, CONCURRENT_EXECUTOR);
+            testResult = join(testFuture);
+            fullResult = join(fullFuture);
         } else {
-            testResult = solvePuzzle(Arrays.asList(this.testInput.split("\n")));
+            testResult = testSolve.get();
+            fullResult = fullSolve.get();
         }
 
-        Duration durationTest = Duration.between(startTest, Instant.now());
+        VerifyEvent verify = new VerifyEvent();
+        if (verify.shouldCommit()) {
+            describe(verify);
+            verify.testRun = true;
+            verify.expected = expectedTestResult;
+            verify.result = testResult;
+            verify.passed = expectedTestResult != null && expectedTestResult.equalsIgnoreCase(testResult);
+            verify.commit();
+        }
 
+        return new PuzzleResult(getPuzzleName(), expectedTestResult, testResult, fullResult,
+                testLatency.getMedianDuration(), fullLatency.getMedianDuration(), testLatency, fullLatency, testAllocation, fullAllocation,
+                cache == null ? 0 : cache.getHits(), cache == null ? 0 : cache.getMisses());
+    }
 
-        Instant startFull = Instant.now();
+    private String measure(boolean testRun, PuzzleInput input, int warmupIterations, int measuredIterations, LatencyStats latency, AllocationStats allocation, ResultCache cache) {
+        isTestRun.set(testRun);
+        try {
+            if (cache != null) {
+                long start = System.nanoTime();
+                String cached = cache.get(this, testRun, input);
+                if (cached != null) {
+                    latency.add(System.nanoTime() - start);
+                    return cached;
+                }
+            }
+
+            String result = solveRepeatedly(input.size(), () -> solvePuzzle(input), warmupIterations, measuredIterations, latency, allocation);
+
+            if (cache != null) {
+                cache.put(this, testRun, input, result);
+            }
+
+            return result;
+        } finally {
+            isTestRun.remove();
+        }
+    }
 
-        isTestRun = false;
-        String fullResult;
-        if (fullInput == null) {
-            fullResult = solvePuzzle(readInput("input.txt"));
+    /**
+     * Like {@link #measure}, for a full input file streamed to a {@link StreamingPuzzle}. Every iteration reads the file
+     * again; the cache is bypassed, hashing the file would read it once more.
+     */
+    private String measureFile(Path file, int warmupIterations, int measuredIterations, LatencyStats latency, AllocationStats allocation) {
+        long size;
+        try {
+            size = Files.size(file);
+        } catch (IOException e) {
+            throw new RuntimeException("Unable to read input file " + file, e);
+        }
+
+        isTestRun.set(false);
+        try {
+            return solveRepeatedly(size, () -> solveFile(file), warmupIterations, measuredIterations, latency, allocation);
+        } finally {
+            isTestRun.remove();
+        }
+    }
+
+    private String solveRepeatedly(long inputSize, Supplier<String> solver, int warmupIterations, int measuredIterations, LatencyStats latency, AllocationStats allocation) {
+        for (int i = 0; i < warmupIterations; i++) {
+            solve(inputSize, solver, true);
+        }
+
+        String result = null;
+        for (int i = 0; i < Math.max(1, measuredIterations); i++) {
+            allocation.begin();
+            long start = System.nanoTime();
+            result = solve(inputSize, solver, false);
+            latency.add(System.nanoTime() - start);
+            allocation.end();
+        }
+        return result;
+    }
+
+    /**
+     * Solves the test input {@code iterations} times so the solver gets JIT-compiled, e.g. in a long-running process.
+     */
+    public void warmUp(int iterations) {
+        PuzzleInput input = loadTestInput();
+        isTestRun.set(true);
+        try {
+            for (int i = 0; i < iterations; i++) {
+                solvePuzzle(input);
+            }
+        } finally {
+            isTestRun.remove();
+        }
+    }
+
+    private String solve(long inputSize, Supplier<String> solver, boolean warmup) {
+        SolveEvent event = new SolveEvent();
+        event.begin();
+        String result = solver.get();
+        event.end();
+        if (event.shouldCommit()) {
+            describe(event);
+            event.inputSize = inputSize;
+            event.warmup = warmup;
+            event.result = result;
+            event.commit();
+        }
+        return result;
+    }
+
+    private PuzzleInput loadInput(boolean testRun) {
+        InputLoadEvent event = new InputLoadEvent();
+        event.begin();
+        PuzzleInput input = testRun ? loadTestInput() : loadFullInput();
+        event.end();
+        if (event.shouldCommit()) {
+            describe(event);
+            event.testRun = testRun;
+            event.inputSize = input.size();
+            event.commit();
+        }
+        return input;
+    }
+
+    /**
+     * Runs a sub-phase of the solver, marked in a flight recording: {@code phase("fill", () -> fill(map))}. Costs next
+     * to nothing if no recording is running.
+     */
+    protected void phase(String name, Runnable work) {
+        Phase phase = phase(name);
+        try {
+            work.run();
+        } finally {
+            phase.close();
+        }
+    }
+
+    /**
+     * Computes the result of a sub-phase of the solver, marked in a flight recording:
+     * {@code Grid bloated = phase("bloat", () -> bloat(map))}.
+     */
+    protected <T> T phase(String name, Supplier<T> work) {
+        Phase phase = phase(name);
+        try {
+            return work.get();
+        } finally {
+            phase.close();
+        }
+    }
+
+    /**
+     * Marks a sub-phase of the solver in a flight recording until the phase is closed. A try-with-resources block
+     * never referencing the phase trips {@code -Xlint:try}; the {@link Runnable} and {@link Supplier} variants avoid
+     * that.
+     */
+    protected Phase phase(String name) {
+        PhaseEvent event = new PhaseEvent();
+        if (event.isEnabled()) {
+            describe(event);
+            event.phase = name;
+        }
+        return new Phase(event);
+    }
+
+    private void describe(PuzzleEvent event) {
+        event.puzzle = getPuzzleName();
+        event.testRun = isTestRun();
+
+        Matcher matcher = PUZZLE_CLASS.matcher(getClass().getName());
+        if (matcher.find()) {
+            event.year = Integer.parseInt(matcher.group(1));
+            event.day = Integer.parseInt(matcher.group(2));
+            event.part = Integer.parseInt(matcher.group(3));
+        }
+    }
+
+    private String join(CompletableFuture<String> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            } else if (e.getCause() instanceof Error) {
+                throw (Error) e.getCause();
+            }
+            throw e;
+        }
+    }
+
+    protected void run() {
+        initializeLogging();
+
+        PuzzleResult result = execute();
+
+        String time;
+        if (isMeasureMode()) {
+            time = String.format("%.3f / %.3f (median)", LatencyStats.toMillis(result.getTestLatency().getMedian()), LatencyStats.toMillis(result.getFullLatency().getMedian()));
         } else {
-            fullResult = solvePuzzle(Arrays.asList(fullInput));
+            time = result.getTestDuration().toMillis() + " / " + result.getFullDuration().toMillis();
         }
 
-        Duration durationFull = Duration.between(startFull, Instant.now());
+        String memory = result.getTestAllocation() + " / " + result.getFullAllocation();
+        if (result.getCacheHits() + result.getCacheMisses() > 0) {
+            memory += " - Cache: " + result.getCacheHits() + " hits / " + result.getCacheMisses() + " misses";
+        }
+
+        printResult(result.getTestResult(), result.getFullResult(), time, memory);
 
-        String time = durationTest.toMillis() + " / " + durationFull.toMillis();
+        if (isMeasureMode()) {
+            System.out.println(AnsiColor.WHITE + "Test: " + result.getTestLatency() + AnsiColor.RESET);
+            System.out.println(AnsiColor.WHITE + "Full: " + result.getFullLatency() + AnsiColor.RESET);
+        }
+    }
 
-        printResult(testResult, fullResult, time);
+    private boolean isMeasureMode() {
+        return System.getProperty("aoc.measure") != null;
+    }
 
+    private boolean isConcurrentMode() {
+        return System.getProperty("aoc.concurrent") != null;
     }
 
-    private void printResult(String testResult, String solution, String time) {
+    private void printResult(String testResult, String solution, String time, String memory) {
         String result = "\n            $\n" +
                 "           ***               [1]\n" +
                 "          **I**\n" +
@@ -85,7 +388,7 @@ public abstract class BasePuzzle {
                 "    ****I***%****o***        [4]\n" +
                 "   ****o******I***%***\n" +
                 "           ###               [5]\n" +
-                "           ###\n";
+                "           ###               [6]\n";
 
         result = colorizeString(result, "*", AnsiColor.GREEN);
         result = colorizeString(result, "#", AnsiColor.YELLOW);
@@ -96,7 +399,7 @@ public abstract class BasePuzzle {
 
 
         result = result.replace("[1]", AnsiColor.YELLOW_BRIGHT + "~ " + AnsiColor.RED + "Advent of Code" + AnsiColor.YELLOW_BRIGHT + " ~" + AnsiColor.RESET);
-        result = result.replace("[2]", AnsiColor.WHITE + "Puzzle: " + getPuzzleResource() + "/" + getClass().getSimpleName() + AnsiColor.RESET);
+        result = result.replace("[2]", AnsiColor.WHITE + "Puzzle: " + getPuzzleName() + AnsiColor.RESET);
 
         if (expectedTestResult.equalsIgnoreCase(testResult)) {
             result = result.replace("[3]", AnsiColor.WHITE + "Test: " + AnsiColor.GREEN + "Passed" + AnsiColor.WHITE + " with expected solution of " + expectedTestResult + AnsiColor.RESET);
@@ -107,13 +410,14 @@ public abstract class BasePuzzle {
 
         result = result.replace("[4]", AnsiColor.WHITE + "Solution: " + solution);
         result = result.replace("[5]", AnsiColor.WHITE + "Time ms: " + time);
+        result = result.replace("[6]", AnsiColor.WHITE + "Memory: " + memory + AnsiColor.RESET);
 
         System.out.println(result);
 
     }
 
     public boolean isTestRun() {
-        return isTestRun;
+        return isTestRun.get();
     }
 
     private String colorizeString(String text, String token, AnsiColor color) {
@@ -121,17 +425,48 @@ public abstract class BasePuzzle {
     }
 
 
-    private List<String> readInput(String fileName) {
-        try {
-            String path = getPuzzleResource() + "/" + fileName;
-            return Files.readAllLines(Paths.get(getClass().getClassLoader().getResource(path).toURI()), Charset.defaultCharset());
-        } catch (Exception e) {
-            throw new RuntimeException("Unable to read input file", e);
+    public PuzzleInput loadTestInput() {
+        if (testInput == null) {
+            return readInput("test.txt");
+        } else {
+            return PuzzleInput.of(Arrays.asList(this.testInput.split("\n")));
         }
     }
 
+    /**
+     * Solves {@code file} instead of the bundled full input from now on, e.g. a file given on the command line. A
+     * {@link StreamingPuzzle} reads it line by line with {@link #solveFile(Path)}, so it may exceed the 2 GB limit of a
+     * memory mapping; all other puzzles get it mapped.
+     */
+    public void setFullInput(Path file) {
+        this.fullInputFile = file;
+    }
+
+    public PuzzleInput loadFullInput() {
+        if (fullInputFile != null) {
+            return PuzzleInput.of(fullInputFile);
+        } else if (fullInput == null) {
+            return readInput("input.txt");
+        } else {
+            return PuzzleInput.of(Arrays.asList(fullInput));
+        }
+    }
+
+    private PuzzleInput readInput(String fileName) {
+        String path = getPuzzleResource() + "/" + fileName;
+        URL resource = getClass().getClassLoader().getResource(path);
+        if (resource == null) {
+            throw new RuntimeException("Unable to read input file " + path);
+        }
+        return PuzzleInput.of(resource);
+    }
+
     // ***** HELPER ******
 
+    public String getPuzzleName() {
+        return getPuzzleResource() + "/" + getClass().getSimpleName();
+    }
+
     private String getPuzzleResource() {
         return getPuzzlePackage().replaceAll("\\.", "/");
     }
@@ -141,14 +476,19 @@ public abstract class BasePuzzle {
         return packageName.substring(nthLastIndexOf(2, ".", packageName) + 1);
     }
 
-    private void initializeLogging() {
+    /**
+     * Logs asynchronously to the console at the level given by the system property {@code aoc.logLevel} (default INFO).
+     */
+    public static void initializeLogging() {
+        Level level = Level.parse(System.getProperty("aoc.logLevel", "INFO"));
+
         LogManager.getLogManager().reset();
         Logger root = Logger.getLogger("ch.nostromo");
-        root.setLevel(Level.FINEST);
+        root.setLevel(level);
         LogManager.getLogManager().addLogger(root);
 
-        ConsoleHandler consoleHandler = new ConsoleHandler();
-        consoleHandler.setLevel(Level.FINEST);
+        AsyncConsoleHandler consoleHandler = new AsyncConsoleHandler();
+        consoleHandler.setLevel(level);
         consoleHandler.setFormatter(new LogFormatter());
         LogManager.getLogManager().getLogger("").addHandler(consoleHandler);
 
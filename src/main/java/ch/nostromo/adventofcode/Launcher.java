@@ -0,0 +1,261 @@
+package ch.nostromo.adventofcode;
+
+import ch.nostromo.adventofcode.runner.BatchRunner;
+import ch.nostromo.adventofcode.runner.PuzzleDescriptor;
+import ch.nostromo.adventofcode.runner.PuzzleRegistry;
+import ch.nostromo.adventofcode.utils.AllocationStats;
+import ch.nostromo.adventofcode.utils.LatencyStats;
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.io.PrintStream;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.PathMatcher;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Single command line entry point: selects puzzles by year, day, part or name glob, runs them and prints a table or a
+ * JSON report to stdout.
+ * <p>
+ * {@code java -cp target/classes:... ch.nostromo.adventofcode.Launcher --year 2024 --day 6 --part 2 --format json}
+ */
+public class Launcher {
+
+    private static final Gson GSON = new GsonBuilder().setPrettyPrinting().create();
+
+    public static final String USAGE = String.join("\n",
+            "Usage: Launcher [options] [glob...]",
+            "",
+            "  glob                  puzzle names like year2024/day0*/Part2 or 'year202{3,4}/*/*'",
+            "  --year <glob>         e.g. 2024 or 202*",
+            "  --day <glob>          e.g. 6, 06 or 1?",
+            "  --part <glob>         1 or 2",
+            "  --input <path>        solve this file instead of the bundled full input",
+            "  --iterations <n>      measured iterations, median reported (default: one cached run)",
+            "  --warmup <n>          warm-up iterations before measuring (default 5)",
+            "  --threads <n>         puzzles solved in parallel (default 1)",
+            "  --format json|table   output format (default table)");
+
+    private final List<String> globs = new ArrayList<>();
+
+    private String year = "*";
+
+    private String day = "*";
+
+    private String part = "*";
+
+    private Path input;
+
+    private int iterations;
+
+    private int warmup = Integer.getInteger("aoc.warmup", 5);
+
+    private int threads = 1;
+
+    private String format = "table";
+
+    /**
+     * Puzzles matching the name globs, or the year/day/part selection if no glob is given.
+     */
+    public List<PuzzleDescriptor> select(List<PuzzleDescriptor> puzzles) {
+        List<PathMatcher> matchers = new ArrayList<>();
+        if (globs.isEmpty()) {
+            matchers.add(toMatcher("year" + year + "/day" + (day.matches("\\d") ? "0" + day : day) + "/Part" + part));
+        } else {
+            for (String glob : globs) {
+                matchers.add(toMatcher(glob));
+            }
+        }
+
+        List<PuzzleDescriptor> result = new ArrayList<>();
+        for (PuzzleDescriptor puzzle : puzzles) {
+            Path name = Paths.get(puzzle.getName());
+            if (matchers.stream().anyMatch(matcher -> matcher.matches(name))) {
+                result.add(puzzle);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Parses command line arguments, throws an {@link IllegalArgumentException} with the reason if they are invalid.
+     */
+    public static Launcher of(String... args) {
+        Launcher launcher = new Launcher();
+        launcher.parse(args);
+        return launcher;
+    }
+
+    public boolean isJson() {
+        return format.equals("json");
+    }
+
+    /**
+     * Runs the selected puzzles and returns the report in the requested format.
+     */
+    public String run(List<PuzzleDescriptor> registry) {
+        List<PuzzleDescriptor> puzzles = select(registry);
+        if (puzzles.isEmpty()) {
+            throw new IllegalArgumentException("No puzzle matches the selection");
+        }
+
+        Function<BasePuzzle, PuzzleResult> execution = puzzle -> {
+            if (input != null) {
+                puzzle.setFullInput(input);
+            }
+            return iterations > 0 ? puzzle.execute(warmup, iterations) : puzzle.execute();
+        };
+
+        Instant started = Instant.now();
+        long start = System.nanoTime();
+        List<PuzzleResult> results = new BatchRunner(puzzles, threads, execution).runAll();
+        Duration wallClock = Duration.ofNanos(System.nanoTime() - start);
+
+        if (!isJson()) {
+            return BatchRunner.formatTable(results, wallClock, Map.of());
+        }
+
+        List<PuzzleReport> reports = new ArrayList<>();
+        for (PuzzleResult result : results) {
+            PuzzleDescriptor puzzle = puzzles.stream().filter(candidate -> candidate.getName().equals(result.getPuzzleName())).findFirst().orElseThrow();
+            reports.add(PuzzleReport.of(puzzle, result));
+        }
+        return GSON.toJson(new Report(started.toString(), wallClock.toNanos(), threads, iterations,
+                input == null ? null : input.toString(), Runtime.version().toString(), reports));
+    }
+
+    private static PathMatcher toMatcher(String glob) {
+        return FileSystems.getDefault().getPathMatcher("glob:" + glob);
+    }
+
+    private void parse(String... args) {
+        for (int i = 0; i < args.length; i++) {
+            String arg = args[i];
+            if (!arg.startsWith("--")) {
+                globs.add(arg);
+                continue;
+            }
+            if (i + 1 >= args.length) {
+                throw new IllegalArgumentException("Missing value for " + arg);
+            }
+
+            String value = args[++i];
+            switch (arg) {
+                case "--year" -> year = value;
+                case "--day" -> day = value;
+                case "--part" -> part = value;
+                case "--input" -> input = Paths.get(value);
+                case "--iterations" -> iterations = Integer.parseInt(value);
+                case "--warmup" -> warmup = Integer.parseInt(value);
+                case "--threads" -> threads = Integer.parseInt(value);
+                case "--format" -> format = value;
+                default -> throw new IllegalArgumentException("Unknown option " + arg);
+            }
+        }
+
+        if (!format.equals("json") && !format.equals("table")) {
+            throw new IllegalArgumentException("Unknown format " + format);
+        }
+        if (input != null && !Files.isRegularFile(input)) {
+            throw new IllegalArgumentException("Input file " + input + " not found");
+        }
+    }
+
+    public static void main(String... args) {
+        Launcher launcher;
+        try {
+            launcher = Launcher.of(args);
+        } catch (IllegalArgumentException e) {
+            System.err.println(e.getMessage());
+            System.err.println(USAGE);
+            System.exit(2);
+            return;
+        }
+
+        BasePuzzle.initializeLogging();
+
+        // Solvers may print; keep stdout clean for the report
+        PrintStream stdout = System.out;
+        if (launcher.isJson()) {
+            System.setOut(System.err);
+        }
+
+        String report;
+        try {
+            report = launcher.run(new PuzzleRegistry().getPuzzles());
+        } catch (IllegalArgumentException e) {
+            System.err.println(e.getMessage());
+            System.exit(2);
+            return;
+        } finally {
+            System.setOut(stdout);
+        }
+
+        stdout.println(report);
+    }
+
+    @Data
+    @AllArgsConstructor
+    static class Report {
+        private String started;
+        private long wallClockNanos;
+        private int threads;
+        private int iterations;
+        private String input;
+        private String javaVersion;
+        private List<PuzzleReport> puzzles;
+    }
+
+    @Data
+    @AllArgsConstructor
+    static class PuzzleReport {
+        private String name;
+        private int year;
+        private int day;
+        private int part;
+        private String expectedTestResult;
+        private String testResult;
+        private boolean testPassed;
+        private String result;
+        private Timing test;
+        private Timing full;
+        private int cacheHits;
+        private int cacheMisses;
+
+        static PuzzleReport of(PuzzleDescriptor puzzle, PuzzleResult result) {
+            return new PuzzleReport(puzzle.getName(), puzzle.getYear(), puzzle.getDay(), puzzle.getPart(),
+                    result.getExpectedTestResult(), result.getTestResult(), result.isTestPassed(), result.getFullResult(),
+                    Timing.of(result.getTestLatency(), result.getTestAllocation()), Timing.of(result.getFullLatency(), result.getFullAllocation()),
+                    result.getCacheHits(), result.getCacheMisses());
+        }
+    }
+
+    @Data
+    @AllArgsConstructor
+    static class Timing {
+        private int runs;
+        private long medianNanos;
+        private long minNanos;
+        private long p90Nanos;
+        private long maxNanos;
+        private long allocatedBytesPerRun;
+        private long gcCount;
+        private long gcTimeMillis;
+
+        static Timing of(LatencyStats latency, AllocationStats allocation) {
+            return new Timing(latency.getCount(), latency.getMedian(), latency.getMin(), latency.getPercentile(90), latency.getMax(),
+                    allocation.getAllocatedBytesPerRun(), allocation.getGcCount(), allocation.getGcTimeMillis());
+        }
+    }
+
+}
@@ -0,0 +1,250 @@
+package ch.nostromo.adventofcode;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URL;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Raw puzzle input backed by a (memory-mapped if possible) {@link ByteBuffer}.
+ * <p>
+ * Puzzle inputs are plain ASCII, so every byte is exposed as one char. Lines are only indexed on first access and
+ * handed out as {@link CharSequence} views on the buffer; a {@link String} is created only if a solver asks for one.
+ */
+public class PuzzleInput {
+
+    private final ByteBuffer buffer;
+
+    /**
+     * Built on first access. The holder has final fields only, so a thread seeing the reference sees the complete
+     * index; threads racing on the first access at worst build it more than once.
+     */
+    private LineIndex lineIndex;
+
+    private PuzzleInput(ByteBuffer buffer) {
+        this.buffer = buffer.asReadOnlyBuffer();
+    }
+
+    public static PuzzleInput of(Path path) {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            return new PuzzleInput(channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()));
+        } catch (IOException e) {
+            throw new RuntimeException("Unable to map input file " + path, e);
+        }
+    }
+
+    public static PuzzleInput of(URL resource) {
+        try {
+            if ("file".equals(resource.getProtocol())) {
+                return of(Paths.get(resource.toURI()));
+            }
+            try (InputStream in = resource.openStream()) {
+                return of(in.readAllBytes());
+            }
+        } catch (Exception e) {
+            throw new RuntimeException("Unable to read input " + resource, e);
+        }
+    }
+
+    public static PuzzleInput of(byte[] bytes) {
+        return new PuzzleInput(ByteBuffer.wrap(bytes));
+    }
+
+    public static PuzzleInput of(String text) {
+        return of(text.getBytes(StandardCharsets.ISO_8859_1));
+    }
+
+    public static PuzzleInput of(List<String> lines) {
+        StringBuilder sb = new StringBuilder();
+        for (String line : lines) {
+            sb.append(line).append('\n');
+        }
+        return of(sb.toString());
+    }
+
+    /**
+     * Size of the input in bytes.
+     */
+    public int size() {
+        return buffer.limit();
+    }
+
+    /**
+     * Hex encoded SHA-256 of the input bytes.
+     */
+    public String sha256() {
+        MessageDigest digest = ResultCache.newDigest();
+        digest.update(buffer.duplicate().clear());
+        return ResultCache.toHex(digest.digest());
+    }
+
+    public byte byteAt(int index) {
+        return buffer.get(index);
+    }
+
+    /**
+     * The whole input including line separators.
+     */
+    public CharSequence asCharSequence() {
+        return new View(0, size());
+    }
+
+    public int lineCount() {
+        return lineIndex().count;
+    }
+
+    public CharSequence line(int index) {
+        LineIndex lines = lineIndex();
+        return new View(lines.start(index), lines.end(index));
+    }
+
+    /**
+     * Copies the bytes of a line without separator into {@code target}.
+     */
+    public void copyLine(int index, byte[] target, int offset) {
+        LineIndex lines = lineIndex();
+        buffer.get(lines.start(index), target, offset, lines.end(index) - lines.start(index));
+    }
+
+    /**
+     * Lazy line views, comparable to the result of {@code Files.readAllLines}.
+     */
+    public List<CharSequence> lines() {
+        int count = lineIndex().count;
+        return new AbstractList<>() {
+            @Override
+            public CharSequence get(int index) {
+                return line(index);
+            }
+
+            @Override
+            public int size() {
+                return count;
+            }
+        };
+    }
+
+    /**
+     * Materializes all lines as strings, for solvers still working on {@code List<String>}.
+     */
+    public List<String> toLines() {
+        List<String> result = new ArrayList<>(lineCount());
+        for (int i = 0; i < lineCount(); i++) {
+            result.add(line(i).toString());
+        }
+        return result;
+    }
+
+    private LineIndex lineIndex() {
+        LineIndex index = lineIndex;
+        if (index == null) {
+            index = indexLines();
+            lineIndex = index;
+        }
+        return index;
+    }
+
+    private LineIndex indexLines() {
+        int limit = size();
+        // Start and end of every line, one after the other
+        int[] bounds = new int[64];
+        int count = 0;
+        int start = 0;
+        for (int i = 0; i < limit; i++) {
+            byte b = buffer.get(i);
+            if (b == '\n' || b == '\r') {
+                bounds = add(bounds, count++, start, i);
+                if (b == '\r' && i + 1 < limit && buffer.get(i + 1) == '\n') {
+                    i++;
+                }
+                start = i + 1;
+            }
+        }
+        if (start < limit) {
+            bounds = add(bounds, count++, start, limit);
+        }
+
+        return new LineIndex(Arrays.copyOf(bounds, count * 2), count);
+    }
+
+    private static int[] add(int[] bounds, int line, int start, int end) {
+        if (line * 2 + 1 >= bounds.length) {
+            bounds = Arrays.copyOf(bounds, bounds.length * 2);
+        }
+        bounds[line * 2] = start;
+        bounds[line * 2 + 1] = end;
+        return bounds;
+    }
+
+    private static final class LineIndex {
+
+        private final int[] bounds;
+
+        private final int count;
+
+        LineIndex(int[] bounds, int count) {
+            this.bounds = bounds;
+            this.count = count;
+        }
+
+        int start(int line) {
+            return bounds[line * 2];
+        }
+
+        int end(int line) {
+            return bounds[line * 2 + 1];
+        }
+
+    }
+
+    private class View implements CharSequence {
+
+        private final int start;
+
+        private final int end;
+
+        View(int start, int end) {
+            this.start = start;
+            this.end = end;
+        }
+
+        @Override
+        public int length() {
+            return end - start;
+        }
+
+        @Override
+        public char charAt(int index) {
+            if (index < 0 || index >= length()) {
+                throw new IndexOutOfBoundsException(index);
+            }
+            return (char) (buffer.get(start + index) & 0xff);
+        }
+
+        @Override
+        public CharSequence subSequence(int from, int to) {
+            if (from < 0 || to > length() || from > to) {
+                throw new IndexOutOfBoundsException();
+            }
+            return new View(start + from, start + to);
+        }
+
+        @Override
+        public String toString() {
+            byte[] bytes = new byte[length()];
+            buffer.get(start, bytes);
+            return new String(bytes, StandardCharsets.ISO_8859_1);
+        }
+    }
+
+}
@@ -0,0 +1,49 @@
+package ch.nostromo.adventofcode;
+
+import ch.nostromo.adventofcode.utils.AllocationStats;
+import ch.nostromo.adventofcode.utils.LatencyStats;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.time.Duration;
+
+/**
+ * Outcome of a single puzzle execution: the test and full solutions together with their run times.
+ */
+@Data
+@AllArgsConstructor
+public class PuzzleResult {
+
+    private String puzzleName;
+
+    private String expectedTestResult;
+
+    private String testResult;
+
+    private String fullResult;
+
+    private Duration testDuration;
+
+    private Duration fullDuration;
+
+    private LatencyStats testLatency;
+
+    private LatencyStats fullLatency;
+
+    private AllocationStats testAllocation;
+
+    private AllocationStats fullAllocation;
+
+    private int cacheHits;
+
+    private int cacheMisses;
+
+    public boolean isTestPassed() {
+        return expectedTestResult != null && expectedTestResult.equalsIgnoreCase(testResult);
+    }
+
+    public Duration getTotalDuration() {
+        return testDuration.plus(fullDuration);
+    }
+
+}
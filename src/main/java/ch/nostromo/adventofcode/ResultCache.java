@@ -0,0 +1,219 @@
+package ch.nostromo.adventofcode;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.net.URISyntaxException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.jar.JarEntry;
+import java.util.jar.JarFile;
+import java.util.stream.Stream;
+
+/**
+ * Persistent cache of puzzle answers in the user cache dir, one JSON file per entry.
+ * <p>
+ * An entry is keyed by the solver class, a hash of the bytecode it may depend on, the SHA-256 of the input bytes and
+ * the test run flag, so any change to the solver or the input is a miss. The bytecode hash covers every class in the
+ * packages of the solver and its superclasses, which holds the helpers of a day, and all of
+ * {@code ch.nostromo.adventofcode.utils}. Solvers using code elsewhere need the cache cleared by hand after changing it.
+ */
+public class ResultCache {
+
+    private static final Gson GSON = new GsonBuilder().setPrettyPrinting().create();
+
+    private static final String UTILS_PACKAGE = "ch/nostromo/adventofcode/utils/";
+
+    private static final Map<Class<?>, String> BYTECODE_HASHES = new ConcurrentHashMap<>();
+
+    private static final Map<Path, List<String>> CLASS_RESOURCES = new ConcurrentHashMap<>();
+
+    private final Path directory;
+
+    private final AtomicInteger hits = new AtomicInteger();
+
+    private final AtomicInteger misses = new AtomicInteger();
+
+    public ResultCache() {
+        this(getCacheDirectory().resolve("results"));
+    }
+
+    public ResultCache(Path directory) {
+        this.directory = directory;
+    }
+
+    public String get(BasePuzzle puzzle, boolean testRun, PuzzleInput input) {
+        Path file = getEntryFile(puzzle, testRun, input);
+        if (Files.exists(file)) {
+            try (Reader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+                Entry entry = GSON.fromJson(reader, Entry.class);
+                if (entry != null && entry.getResult() != null) {
+                    hits.incrementAndGet();
+                    return entry.getResult();
+                }
+            } catch (Exception e) {
+                // Unreadable entries are recomputed and overwritten
+            }
+        }
+
+        misses.incrementAndGet();
+        return null;
+    }
+
+    public void put(BasePuzzle puzzle, boolean testRun, PuzzleInput input, String result) {
+        if (result == null) {
+            return;
+        }
+
+        Entry entry = new Entry(puzzle.getClass().getName(), getBytecodeHash(puzzle.getClass()), input.sha256(), testRun, result, Instant.now().toString());
+        Path file = getEntryFile(puzzle, testRun, input);
+
+        try {
+            Files.createDirectories(directory);
+            Path temp = Files.createTempFile(directory, "entry", ".tmp");
+            try (Writer writer = Files.newBufferedWriter(temp, StandardCharsets.UTF_8)) {
+                GSON.toJson(entry, writer);
+            }
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            // The cache is optional
+        }
+    }
+
+    public int getHits() {
+        return hits.get();
+    }
+
+    public int getMisses() {
+        return misses.get();
+    }
+
+    public static Path getCacheDirectory() {
+        String xdgCache = System.getenv("XDG_CACHE_HOME");
+        Path base = xdgCache != null && !xdgCache.isEmpty() ? Paths.get(xdgCache) : Paths.get(System.getProperty("user.home"), ".cache");
+        return base.resolve("adventofcode");
+    }
+
+    private Path getEntryFile(BasePuzzle puzzle, boolean testRun, PuzzleInput input) {
+        String key = puzzle.getClass().getName() + ":" + getBytecodeHash(puzzle.getClass()) + ":" + input.sha256() + ":" + testRun;
+        return directory.resolve(toHex(sha256(key.getBytes(StandardCharsets.UTF_8))) + ".json");
+    }
+
+    static String getBytecodeHash(Class<?> puzzleClass) {
+        return BYTECODE_HASHES.computeIfAbsent(puzzleClass, clazz -> {
+            Set<String> packages = new TreeSet<>();
+            for (Class<?> current = clazz; current != null && current != Object.class; current = current.getSuperclass()) {
+                packages.add(current.getPackageName().replace('.', '/') + "/");
+            }
+
+            MessageDigest digest = newDigest();
+            List<String> resources = listClassResources(clazz);
+            for (String resource : resources) {
+                int slash = resource.lastIndexOf('/');
+                if (packages.contains(resource.substring(0, slash + 1)) || resource.startsWith(UTILS_PACKAGE)) {
+                    addBytecode(digest, clazz, resource);
+                }
+            }
+            return toHex(digest.digest());
+        });
+    }
+
+    /**
+     * All class files of the classpath entry the class was loaded from (a directory or a jar), sorted.
+     */
+    private static List<String> listClassResources(Class<?> clazz) {
+        Path location;
+        try {
+            location = Paths.get(clazz.getProtectionDomain().getCodeSource().getLocation().toURI());
+        } catch (URISyntaxException | RuntimeException e) {
+            throw new IllegalStateException("Unable to locate the classes of " + clazz.getName(), e);
+        }
+
+        return CLASS_RESOURCES.computeIfAbsent(location, root -> {
+            List<String> resources = new ArrayList<>();
+            try {
+                if (Files.isDirectory(root)) {
+                    try (Stream<Path> files = Files.walk(root)) {
+                        files.filter(file -> file.toString().endsWith(".class"))
+                                .forEach(file -> resources.add(root.relativize(file).toString().replace('\\', '/')));
+                    }
+                } else {
+                    try (JarFile jar = new JarFile(root.toFile())) {
+                        jar.stream().map(JarEntry::getName).filter(name -> name.endsWith(".class")).forEach(resources::add);
+                    }
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException("Unable to list the classes in " + root, e);
+            }
+            Collections.sort(resources);
+            return resources;
+        });
+    }
+
+    private static void addBytecode(MessageDigest digest, Class<?> clazz, String resource) {
+        ClassLoader classLoader = clazz.getClassLoader() != null ? clazz.getClassLoader() : ClassLoader.getSystemClassLoader();
+        try (InputStream in = classLoader.getResourceAsStream(resource)) {
+            if (in != null) {
+                digest.update(resource.getBytes(StandardCharsets.UTF_8));
+                digest.update(in.readAllBytes());
+            }
+        } catch (IOException e) {
+            throw new RuntimeException("Unable to read bytecode " + resource, e);
+        }
+    }
+
+    static MessageDigest newDigest() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    private static byte[] sha256(byte[] bytes) {
+        return newDigest().digest(bytes);
+    }
+
+    static String toHex(byte[] bytes) {
+        StringBuilder sb = new StringBuilder(bytes.length * 2);
+        for (byte b : bytes) {
+            sb.append(Character.forDigit((b >> 4) & 0xf, 16)).append(Character.forDigit(b & 0xf, 16));
+        }
+        return sb.toString();
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    static class Entry {
+        private String puzzle;
+        private String bytecodeHash;
+        private String inputHash;
+        private boolean testRun;
+        private String result;
+        private String created;
+    }
+
+}
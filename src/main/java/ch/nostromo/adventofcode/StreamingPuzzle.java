@@ -0,0 +1,15 @@
+package ch.nostromo.adventofcode;
+
+import java.util.Iterator;
+
+/**
+ * Puzzles that can be solved in a single pass over the input lines, without holding the whole input in memory.
+ * <p>
+ * Lines are pulled one at a time, so the reader never gets ahead of the solver. A line handed out by the iterator may
+ * be a reused view on the read buffer and is only valid until the next call to {@link Iterator#next()}.
+ */
+public interface StreamingPuzzle {
+
+    String solvePuzzle(Iterator<? extends CharSequence> lines);
+
+}
@@ -0,0 +1,17 @@
+package ch.nostromo.adventofcode.jfr;
+
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name("ch.nostromo.adventofcode.InputLoad")
+@Label("Input Load")
+@Description("Reading or mapping the puzzle input")
+public class InputLoadEvent extends PuzzleEvent {
+
+    @Label("Input Size")
+    @DataAmount
+    public long inputSize;
+
+}
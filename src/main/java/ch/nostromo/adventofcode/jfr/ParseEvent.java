@@ -0,0 +1,20 @@
+package ch.nostromo.adventofcode.jfr;
+
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name("ch.nostromo.adventofcode.Parse")
+@Label("Parse")
+@Description("Splitting the input into lines before it is handed to the solver")
+public class ParseEvent extends PuzzleEvent {
+
+    @Label("Input Size")
+    @DataAmount
+    public long inputSize;
+
+    @Label("Lines")
+    public int lines;
+
+}
@@ -0,0 +1,24 @@
+package ch.nostromo.adventofcode.jfr;
+
+/**
+ * Marks a solver sub-phase as {@link PhaseEvent} from creation until closed. Solvers use the
+ * {@code BasePuzzle.phase(name, work)} wrappers rather than a try-with-resources block of their own.
+ */
+public class Phase implements AutoCloseable {
+
+    private final PhaseEvent event;
+
+    public Phase(PhaseEvent event) {
+        this.event = event;
+        event.begin();
+    }
+
+    @Override
+    public void close() {
+        event.end();
+        if (event.shouldCommit()) {
+            event.commit();
+        }
+    }
+
+}
@@ -0,0 +1,15 @@
+package ch.nostromo.adventofcode.jfr;
+
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name("ch.nostromo.adventofcode.Phase")
+@Label("Solver Phase")
+@Description("A sub-phase marked by the solver itself")
+public class PhaseEvent extends PuzzleEvent {
+
+    @Label("Phase")
+    public String phase;
+
+}
@@ -0,0 +1,28 @@
+package ch.nostromo.adventofcode.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+
+/**
+ * Common fields of all puzzle events: which puzzle ran and whether it was the test input.
+ */
+@Category("Advent of Code")
+public abstract class PuzzleEvent extends Event {
+
+    @Label("Puzzle")
+    public String puzzle;
+
+    @Label("Year")
+    public int year;
+
+    @Label("Day")
+    public int day;
+
+    @Label("Part")
+    public int part;
+
+    @Label("Test Run")
+    public boolean testRun;
+
+}
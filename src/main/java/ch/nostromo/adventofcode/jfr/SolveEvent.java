@@ -0,0 +1,23 @@
+package ch.nostromo.adventofcode.jfr;
+
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name("ch.nostromo.adventofcode.Solve")
+@Label("Solve")
+@Description("One solver iteration, including the parsing done by the solver")
+public class SolveEvent extends PuzzleEvent {
+
+    @Label("Input Size")
+    @DataAmount
+    public long inputSize;
+
+    @Label("Warm-up")
+    public boolean warmup;
+
+    @Label("Result")
+    public String result;
+
+}
@@ -0,0 +1,21 @@
+package ch.nostromo.adventofcode.jfr;
+
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name("ch.nostromo.adventofcode.Verify")
+@Label("Verify")
+@Description("Comparison of the test result with the expected one")
+public class VerifyEvent extends PuzzleEvent {
+
+    @Label("Expected")
+    public String expected;
+
+    @Label("Result")
+    public String result;
+
+    @Label("Passed")
+    public boolean passed;
+
+}
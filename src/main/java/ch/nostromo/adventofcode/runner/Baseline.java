@@ -0,0 +1,160 @@
+package ch.nostromo.adventofcode.runner;
+
+import ch.nostromo.adventofcode.PuzzleResult;
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Median run time and allocation of the full input per puzzle, stored as JSON to detect performance regressions.
+ * <p>
+ * A puzzle regresses if its run time or its allocation exceeds the baseline by more than the threshold (1.0 = twice).
+ * Differences below 5 ms or 64 KB are noise and never reported, and so are results of fewer than
+ * {@value #MIN_RUNS} measured runs: a single cold run can easily take several times the median.
+ */
+public class Baseline {
+
+    private static final Gson GSON = new GsonBuilder().setPrettyPrinting().create();
+
+    private static final long MIN_NANOS_DIFFERENCE = 5_000_000;
+
+    private static final long MIN_BYTES_DIFFERENCE = 64 * 1024;
+
+    static final int MIN_RUNS = 3;
+
+    private final Path file;
+
+    private final Map<String, Entry> entries;
+
+    private Baseline(Path file, Map<String, Entry> entries) {
+        this.file = file;
+        this.entries = entries;
+    }
+
+    /**
+     * Reads the baseline, an empty one if the file does not exist yet.
+     */
+    public static Baseline load(Path file) {
+        if (!Files.exists(file)) {
+            return new Baseline(file, new TreeMap<>());
+        }
+
+        try (Reader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            Content content = GSON.fromJson(reader, Content.class);
+            Map<String, Entry> entries = new TreeMap<>();
+            if (content != null && content.getPuzzles() != null) {
+                entries.putAll(content.getPuzzles());
+            }
+            return new Baseline(file, entries);
+        } catch (IOException | RuntimeException e) {
+            throw new IllegalStateException("Unable to read baseline " + file, e);
+        }
+    }
+
+    public Path getFile() {
+        return file;
+    }
+
+    public boolean isEmpty() {
+        return entries.isEmpty();
+    }
+
+    public Entry get(String puzzleName) {
+        return entries.get(puzzleName);
+    }
+
+    /**
+     * Compares a result against its baseline entry, {@code null} if the puzzle has none, failed or was not measured.
+     */
+    public Comparison compare(PuzzleResult result, double threshold) {
+        Entry entry = entries.get(result.getPuzzleName());
+        if (entry == null || !isMeasured(result)) {
+            return null;
+        }
+
+        long nanos = result.getFullLatency().getMedian();
+        long bytes = result.getFullAllocation().getAllocatedBytesPerRun();
+
+        boolean slower = nanos - entry.getMedianNanos() > MIN_NANOS_DIFFERENCE && nanos > entry.getMedianNanos() * (1 + threshold);
+        boolean bigger = bytes - entry.getAllocatedBytes() > MIN_BYTES_DIFFERENCE && bytes > entry.getAllocatedBytes() * (1 + threshold);
+
+        return new Comparison(entry, ratio(nanos, entry.getMedianNanos()), ratio(bytes, entry.getAllocatedBytes()), slower || bigger);
+    }
+
+    /**
+     * Replaces the entries of all measured results and writes the file.
+     */
+    public void update(List<PuzzleResult> results) {
+        String created = Instant.now().toString();
+        for (PuzzleResult result : results) {
+            if (isMeasured(result)) {
+                entries.put(result.getPuzzleName(), new Entry(result.getFullLatency().getMedian(),
+                        result.getFullAllocation().getAllocatedBytesPerRun(), result.getFullLatency().getCount(), created));
+            }
+        }
+
+        try {
+            Path directory = file.toAbsolutePath().getParent();
+            Files.createDirectories(directory);
+            Path temp = Files.createTempFile(directory, "baseline", ".tmp");
+            try (Writer writer = Files.newBufferedWriter(temp, StandardCharsets.UTF_8)) {
+                GSON.toJson(new Content(entries), writer);
+            }
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            throw new IllegalStateException("Unable to write baseline " + file, e);
+        }
+    }
+
+    /**
+     * Results answered from the cache or failed with an exception carry no timings, a run or two no reliable ones.
+     */
+    private static boolean isMeasured(PuzzleResult result) {
+        return result.getCacheHits() == 0 && result.getFullLatency().getCount() >= MIN_RUNS;
+    }
+
+    private static double ratio(long value, long reference) {
+        return reference == 0 ? (value == 0 ? 1 : Double.POSITIVE_INFINITY) : (double) value / reference;
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Entry {
+        private long medianNanos;
+        private long allocatedBytes;
+        private int runs;
+        private String created;
+    }
+
+    @Data
+    @AllArgsConstructor
+    public static class Comparison {
+        private Entry baseline;
+        private double timeRatio;
+        private double allocationRatio;
+        private boolean regression;
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    static class Content {
+        private Map<String, Entry> puzzles;
+    }
+
+}
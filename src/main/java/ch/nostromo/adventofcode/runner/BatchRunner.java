@@ -0,0 +1,262 @@
+package ch.nostromo.adventofcode.runner;
+
+import ch.nostromo.adventofcode.BasePuzzle;
+import ch.nostromo.adventofcode.PuzzleResult;
+import ch.nostromo.adventofcode.ResultCache;
+import ch.nostromo.adventofcode.utils.AllocationStats;
+import ch.nostromo.adventofcode.utils.AnsiColor;
+import ch.nostromo.adventofcode.utils.LatencyStats;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Function;
+
+/**
+ * Runs every puzzle found by the {@link PuzzleRegistry} on a thread pool and prints a consolidated timing table.
+ * <p>
+ * The pool is a plain one rather than a fork/join pool: parallel streams of a solver then fork into the common pool,
+ * whose workers {@link AllocationStats} charges to the puzzle, instead of into the batch pool, whose workers it cannot
+ * tell apart from the other puzzles.
+ * <p>
+ * Run times of the previous batch are kept in the user cache dir, so the slowest puzzles are scheduled first and the
+ * total wall-clock time approaches the one of the slowest single puzzle. Unknown puzzles are treated as slow. On a
+ * single thread the puzzles run in name order instead, the same in every batch.
+ */
+public class BatchRunner {
+
+    private static final Path TIMINGS_FILE = ResultCache.getCacheDirectory().resolve("timings.properties");
+
+    /**
+     * Iterations of a baseline run, overridden by {@code aoc.warmup} and {@code aoc.iterations}.
+     */
+    private static final int BASELINE_WARMUP = 5;
+
+    private static final int BASELINE_ITERATIONS = 10;
+
+    private final List<PuzzleDescriptor> puzzles;
+
+    private final int threads;
+
+    private final Function<BasePuzzle, PuzzleResult> execution;
+
+    public BatchRunner(List<PuzzleDescriptor> puzzles, int threads) {
+        this(puzzles, threads, BasePuzzle::execute);
+    }
+
+
+    /**
+     * Runs every puzzle through {@code execution}, e.g. to measure several iterations.
+     */
+    public BatchRunner(List<PuzzleDescriptor> puzzles, int threads, Function<BasePuzzle, PuzzleResult> execution) {
+        this.puzzles = puzzles;
+        this.threads = threads;
+        this.execution = execution;
+    }
+
+    public List<PuzzleResult> runAll() {
+        Properties timings = loadTimings();
+
+        List<PuzzleDescriptor> schedule = new ArrayList<>(puzzles);
+        if (threads > 1) {
+            schedule.sort(Comparator.comparingLong((PuzzleDescriptor puzzle) -> getPreviousDuration(timings, puzzle)).reversed());
+        } else {
+            // One after the other the order does not matter for the wall clock, but a fixed one makes runs comparable
+            schedule.sort(Comparator.comparing(PuzzleDescriptor::getName));
+        }
+
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<PuzzleResult>> futures = new ArrayList<>();
+            for (PuzzleDescriptor puzzle : schedule) {
+                futures.add(pool.submit(() -> runSafely(puzzle)));
+            }
+
+            List<PuzzleResult> results = new ArrayList<>();
+            for (Future<PuzzleResult> future : futures) {
+                results.add(future.get());
+            }
+
+            for (PuzzleResult result : results) {
+                // A cache hit says nothing about how long solving takes
+                if (result.getCacheHits() == 0) {
+                    timings.setProperty(result.getPuzzleName(), String.valueOf(result.getTotalDuration().toMillis()));
+                }
+            }
+            storeTimings(timings);
+
+            results.sort(Comparator.comparing(PuzzleResult::getPuzzleName));
+            return results;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Batch run interrupted", e);
+        } catch (ExecutionException e) {
+            throw new RuntimeException("Batch run failed", e);
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    private PuzzleResult runSafely(PuzzleDescriptor puzzle) {
+        try {
+            return execution.apply(puzzle.newInstance());
+        } catch (Throwable e) {
+            return new PuzzleResult(puzzle.getName(), null, "ERROR", e.getClass().getSimpleName() + ": " + e.getMessage(), Duration.ZERO, Duration.ZERO, new LatencyStats(0), new LatencyStats(0), new AllocationStats(), new AllocationStats(), 0, 0);
+        }
+    }
+
+    private long getPreviousDuration(Properties timings, PuzzleDescriptor puzzle) {
+        String value = timings.getProperty(puzzle.getName());
+        return value == null ? Long.MAX_VALUE : Long.parseLong(value);
+    }
+
+    private Properties loadTimings() {
+        Properties timings = new Properties();
+        if (Files.exists(TIMINGS_FILE)) {
+            try (Reader reader = Files.newBufferedReader(TIMINGS_FILE)) {
+                timings.load(reader);
+            } catch (IOException e) {
+                // Start over without history
+            }
+        }
+        return timings;
+    }
+
+    private void storeTimings(Properties timings) {
+        try {
+            Files.createDirectories(TIMINGS_FILE.getParent());
+            try (Writer writer = Files.newBufferedWriter(TIMINGS_FILE)) {
+                timings.store(writer, "Advent of Code puzzle run times in ms");
+            }
+        } catch (IOException e) {
+            // History is optional
+        }
+    }
+
+    public static void printTable(List<PuzzleResult> results, Duration wallClock) {
+        printTable(results, wallClock, Map.of());
+    }
+
+    public static void printTable(List<PuzzleResult> results, Duration wallClock, Map<String, Baseline.Comparison> comparisons) {
+        System.out.println(formatTable(results, wallClock, comparisons));
+    }
+
+    /**
+     * Formats the results, with their run time and allocation relative to the baseline if a comparison is given.
+     */
+    public static String formatTable(List<PuzzleResult> results, Duration wallClock, Map<String, Baseline.Comparison> comparisons) {
+        StringBuilder sb = new StringBuilder();
+        boolean withBaseline = !comparisons.isEmpty();
+        sb.append(String.format("%n%-24s %-6s %10s %10s %10s %8s  %s%s%n", "Puzzle", "Test", "Test ms", "Full ms", "Full MB", "GC",
+                withBaseline ? String.format("%-15s  ", "Time / Alloc") : "", "Solution"));
+
+        long cpuMillis = 0;
+        int passed = 0;
+        int regressions = 0;
+        for (PuzzleResult result : results) {
+            String status = result.isTestPassed() ? AnsiColor.GREEN + "Passed" : AnsiColor.RED_BRIGHT + "Failed";
+
+            Baseline.Comparison comparison = comparisons.get(result.getPuzzleName());
+            String baseline = "";
+            if (withBaseline) {
+                AnsiColor color = comparison != null && comparison.isRegression() ? AnsiColor.RED_BRIGHT : AnsiColor.RESET;
+                String ratios = comparison == null ? "" : String.format("%5.2fx %5.2fx", comparison.getTimeRatio(), comparison.getAllocationRatio());
+                baseline = String.format("%s%-15s%s  ", color, ratios, AnsiColor.RESET);
+            }
+
+            sb.append(String.format("%-24s %s%s %10d %10d %10.1f %8d  %s%s%n", result.getPuzzleName(), status, AnsiColor.RESET,
+                    result.getTestDuration().toMillis(), result.getFullDuration().toMillis(),
+                    AllocationStats.toMegaBytes(result.getFullAllocation().getAllocatedBytesPerRun()), result.getFullAllocation().getGcCount(),
+                    baseline, result.getFullResult()));
+
+            cpuMillis += result.getTotalDuration().toMillis();
+            passed += result.isTestPassed() ? 1 : 0;
+            regressions += comparison != null && comparison.isRegression() ? 1 : 0;
+        }
+
+        sb.append(String.format("%nPuzzles: %d, passed: %d, sum of run times: %d ms, wall clock: %d ms%n",
+                results.size(), passed, cpuMillis, wallClock.toMillis()));
+        if (withBaseline) {
+            sb.append(String.format("Compared to baseline: %d, regressions: %d%n", comparisons.size(), regressions));
+        }
+
+        return sb.toString();
+    }
+
+    /**
+     * Arguments: {@code [threads] [--baseline file] [--threshold ratio] [--update-baseline]}.
+     * <p>
+     * If the baseline file (default {@code baseline.json}) exists, puzzles are compared against it; the exit code is 1
+     * if a puzzle got slower or allocates more by more than the threshold (default 1.0 = twice the baseline).
+     * {@code --update-baseline} writes the measured values to the file instead. Both measure every puzzle one after the
+     * other, without the result cache, with {@code aoc.warmup} warm-up iterations (default 5) and the median of
+     * {@code aoc.iterations} measured ones (default 10); the thread count is ignored then, as puzzles running side by
+     * side slow each other down.
+     */
+    public static void main(String... args) {
+        BasePuzzle.initializeLogging();
+
+        int threads = Runtime.getRuntime().availableProcessors();
+        Path baselineFile = Paths.get(System.getProperty("aoc.baseline", "baseline.json"));
+        double threshold = 1.0;
+        boolean updateBaseline = false;
+
+        for (int i = 0; i < args.length; i++) {
+            switch (args[i]) {
+                case "--baseline" -> baselineFile = Paths.get(args[++i]);
+                case "--threshold" -> threshold = Double.parseDouble(args[++i]);
+                case "--update-baseline" -> updateBaseline = true;
+                default -> threads = Integer.parseInt(args[i]);
+            }
+        }
+
+        Baseline baseline = updateBaseline || Files.exists(baselineFile) ? Baseline.load(baselineFile) : null;
+
+        BatchRunner runner;
+        if (baseline == null) {
+            runner = new BatchRunner(new PuzzleRegistry().getPuzzles(), threads);
+        } else {
+            int warmup = Integer.getInteger("aoc.warmup", BASELINE_WARMUP);
+            int iterations = Integer.getInteger("aoc.iterations", BASELINE_ITERATIONS);
+            runner = new BatchRunner(new PuzzleRegistry().getPuzzles(), 1, puzzle -> puzzle.execute(warmup, iterations));
+        }
+
+        long start = System.nanoTime();
+        List<PuzzleResult> results = runner.runAll();
+        Duration wallClock = Duration.ofNanos(System.nanoTime() - start);
+
+        Map<String, Baseline.Comparison> comparisons = new HashMap<>();
+        if (baseline != null) {
+            for (PuzzleResult result : results) {
+                Baseline.Comparison comparison = baseline.compare(result, threshold);
+                if (comparison != null) {
+                    comparisons.put(result.getPuzzleName(), comparison);
+                }
+            }
+        }
+
+        printTable(results, wallClock, comparisons);
+
+        if (updateBaseline) {
+            baseline.update(results);
+            System.out.println("Baseline written to " + baseline.getFile());
+        } else if (comparisons.values().stream().anyMatch(Baseline.Comparison::isRegression)) {
+            System.exit(1);
+        }
+    }
+
+}
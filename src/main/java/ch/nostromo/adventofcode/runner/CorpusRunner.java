@@ -0,0 +1,195 @@
+package ch.nostromo.adventofcode.runner;
+
+import ch.nostromo.adventofcode.BasePuzzle;
+import ch.nostromo.adventofcode.utils.AnsiColor;
+import ch.nostromo.adventofcode.utils.LatencyStats;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Properties;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Stream;
+
+/**
+ * Solves every file of a directory with one instance of a puzzle, e.g. to validate a solver against inputs of many
+ * accounts.
+ * <p>
+ * Inputs are fanned out over virtual threads if the JVM has them (Java 21+) and over a fixed pool otherwise, or
+ * always if a thread count is given. Solvers keep no state between solves, so sharing the instance is safe.
+ * Expected answers may be listed in {@code answers.properties} in the directory, keyed by {@code <file>.<PartN>}.
+ */
+public class CorpusRunner {
+
+    private static final String ANSWERS_FILE = "answers.properties";
+
+    private final BasePuzzle puzzle;
+
+    private final int threads;
+
+    public CorpusRunner(BasePuzzle puzzle, int threads) {
+        this.puzzle = puzzle;
+        this.threads = threads;
+    }
+
+    public List<InputResult> run(List<Path> inputs) {
+        ExecutorService pool = newExecutor(threads);
+        try {
+            List<Future<InputResult>> futures = new ArrayList<>();
+            for (Path input : inputs) {
+                futures.add(pool.submit(() -> solve(input)));
+            }
+
+            List<InputResult> results = new ArrayList<>();
+            for (Future<InputResult> future : futures) {
+                results.add(future.get());
+            }
+            return results;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Corpus run interrupted", e);
+        } catch (ExecutionException e) {
+            throw new RuntimeException("Corpus run failed", e);
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    private InputResult solve(Path input) {
+        long start = System.nanoTime();
+        try {
+            String result = puzzle.solveFile(input);
+            return new InputResult(input, Files.size(input), result, null, System.nanoTime() - start);
+        } catch (Throwable e) {
+            return new InputResult(input, 0, null, e.getClass().getSimpleName() + ": " + e.getMessage(), System.nanoTime() - start);
+        }
+    }
+
+    /**
+     * A virtual thread per input if {@code threads} is 0 and the JVM supports it, a fixed pool otherwise.
+     */
+    static ExecutorService newExecutor(int threads) {
+        if (threads <= 0) {
+            try {
+                return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+            } catch (ReflectiveOperationException e) {
+                // Before Java 21
+            }
+        }
+        return Executors.newFixedThreadPool(threads > 0 ? threads : Runtime.getRuntime().availableProcessors());
+    }
+
+    static List<Path> listInputs(Path directory) {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(Files::isRegularFile)
+                    .filter(file -> !file.getFileName().toString().equals(ANSWERS_FILE))
+                    .sorted()
+                    .toList();
+        } catch (IOException e) {
+            throw new RuntimeException("Unable to list inputs in " + directory, e);
+        }
+    }
+
+    static Properties loadAnswers(Path directory) {
+        Properties answers = new Properties();
+        Path file = directory.resolve(ANSWERS_FILE);
+        if (Files.exists(file)) {
+            try (Reader reader = Files.newBufferedReader(file)) {
+                answers.load(reader);
+            } catch (IOException e) {
+                throw new RuntimeException("Unable to read " + file, e);
+            }
+        }
+        return answers;
+    }
+
+    /**
+     * Prints one line per input and the aggregate throughput, returns the number of failed inputs.
+     */
+    public static int printReport(String puzzleName, List<InputResult> results, Properties answers, Duration wallClock) {
+        StringBuilder sb = new StringBuilder();
+        sb.append(String.format("%n%-32s %10s %10s  %-6s  %s%n", "Input", "KB", "ms", "Check", "Result"));
+
+        LatencyStats latency = new LatencyStats(results.size());
+        int failed = 0;
+        for (InputResult result : results) {
+            String fileName = result.getInput().getFileName().toString();
+            String expected = answers.getProperty(fileName + "." + puzzleName.substring(puzzleName.lastIndexOf('/') + 1));
+
+            String check;
+            if (result.getError() != null) {
+                check = AnsiColor.RED_BRIGHT + "Error ";
+                failed++;
+            } else if (expected == null) {
+                check = "-     ";
+            } else if (expected.equals(result.getResult())) {
+                check = AnsiColor.GREEN + "Passed";
+            } else {
+                check = AnsiColor.RED_BRIGHT + "Failed";
+                failed++;
+            }
+
+            sb.append(String.format("%-32s %10.1f %10.3f  %s%s  %s%n", fileName, result.getSize() / 1024.0, LatencyStats.toMillis(result.getNanos()),
+                    check, AnsiColor.RESET, result.getError() != null ? result.getError() : result.getResult()));
+            latency.add(result.getNanos());
+        }
+
+        double seconds = wallClock.toNanos() / 1e9;
+        sb.append(String.format("%n%s: %d inputs, %d failed, wall clock %d ms, throughput %.1f inputs/s%nLatency: %s%n",
+                puzzleName, results.size(), failed, wallClock.toMillis(), seconds > 0 ? results.size() / seconds : 0, latency));
+
+        System.out.println(sb);
+        return failed;
+    }
+
+    public static void main(String... args) {
+        if (args.length < 2) {
+            System.err.println("Usage: CorpusRunner <puzzle, e.g. year2024/day06/Part2> <input directory> [threads, default virtual]");
+            System.exit(1);
+        }
+
+        BasePuzzle.initializeLogging();
+
+        String puzzleName = args[0];
+        Path directory = Paths.get(args[1]);
+        int threads = args.length > 2 ? Integer.parseInt(args[2]) : 0;
+
+        BasePuzzle puzzle = new PuzzleRegistry().getPuzzles().stream()
+                .filter(candidate -> candidate.getName().equals(puzzleName))
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException("Unknown puzzle " + puzzleName))
+                .newInstance();
+
+        List<Path> inputs = listInputs(directory);
+
+        long start = System.nanoTime();
+        List<InputResult> results = new CorpusRunner(puzzle, threads).run(inputs);
+        Duration wallClock = Duration.ofNanos(System.nanoTime() - start);
+
+        int failed = printReport(puzzleName, results, loadAnswers(directory), wallClock);
+        if (failed > 0) {
+            System.exit(1);
+        }
+    }
+
+    @Data
+    @AllArgsConstructor
+    public static class InputResult {
+        private Path input;
+        private long size;
+        private String result;
+        private String error;
+        private long nanos;
+    }
+
+}
@@ -0,0 +1,66 @@
+package ch.nostromo.adventofcode.runner;
+
+import ch.nostromo.adventofcode.Launcher;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.ConnectException;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Paths;
+
+/**
+ * Thin client of the {@link PuzzleDaemon}: takes the same arguments as the {@link Launcher}, lets the daemon run them
+ * and prints its report. {@code --shutdown} stops the daemon. An {@code --input} path is made absolute first, as the
+ * daemon resolves it against its own working directory.
+ * <p>
+ * The port is {@value PuzzleDaemon#DEFAULT_PORT} or the system property {@code aoc.daemon.port}. Without a JVM at
+ * all: {@code curl 'http://localhost:7777/run?year=2022&day=1&format=json'}.
+ */
+public class DaemonClient {
+
+    public static void main(String... args) throws IOException {
+        int port = Integer.getInteger("aoc.daemon.port", PuzzleDaemon.DEFAULT_PORT);
+
+        boolean shutdown = args.length == 1 && args[0].equals("--shutdown");
+        URL url = new URL("http://localhost:" + port + (shutdown ? "/shutdown" : "/run"));
+
+        HttpURLConnection connection = (HttpURLConnection) url.openConnection();
+        connection.setRequestMethod("POST");
+        connection.setDoOutput(true);
+
+        int status;
+        try {
+            try (OutputStream out = connection.getOutputStream()) {
+                out.write(String.join("\n", shutdown ? new String[0] : absoluteInputs(args)).getBytes(StandardCharsets.UTF_8));
+            }
+            status = connection.getResponseCode();
+        } catch (ConnectException e) {
+            System.err.println("No puzzle daemon on port " + port + ", start one with " + PuzzleDaemon.class.getName());
+            System.exit(1);
+            return;
+        }
+
+        try (InputStream in = status < 400 ? connection.getInputStream() : connection.getErrorStream()) {
+            (status < 400 ? System.out : System.err).write(in.readAllBytes());
+        }
+        System.out.flush();
+
+        if (status != 200) {
+            System.exit(status == 400 ? 2 : 1);
+        }
+    }
+
+    private static String[] absoluteInputs(String... args) {
+        String[] result = args.clone();
+        for (int i = 0; i + 1 < result.length; i++) {
+            if (result[i].equals("--input")) {
+                result[i + 1] = Paths.get(result[i + 1]).toAbsolutePath().toString();
+            }
+        }
+        return result;
+    }
+
+}
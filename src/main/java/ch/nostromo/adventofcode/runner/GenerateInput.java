@@ -0,0 +1,35 @@
+package ch.nostromo.adventofcode.runner;
+
+import ch.nostromo.adventofcode.BaseInputGenerator;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+/**
+ * Writes a synthetic input: {@code GenerateInput <year> <day> <scale> <file> [seed]}.
+ */
+public class GenerateInput {
+
+    public static void main(String... args) {
+        if (args.length < 4) {
+            System.err.println("Usage: GenerateInput <year> <day> <scale> <file> [seed]");
+            System.exit(1);
+        }
+
+        int year = Integer.parseInt(args[0]);
+        int day = Integer.parseInt(args[1]);
+        double scale = Double.parseDouble(args[2]);
+        Path file = Paths.get(args[3]);
+        long seed = args.length > 4 ? Long.parseLong(args[4]) : 1;
+
+        BaseInputGenerator generator = new PuzzleRegistry().getPuzzles().stream()
+                .filter(puzzle -> puzzle.getYear() == year && puzzle.getDay() == day)
+                .map(PuzzleDescriptor::newGenerator)
+                .filter(candidate -> candidate != null)
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException("No input generator for " + year + "/" + day));
+
+        generator.generate(scale, seed, file);
+    }
+
+}
@@ -0,0 +1,157 @@
+package ch.nostromo.adventofcode.runner;
+
+import ch.nostromo.adventofcode.BasePuzzle;
+import ch.nostromo.adventofcode.Launcher;
+import com.google.gson.Gson;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Long-running JVM serving {@link Launcher} runs over HTTP on the loopback interface, so repeated runs skip JVM
+ * startup, class loading and JIT warm-up.
+ * <p>
+ * The puzzle registry is scanned once and every solver is warmed up on its test input at startup
+ * ({@code aoc.daemon.warmup} iterations, default 20). Requests are served one after the other so runs do not disturb
+ * each other's timings:
+ * <ul>
+ * <li>{@code POST /run} with the launcher arguments one per line in the body, or {@code GET /run?year=2024&day=6}
+ * with options as query parameters ({@code glob=} for name globs). Responds with the launcher report.</li>
+ * <li>{@code GET /puzzles} lists the puzzle names as JSON.</li>
+ * <li>{@code POST /shutdown} stops the daemon.</li>
+ * </ul>
+ * {@link DaemonClient} is the matching command line client.
+ */
+public class PuzzleDaemon {
+
+    private static final Logger LOG = Logger.getLogger(PuzzleDaemon.class.getName());
+
+    public static final int DEFAULT_PORT = 7777;
+
+    private final List<PuzzleDescriptor> puzzles;
+
+    private final HttpServer server;
+
+    private final ExecutorService executor = Executors.newSingleThreadExecutor();
+
+    public PuzzleDaemon(int port) throws IOException {
+        this.puzzles = new PuzzleRegistry().getPuzzles();
+        this.server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), port), 0);
+        server.createContext("/run", this::handleRun);
+        server.createContext("/puzzles", this::handlePuzzles);
+        server.createContext("/shutdown", this::handleShutdown);
+        server.setExecutor(executor);
+    }
+
+    public void warmUp(int iterations) {
+        long start = System.nanoTime();
+
+        // Some solvers print their answer, which is only noise here
+        PrintStream stdout = System.out;
+        System.setOut(new PrintStream(OutputStream.nullOutputStream()));
+        try {
+            for (PuzzleDescriptor puzzle : puzzles) {
+                try {
+                    puzzle.newInstance().warmUp(iterations);
+                } catch (Exception e) {
+                    LOG.log(Level.FINE, "Warm-up of " + puzzle.getName() + " failed", e);
+                }
+            }
+        } finally {
+            System.setOut(stdout);
+        }
+        LOG.info(String.format("Warmed up %d puzzles in %d ms", puzzles.size(), (System.nanoTime() - start) / 1_000_000));
+    }
+
+    public void start() {
+        server.start();
+        LOG.info("Listening on http://" + server.getAddress().getHostString() + ":" + server.getAddress().getPort());
+    }
+
+    public void stop() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+
+    private void handleRun(HttpExchange exchange) throws IOException {
+        List<String> args = new ArrayList<>();
+
+        String query = exchange.getRequestURI().getRawQuery();
+        if (query != null) {
+            for (String parameter : query.split("&")) {
+                int separator = parameter.indexOf('=');
+                String key = URLDecoder.decode(separator < 0 ? parameter : parameter.substring(0, separator), StandardCharsets.UTF_8);
+                String value = separator < 0 ? "" : URLDecoder.decode(parameter.substring(separator + 1), StandardCharsets.UTF_8);
+                if (!key.equals("glob")) {
+                    args.add("--" + key);
+                }
+                args.add(value);
+            }
+        }
+
+        String body = new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8);
+        for (String line : body.split("\n")) {
+            if (!line.isBlank()) {
+                args.add(line.strip());
+            }
+        }
+
+        try {
+            Launcher launcher = Launcher.of(args.toArray(String[]::new));
+            String report = launcher.run(puzzles);
+            respond(exchange, 200, launcher.isJson() ? "application/json" : "text/plain", report);
+        } catch (IllegalArgumentException e) {
+            respond(exchange, 400, "text/plain", e.getMessage() + "\n" + Launcher.USAGE);
+        } catch (RuntimeException e) {
+            LOG.log(Level.WARNING, "Run " + args + " failed", e);
+            respond(exchange, 500, "text/plain", e.getClass().getSimpleName() + ": " + e.getMessage());
+        }
+    }
+
+    private void handlePuzzles(HttpExchange exchange) throws IOException {
+        List<String> names = puzzles.stream().map(PuzzleDescriptor::getName).toList();
+        respond(exchange, 200, "application/json", new Gson().toJson(names));
+    }
+
+    private void handleShutdown(HttpExchange exchange) throws IOException {
+        respond(exchange, 200, "text/plain", "Bye");
+        Thread stopper = new Thread(this::stop, "daemon-shutdown");
+        stopper.start();
+    }
+
+    private static void respond(HttpExchange exchange, int status, String contentType, String body) throws IOException {
+        byte[] bytes = (body.endsWith("\n") ? body : body + "\n").getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", contentType + "; charset=utf-8");
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+
+    /**
+     * Optional argument: the port, default {@value #DEFAULT_PORT} or the system property {@code aoc.daemon.port}.
+     */
+    public static void main(String... args) throws IOException {
+        BasePuzzle.initializeLogging();
+
+        int port = args.length > 0 ? Integer.parseInt(args[0]) : Integer.getInteger("aoc.daemon.port", DEFAULT_PORT);
+
+        PuzzleDaemon daemon = new PuzzleDaemon(port);
+        daemon.warmUp(Integer.getInteger("aoc.daemon.warmup", 20));
+        daemon.start();
+    }
+
+}
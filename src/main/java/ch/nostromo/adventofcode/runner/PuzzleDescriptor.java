@@ -0,0 +1,61 @@
+package ch.nostromo.adventofcode.runner;
+
+import ch.nostromo.adventofcode.BaseInputGenerator;
+import ch.nostromo.adventofcode.BasePuzzle;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+/**
+ * A puzzle part found on the classpath, identified by year, day and part.
+ */
+@Data
+@AllArgsConstructor
+public class PuzzleDescriptor implements Comparable<PuzzleDescriptor> {
+
+    private int year;
+
+    private int day;
+
+    private int part;
+
+    private Class<? extends BasePuzzle> puzzleClass;
+
+    public String getName() {
+        return String.format("year%d/day%02d/Part%d", year, day, part);
+    }
+
+    public BasePuzzle newInstance() {
+        try {
+            return puzzleClass.getDeclaredConstructor().newInstance();
+        } catch (ReflectiveOperationException e) {
+            throw new RuntimeException("Unable to instantiate puzzle " + getName(), e);
+        }
+    }
+
+    /**
+     * The synthetic input generator of this puzzle's day, or null if there is none.
+     */
+    public BaseInputGenerator newGenerator() {
+        String className = puzzleClass.getPackageName() + ".InputGenerator";
+        try {
+            Class<?> generatorClass = Class.forName(className, true, puzzleClass.getClassLoader());
+            return (BaseInputGenerator) generatorClass.getDeclaredConstructor().newInstance();
+        } catch (ClassNotFoundException e) {
+            return null;
+        } catch (ReflectiveOperationException e) {
+            throw new RuntimeException("Unable to instantiate input generator " + className, e);
+        }
+    }
+
+    @Override
+    public int compareTo(PuzzleDescriptor other) {
+        if (year != other.year) {
+            return Integer.compare(year, other.year);
+        }
+        if (day != other.day) {
+            return Integer.compare(day, other.day);
+        }
+        return Integer.compare(part, other.part);
+    }
+
+}
@@ -0,0 +1,118 @@
+package ch.nostromo.adventofcode.runner;
+
+import ch.nostromo.adventofcode.BasePuzzle;
+
+import java.io.IOException;
+import java.net.JarURLConnection;
+import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.List;
+import java.util.jar.JarEntry;
+import java.util.jar.JarFile;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+/**
+ * Discovers all puzzles of the form {@code ch.nostromo.adventofcode.yearYYYY.dayDD.PartN} on the classpath.
+ */
+public class PuzzleRegistry {
+
+    private static final String BASE_PATH = "ch/nostromo/adventofcode";
+
+    private static final Pattern PUZZLE_CLASS = Pattern.compile("year(\\d{4})/day(\\d{2})/Part(\\d)\\.class$");
+
+    private final List<PuzzleDescriptor> puzzles;
+
+    public PuzzleRegistry() {
+        this(Thread.currentThread().getContextClassLoader());
+    }
+
+    public PuzzleRegistry(ClassLoader classLoader) {
+        this.puzzles = Collections.unmodifiableList(scan(classLoader));
+    }
+
+    public List<PuzzleDescriptor> getPuzzles() {
+        return puzzles;
+    }
+
+    private List<PuzzleDescriptor> scan(ClassLoader classLoader) {
+        List<String> classFiles = new ArrayList<>();
+
+        try {
+            Enumeration<URL> roots = classLoader.getResources(BASE_PATH);
+            while (roots.hasMoreElements()) {
+                URL root = roots.nextElement();
+                if ("jar".equals(root.getProtocol())) {
+                    classFiles.addAll(scanJar(root));
+                } else if ("file".equals(root.getProtocol())) {
+                    classFiles.addAll(scanDirectory(Paths.get(root.toURI())));
+                }
+            }
+        } catch (Exception e) {
+            throw new RuntimeException("Unable to scan classpath for puzzles", e);
+        }
+
+        List<PuzzleDescriptor> result = new ArrayList<>();
+        for (String classFile : classFiles) {
+            Matcher matcher = PUZZLE_CLASS.matcher(classFile);
+            if (matcher.find()) {
+                PuzzleDescriptor descriptor = toDescriptor(classLoader, matcher);
+                if (descriptor != null && !result.contains(descriptor)) {
+                    result.add(descriptor);
+                }
+            }
+        }
+
+        Collections.sort(result);
+        return result;
+    }
+
+    private List<String> scanDirectory(Path root) throws IOException {
+        try (Stream<Path> files = Files.walk(root)) {
+            return files.map(file -> root.relativize(file).toString().replace('\\', '/')).toList();
+        }
+    }
+
+    private List<String> scanJar(URL root) throws IOException {
+        List<String> result = new ArrayList<>();
+        JarURLConnection connection = (JarURLConnection) root.openConnection();
+        connection.setUseCaches(false);
+        try (JarFile jar = connection.getJarFile()) {
+            Enumeration<JarEntry> entries = jar.entries();
+            while (entries.hasMoreElements()) {
+                String name = entries.nextElement().getName();
+                if (name.startsWith(BASE_PATH + "/")) {
+                    result.add(name.substring(BASE_PATH.length() + 1));
+                }
+            }
+        }
+        return result;
+    }
+
+    @SuppressWarnings("unchecked")
+    private PuzzleDescriptor toDescriptor(ClassLoader classLoader, Matcher matcher) {
+        int year = Integer.parseInt(matcher.group(1));
+        int day = Integer.parseInt(matcher.group(2));
+        int part = Integer.parseInt(matcher.group(3));
+
+        String className = String.format("ch.nostromo.adventofcode.year%d.day%02d.Part%d", year, day, part);
+
+        try {
+            Class<?> clazz = Class.forName(className, false, classLoader);
+            if (BasePuzzle.class.isAssignableFrom(clazz)) {
+                return new PuzzleDescriptor(year, day, part, (Class<? extends BasePuzzle>) clazz);
+            }
+        } catch (ClassNotFoundException e) {
+            // Not a puzzle after all
+        }
+
+        return null;
+    }
+
+}
@@ -0,0 +1,146 @@
+package ch.nostromo.adventofcode.utils;
+
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadInfo;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Collects the bytes allocated and the GC count and time deltas between {@link #begin()} and {@link #end()}.
+ * <p>
+ * Allocations are counted for the current thread and the workers of the common fork/join pool, where parallel
+ * streams of a solver run as long as the solver itself does not run in a fork/join pool - which is why the runners use
+ * plain executors. If several puzzles use the common pool at the same time, each is charged the others' pool
+ * allocations too. Workers that terminate in between lose their count. Garbage collections are counted JVM wide, so
+ * they include the work of concurrently running puzzles.
+ */
+public class AllocationStats {
+
+    private static final com.sun.management.ThreadMXBean THREAD_BEAN = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    private static final String COMMON_POOL_PREFIX = "ForkJoinPool.commonPool-worker-";
+
+    private static final List<GarbageCollectorMXBean> GC_BEANS = ManagementFactory.getGarbageCollectorMXBeans();
+
+    private long allocatedBytes;
+
+    private long gcCount;
+
+    private long gcTimeMillis;
+
+    private int runs;
+
+    private long startAllocatedBytes;
+
+    private Map<Long, Long> startPoolAllocatedBytes = Map.of();
+
+    private long startGcCount;
+
+    private long startGcTimeMillis;
+
+    public void begin() {
+        startGcCount = currentGcCount();
+        startGcTimeMillis = currentGcTimeMillis();
+        startPoolAllocatedBytes = poolAllocatedBytes();
+        startAllocatedBytes = currentAllocatedBytes();
+    }
+
+    public void end() {
+        long endAllocatedBytes = currentAllocatedBytes();
+
+        allocatedBytes += endAllocatedBytes - startAllocatedBytes;
+        for (Map.Entry<Long, Long> worker : poolAllocatedBytes().entrySet()) {
+            allocatedBytes += worker.getValue() - startPoolAllocatedBytes.getOrDefault(worker.getKey(), 0L);
+        }
+        gcCount += currentGcCount() - startGcCount;
+        gcTimeMillis += currentGcTimeMillis() - startGcTimeMillis;
+        runs++;
+    }
+
+    public long getAllocatedBytes() {
+        return allocatedBytes;
+    }
+
+    public long getAllocatedBytesPerRun() {
+        return runs == 0 ? 0 : allocatedBytes / runs;
+    }
+
+    public long getGcCount() {
+        return gcCount;
+    }
+
+    public long getGcTimeMillis() {
+        return gcTimeMillis;
+    }
+
+    public int getRuns() {
+        return runs;
+    }
+
+    public static boolean isSupported() {
+        return THREAD_BEAN.isThreadAllocatedMemorySupported() && THREAD_BEAN.isThreadAllocatedMemoryEnabled();
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%.1f MB, GC %d (%d ms)", toMegaBytes(getAllocatedBytesPerRun()), gcCount, gcTimeMillis);
+    }
+
+    public static double toMegaBytes(long bytes) {
+        return bytes / (1024.0 * 1024.0);
+    }
+
+    private static long currentAllocatedBytes() {
+        return isSupported() ? THREAD_BEAN.getCurrentThreadAllocatedBytes() : 0;
+    }
+
+    /**
+     * Bytes allocated so far by each live worker of the common fork/join pool other than the current thread, which is
+     * counted on its own, by thread id.
+     */
+    private static Map<Long, Long> poolAllocatedBytes() {
+        if (!isSupported()) {
+            return Map.of();
+        }
+
+        long current = Thread.currentThread().getId();
+        List<Long> ids = new ArrayList<>();
+        for (ThreadInfo info : THREAD_BEAN.getThreadInfo(THREAD_BEAN.getAllThreadIds(), 0)) {
+            if (info != null && info.getThreadId() != current && info.getThreadName().startsWith(COMMON_POOL_PREFIX)) {
+                ids.add(info.getThreadId());
+            }
+        }
+
+        long[] threadIds = ids.stream().mapToLong(Long::longValue).toArray();
+        long[] bytes = THREAD_BEAN.getThreadAllocatedBytes(threadIds);
+
+        Map<Long, Long> result = new HashMap<>();
+        for (int i = 0; i < threadIds.length; i++) {
+            // -1 for a thread that ended meanwhile
+            if (bytes[i] >= 0) {
+                result.put(threadIds[i], bytes[i]);
+            }
+        }
+        return result;
+    }
+
+    private static long currentGcCount() {
+        long result = 0;
+        for (GarbageCollectorMXBean bean : GC_BEANS) {
+            result += Math.max(0, bean.getCollectionCount());
+        }
+        return result;
+    }
+
+    private static long currentGcTimeMillis() {
+        long result = 0;
+        for (GarbageCollectorMXBean bean : GC_BEANS) {
+            result += Math.max(0, bean.getCollectionTime());
+        }
+        return result;
+    }
+
+}
@@ -0,0 +1,182 @@
+package ch.nostromo.adventofcode.utils;
+
+import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.ErrorManager;
+import java.util.logging.Handler;
+import java.util.logging.LogRecord;
+
+/**
+ * Console handler that hands formatted records over to a bounded queue; a single background thread writes them to
+ * {@code System.err}. Solvers logging in a loop therefore never wait on console I/O unless the queue is full.
+ * <p>
+ * Records are formatted on the logging thread, so mutable parameters show their values at the time of the call. Each
+ * one gets a sequence number before it is queued; {@link #flush()} waits for every number handed out so far.
+ */
+public class AsyncConsoleHandler extends Handler {
+
+    private static final int DEFAULT_CAPACITY = 8192;
+
+    private final BlockingQueue<Entry> queue;
+
+    private final PrintStream out;
+
+    private final Thread writer;
+
+    private volatile boolean closed;
+
+    private final AtomicLong published = new AtomicLong();
+
+    private final Object lock = new Object();
+
+    /**
+     * Every message up to this sequence number is printed, guarded by {@code lock}.
+     */
+    private long written;
+
+    /**
+     * Sequence numbers above {@code written} that are printed already, guarded by {@code lock}. Threads logging at the
+     * same time may queue their messages in a different order than they drew the numbers.
+     */
+    private final Set<Long> writtenAhead = new HashSet<>();
+
+    private static final class Entry {
+
+        final long sequence;
+
+        final String message;
+
+        Entry(long sequence, String message) {
+            this.sequence = sequence;
+            this.message = message;
+        }
+    }
+
+    public AsyncConsoleHandler() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    public AsyncConsoleHandler(int capacity) {
+        this.queue = new ArrayBlockingQueue<>(capacity);
+        this.out = System.err;
+
+        this.writer = new Thread(this::drain, "async-log-writer");
+        this.writer.setDaemon(true);
+        this.writer.start();
+    }
+
+    @Override
+    public void publish(LogRecord record) {
+        if (closed || !isLoggable(record)) {
+            return;
+        }
+
+        String message;
+        try {
+            message = getFormatter().format(record);
+        } catch (Exception e) {
+            reportError(null, e, ErrorManager.FORMAT_FAILURE);
+            return;
+        }
+
+        long sequence = published.incrementAndGet();
+        try {
+            queue.put(new Entry(sequence, message));
+        } catch (InterruptedException e) {
+            // Dropped, but flush must not wait for it
+            synchronized (lock) {
+                markWritten(sequence);
+            }
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Waits until every message that got its sequence number before the call is printed.
+     */
+    @Override
+    public void flush() {
+        long target = published.get();
+        synchronized (lock) {
+            while (written < target && writer.isAlive()) {
+                try {
+                    lock.wait(100);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    break;
+                }
+            }
+        }
+        out.flush();
+    }
+
+    @Override
+    public void close() {
+        closed = true;
+        writer.interrupt();
+        try {
+            writer.join(TimeUnit.SECONDS.toMillis(5));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        out.flush();
+    }
+
+    private void drain() {
+        List<Entry> batch = new ArrayList<>();
+        while (true) {
+            try {
+                batch.add(queue.take());
+            } catch (InterruptedException e) {
+                if (closed) {
+                    break;
+                }
+                continue;
+            }
+
+            queue.drainTo(batch);
+            write(batch);
+            batch.clear();
+        }
+
+        // Write whatever was queued before the handler was closed
+        queue.drainTo(batch);
+        write(batch);
+    }
+
+    private void write(List<Entry> batch) {
+        for (Entry entry : batch) {
+            out.print(entry.message);
+        }
+        out.flush();
+
+        synchronized (lock) {
+            for (Entry entry : batch) {
+                markWritten(entry.sequence);
+            }
+            lock.notifyAll();
+        }
+    }
+
+    /**
+     * Advances {@code written} past {@code sequence} once all numbers below it are done; caller holds {@code lock}.
+     */
+    private void markWritten(long sequence) {
+        if (sequence != written + 1) {
+            writtenAhead.add(sequence);
+            return;
+        }
+        written = sequence;
+        while (writtenAhead.remove(written + 1)) {
+            written++;
+        }
+    }
+
+}
@@ -0,0 +1,264 @@
+package ch.nostromo.adventofcode.utils;
+
+import ch.nostromo.adventofcode.PuzzleInput;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Character grid in one flat row-major {@code byte[]} surrounded by a one cell wide border.
+ * <p>
+ * Cells are addressed by index, {@code index(x, y) = (y + 1) * stride + x + 1}. Moving is adding one of the
+ * precomputed neighbour offsets, and every walk off the grid lands on a border cell first, so solvers check for
+ * {@link #BORDER} instead of doing bounds checks.
+ */
+public class Grid {
+
+    public static final byte BORDER = 0;
+
+    public static final int NORTH = 0;
+
+    public static final int EAST = 1;
+
+    public static final int SOUTH = 2;
+
+    public static final int WEST = 3;
+
+    private final int width;
+
+    private final int height;
+
+    private final int stride;
+
+    private final byte[] cells;
+
+    private final int[] neighbours4;
+
+    private final int[] neighbours8;
+
+    public Grid(int width, int height, char fill) {
+        this(width, height);
+        for (int y = 0; y < height; y++) {
+            Arrays.fill(cells, index(0, y), index(width, y), (byte) fill);
+        }
+    }
+
+    private Grid(int width, int height) {
+        this.width = width;
+        this.height = height;
+        this.stride = width + 2;
+        this.cells = new byte[stride * (height + 2)];
+        this.neighbours4 = new int[]{-stride, 1, stride, -1};
+        this.neighbours8 = new int[]{-stride, -stride + 1, 1, stride + 1, stride, stride - 1, -1, -stride - 1};
+    }
+
+    public static Grid parse(PuzzleInput input) {
+        int height = input.lineCount();
+        int width = height == 0 ? 0 : input.line(0).length();
+
+        Grid grid = new Grid(width, height);
+        for (int y = 0; y < height; y++) {
+            if (input.line(y).length() != width) {
+                throw new IllegalStateException("Line " + y + " is not " + width + " characters wide");
+            }
+            input.copyLine(y, grid.cells, grid.index(0, y));
+        }
+        return grid;
+    }
+
+    public static Grid parse(List<? extends CharSequence> lines) {
+        int height = lines.size();
+        int width = height == 0 ? 0 : lines.get(0).length();
+
+        Grid grid = new Grid(width, height);
+        for (int y = 0; y < height; y++) {
+            CharSequence line = lines.get(y);
+            if (line.length() != width) {
+                throw new IllegalStateException("Line " + y + " is not " + width + " characters wide");
+            }
+            int offset = grid.index(0, y);
+            for (int x = 0; x < width; x++) {
+                grid.cells[offset + x] = (byte) line.charAt(x);
+            }
+        }
+        return grid;
+    }
+
+    public int getWidth() {
+        return width;
+    }
+
+    public int getHeight() {
+        return height;
+    }
+
+    /**
+     * Distance between two vertically adjacent cells.
+     */
+    public int getStride() {
+        return stride;
+    }
+
+    /**
+     * The backing array including the border, for solvers that walk it directly.
+     */
+    public byte[] getCells() {
+        return cells;
+    }
+
+    /**
+     * Offsets to the north, east, south and west neighbour, clockwise so {@code (direction + 1) & 3} turns right.
+     */
+    public int[] getNeighbours4() {
+        return neighbours4;
+    }
+
+    /**
+     * Offsets to all eight neighbours, clockwise starting north.
+     */
+    public int[] getNeighbours8() {
+        return neighbours8;
+    }
+
+    public int offset(int direction) {
+        return neighbours4[direction];
+    }
+
+    public int index(int x, int y) {
+        return (y + 1) * stride + x + 1;
+    }
+
+    public int x(int index) {
+        return index % stride - 1;
+    }
+
+    public int y(int index) {
+        return index / stride - 1;
+    }
+
+    public byte get(int index) {
+        return cells[index];
+    }
+
+    public byte get(int x, int y) {
+        return cells[index(x, y)];
+    }
+
+    public void set(int index, char value) {
+        cells[index] = (byte) value;
+    }
+
+    public void set(int x, int y, char value) {
+        cells[index(x, y)] = (byte) value;
+    }
+
+    public boolean contains(int x, int y) {
+        return x >= 0 && y >= 0 && x < width && y < height;
+    }
+
+    public boolean isBorder(int index) {
+        return cells[index] == BORDER;
+    }
+
+    public int indexOf(char value) {
+        for (int y = 0; y < height; y++) {
+            for (int i = index(0, y), end = i + width; i < end; i++) {
+                if (cells[i] == value) {
+                    return i;
+                }
+            }
+        }
+        return -1;
+    }
+
+    public Line row(int y) {
+        return new Line(index(0, y), 1, width);
+    }
+
+    public Line column(int x) {
+        return new Line(index(x, 0), stride, height);
+    }
+
+    public Grid copy() {
+        Grid result = new Grid(width, height);
+        System.arraycopy(cells, 0, result.cells, 0, cells.length);
+        return result;
+    }
+
+    public Grid transpose() {
+        Grid result = new Grid(height, width);
+        for (int y = 0; y < height; y++) {
+            for (int x = 0; x < width; x++) {
+                result.cells[result.index(y, x)] = cells[index(x, y)];
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder((width + 1) * height);
+        for (int y = 0; y < height; y++) {
+            sb.append(row(y)).append('\n');
+        }
+        return sb.toString();
+    }
+
+    /**
+     * Read-through view on one row or column.
+     */
+    public class Line implements CharSequence {
+
+        private final int start;
+
+        private final int step;
+
+        private final int length;
+
+        Line(int start, int step, int length) {
+            this.start = start;
+            this.step = step;
+            this.length = length;
+        }
+
+        public int index(int i) {
+            return start + i * step;
+        }
+
+        public byte get(int i) {
+            return cells[index(i)];
+        }
+
+        public void set(int i, char value) {
+            cells[index(i)] = (byte) value;
+        }
+
+        @Override
+        public int length() {
+            return length;
+        }
+
+        @Override
+        public char charAt(int i) {
+            if (i < 0 || i >= length) {
+                throw new IndexOutOfBoundsException(i);
+            }
+            return (char) (get(i) & 0xff);
+        }
+
+        @Override
+        public CharSequence subSequence(int from, int to) {
+            return toString().substring(from, to);
+        }
+
+        @Override
+        public String toString() {
+            StringBuilder sb = new StringBuilder(length);
+            for (int i = 0; i < length; i++) {
+                sb.append(charAt(i));
+            }
+            return sb.toString();
+        }
+    }
+
+}
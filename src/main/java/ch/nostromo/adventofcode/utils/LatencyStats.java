@@ -0,0 +1,71 @@
+package ch.nostromo.adventofcode.utils;
+
+import java.time.Duration;
+import java.util.Arrays;
+
+/**
+ * Collects run times in nanoseconds and reports nearest-rank percentiles.
+ */
+public class LatencyStats {
+
+    private long[] samples;
+
+    private int count;
+
+    private boolean sorted;
+
+    public LatencyStats(int expectedSamples) {
+        this.samples = new long[Math.max(1, expectedSamples)];
+    }
+
+    public void add(long nanos) {
+        if (count == samples.length) {
+            samples = Arrays.copyOf(samples, count * 2);
+        }
+        samples[count++] = nanos;
+        sorted = false;
+    }
+
+    public int getCount() {
+        return count;
+    }
+
+    public long getMin() {
+        return getPercentile(0);
+    }
+
+    public long getMedian() {
+        return getPercentile(50);
+    }
+
+    public long getMax() {
+        return getPercentile(100);
+    }
+
+    public long getPercentile(double percentile) {
+        if (count == 0) {
+            return 0;
+        }
+        if (!sorted) {
+            Arrays.sort(samples, 0, count);
+            sorted = true;
+        }
+        int rank = (int) Math.ceil(percentile / 100.0 * count);
+        return samples[Math.min(count - 1, Math.max(0, rank - 1))];
+    }
+
+    public Duration getMedianDuration() {
+        return Duration.ofNanos(getMedian());
+    }
+
+    @Override
+    public String toString() {
+        return String.format("min %.3f | p50 %.3f | p90 %.3f | p99 %.3f | max %.3f ms (%d runs)",
+                toMillis(getMin()), toMillis(getMedian()), toMillis(getPercentile(90)), toMillis(getPercentile(99)), toMillis(getMax()), count);
+    }
+
+    public static double toMillis(long nanos) {
+        return nanos / 1_000_000.0;
+    }
+
+}
@@ -0,0 +1,131 @@
+package ch.nostromo.adventofcode.utils;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * Reads ASCII lines from a channel through a fixed read buffer. The returned {@link CharSequence} is the same instance
+ * for every line and only valid until the next call to {@link #next()}.
+ */
+public class LineIterator implements Iterator<CharSequence>, Closeable {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final ReadableByteChannel channel;
+
+    private final ByteBuffer buffer;
+
+    private final LineView view = new LineView();
+
+    private byte[] line = new byte[256];
+
+    private int lineLength;
+
+    private boolean pending;
+
+    private boolean eof;
+
+    private boolean skipLineFeed;
+
+    public LineIterator(ReadableByteChannel channel) {
+        this.channel = channel;
+        this.buffer = ByteBuffer.allocateDirect(BUFFER_SIZE);
+        this.buffer.flip();
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (!pending) {
+            try {
+                pending = readLine();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+        return pending;
+    }
+
+    @Override
+    public CharSequence next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        pending = false;
+        return view;
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+
+    private boolean readLine() throws IOException {
+        lineLength = 0;
+
+        while (true) {
+            if (!buffer.hasRemaining()) {
+                if (eof) {
+                    return lineLength > 0;
+                }
+                buffer.clear();
+                eof = channel.read(buffer) < 0;
+                buffer.flip();
+                continue;
+            }
+
+            byte b = buffer.get();
+            if (skipLineFeed) {
+                skipLineFeed = false;
+                if (b == '\n') {
+                    continue;
+                }
+            }
+
+            if (b == '\n') {
+                return true;
+            } else if (b == '\r') {
+                skipLineFeed = true;
+                return true;
+            }
+
+            if (lineLength == line.length) {
+                line = Arrays.copyOf(line, line.length * 2);
+            }
+            line[lineLength++] = b;
+        }
+    }
+
+    private class LineView implements CharSequence {
+
+        @Override
+        public int length() {
+            return lineLength;
+        }
+
+        @Override
+        public char charAt(int index) {
+            if (index < 0 || index >= lineLength) {
+                throw new IndexOutOfBoundsException(index);
+            }
+            return (char) (line[index] & 0xff);
+        }
+
+        @Override
+        public CharSequence subSequence(int start, int end) {
+            return toString().substring(start, end);
+        }
+
+        @Override
+        public String toString() {
+            return new String(line, 0, lineLength, StandardCharsets.ISO_8859_1);
+        }
+    }
+
+}
@@ -1,25 +1,22 @@
 package ch.nostromo.adventofcode.utils;
 import java.io.PrintWriter;
 import java.io.StringWriter;
-import java.text.DateFormat;
-import java.text.SimpleDateFormat;
-import java.util.Date;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
 import java.util.logging.LogRecord;
 
 public class LogFormatter extends java.util.logging.Formatter {
-    private final DateFormat dateFormat = new SimpleDateFormat("dd/MM/yyyy hh:mm:ss.SSS");
+    // DateTimeFormatter is immutable and thread safe, so one instance serves all records
+    private static final DateTimeFormatter DATE_FORMAT = DateTimeFormatter.ofPattern("dd/MM/yyyy hh:mm:ss.SSS").withZone(ZoneId.systemDefault());
 
-    Date dat = new Date();
-    private Object[] args = new Object[1];
-    private String lineSeparator = System.getProperty("line.separator");
+    private final String lineSeparator = System.lineSeparator();
 
     @Override
-    public synchronized String format(LogRecord record) {
-        StringBuilder sb = new StringBuilder();
-        this.dat.setTime(record.getMillis());
-        this.args[0] = this.dat;
+    public String format(LogRecord record) {
+        StringBuilder sb = new StringBuilder(128);
 
-        sb.append(dateFormat.format(new Date(record.getMillis()))).append(" - ");
+        DATE_FORMAT.formatTo(record.getInstant(), sb);
+        sb.append(" - ");
 
         sb.append("[");
         sb.append(record.getLevel().getName());
@@ -44,4 +41,4 @@ public class LogFormatter extends java.util.logging.Formatter {
         }
         return sb.toString();
     }
-}
\ No newline at end of file
+}
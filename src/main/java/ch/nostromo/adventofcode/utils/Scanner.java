@@ -0,0 +1,180 @@
+package ch.nostromo.adventofcode.utils;
+
+/**
+ * Cursor over a {@code byte[]} or {@link CharSequence} reading numbers and literals without allocating.
+ * <p>
+ * One instance is meant to be {@link #reset reset} onto line after line. Numbers are parsed in place, a {@code '-'}
+ * right in front of a digit is a sign unless it follows a digit itself (so {@code 2-4} reads as 2 and 4).
+ * Malformed input, a number out of range included, fails with an {@link IllegalStateException} naming the position.
+ */
+public class Scanner {
+
+    /**
+     * Smallest accumulated value another digit can be appended to without overflow.
+     */
+    private static final long MIN_BEFORE_DIGIT = Long.MIN_VALUE / 10;
+
+    private byte[] bytes;
+
+    private CharSequence chars;
+
+    private int start;
+
+    private int position;
+
+    private int limit;
+
+    public Scanner() {
+        reset("");
+    }
+
+    public Scanner(CharSequence source) {
+        reset(source);
+    }
+
+    public Scanner(byte[] source) {
+        reset(source, 0, source.length);
+    }
+
+    public Scanner reset(CharSequence source) {
+        this.bytes = null;
+        this.chars = source;
+        this.start = 0;
+        this.position = 0;
+        this.limit = source.length();
+        return this;
+    }
+
+    public Scanner reset(byte[] source, int from, int to) {
+        this.bytes = source;
+        this.chars = null;
+        this.start = from;
+        this.position = from;
+        this.limit = to;
+        return this;
+    }
+
+    public int position() {
+        return position;
+    }
+
+    public boolean hasNext() {
+        return position < limit;
+    }
+
+    /**
+     * Whether another number follows; moves the cursor to it.
+     */
+    public boolean hasNextNumber() {
+        return skipUntilDigit();
+    }
+
+    public char peek() {
+        return position < limit ? charAt(position) : 0;
+    }
+
+    public char next() {
+        if (position >= limit) {
+            throw new IllegalStateException("Unexpected end of input at " + position);
+        }
+        return charAt(position++);
+    }
+
+    public Scanner skip(int count) {
+        position = Math.min(limit, position + count);
+        return this;
+    }
+
+    public Scanner skipWhitespace() {
+        while (position < limit && Character.isWhitespace(charAt(position))) {
+            position++;
+        }
+        return this;
+    }
+
+    /**
+     * Moves to the next digit or sign of a number, returns {@code false} at the end of the input.
+     */
+    public boolean skipUntilDigit() {
+        while (position < limit) {
+            char c = charAt(position);
+            if (isDigit(c) || (c == '-' && isSign(position))) {
+                return true;
+            }
+            position++;
+        }
+        return false;
+    }
+
+    /**
+     * Consumes {@code literal}, which has to follow at the current position.
+     */
+    public Scanner expect(String literal) {
+        int length = literal.length();
+        if (position + length > limit) {
+            throw new IllegalStateException("Expected '" + literal + "' at " + position + " but input ends");
+        }
+        for (int i = 0; i < length; i++) {
+            if (charAt(position + i) != literal.charAt(i)) {
+                throw new IllegalStateException("Expected '" + literal + "' at " + position);
+            }
+        }
+        position += length;
+        return this;
+    }
+
+    public int nextInt() {
+        long value = nextLong();
+        if (value < Integer.MIN_VALUE || value > Integer.MAX_VALUE) {
+            throw new IllegalStateException("Number " + value + " before " + position + " does not fit an int");
+        }
+        return (int) value;
+    }
+
+    /**
+     * Skips to the next number and reads it.
+     */
+    public long nextLong() {
+        if (!skipUntilDigit()) {
+            throw new IllegalStateException("No number after " + position);
+        }
+
+        int numberStart = position;
+        boolean negative = charAt(position) == '-';
+        if (negative) {
+            position++;
+        }
+
+        // Accumulated negatively, as Long.MIN_VALUE has no positive counterpart
+        long value = 0;
+        while (position < limit) {
+            char c = charAt(position);
+            if (!isDigit(c)) {
+                break;
+            }
+            int digit = c - '0';
+            if (value < MIN_BEFORE_DIGIT || (value == MIN_BEFORE_DIGIT && digit > -(Long.MIN_VALUE % 10))) {
+                throw new IllegalStateException("Number at " + numberStart + " does not fit a long");
+            }
+            value = value * 10 - digit;
+            position++;
+        }
+        if (!negative && value == Long.MIN_VALUE) {
+            throw new IllegalStateException("Number at " + numberStart + " does not fit a long");
+        }
+        return negative ? value : -value;
+    }
+
+    private boolean isSign(int index) {
+        return index + 1 < limit && isDigit(charAt(index + 1)) && (index == start || !isDigit(charAt(index - 1)));
+    }
+
+    private static boolean isDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+
+    private char charAt(int index) {
+        return bytes != null ? (char) (bytes[index] & 0xff) : chars.charAt(index);
+    }
+
+}
@@ -0,0 +1,119 @@
+package ch.nostromo.adventofcode.utils.collections;
+
+/**
+ * Set of 2D points as a bitmap that grows in every direction, so negative coordinates are fine.
+ * <p>
+ * Rows are padded to whole {@code long} words. When a point outside the current area is set, the area is doubled
+ * towards that point and the bits are copied over.
+ */
+public class BitSet2D {
+
+    private long[] words;
+
+    private int minX;
+
+    private int minY;
+
+    private int width;
+
+    private int height;
+
+    private int wordsPerRow;
+
+    private int cardinality;
+
+    public BitSet2D() {
+        this(0, 0, 64, 64);
+    }
+
+    public BitSet2D(int minX, int minY, int width, int height) {
+        allocate(minX, minY, Math.max(1, width), Math.max(1, height));
+    }
+
+    public boolean get(int x, int y) {
+        if (!inside(x, y)) {
+            return false;
+        }
+        int bit = x - minX;
+        return (words[(y - minY) * wordsPerRow + (bit >>> 6)] & (1L << bit)) != 0;
+    }
+
+    /**
+     * Returns {@code true} if the point was not yet set.
+     */
+    public boolean set(int x, int y) {
+        if (!inside(x, y)) {
+            grow(x, y);
+        }
+
+        int bit = x - minX;
+        int word = (y - minY) * wordsPerRow + (bit >>> 6);
+        long mask = 1L << bit;
+        if ((words[word] & mask) != 0) {
+            return false;
+        }
+
+        words[word] |= mask;
+        cardinality++;
+        return true;
+    }
+
+    /**
+     * Number of points set.
+     */
+    public int cardinality() {
+        return cardinality;
+    }
+
+    private boolean inside(int x, int y) {
+        return x >= minX && y >= minY && x - minX < width && y - minY < height;
+    }
+
+    private void grow(int x, int y) {
+        int newMinX = minX;
+        int newWidth = width;
+        while (x < newMinX || x - newMinX >= newWidth) {
+            if (x < newMinX) {
+                newMinX -= newWidth;
+            }
+            newWidth *= 2;
+        }
+
+        int newMinY = minY;
+        int newHeight = height;
+        while (y < newMinY || y - newMinY >= newHeight) {
+            if (y < newMinY) {
+                newMinY -= newHeight;
+            }
+            newHeight *= 2;
+        }
+
+        long[] oldWords = words;
+        int oldMinX = minX;
+        int oldMinY = minY;
+        int oldWidth = width;
+        int oldHeight = height;
+        int oldWordsPerRow = wordsPerRow;
+
+        allocate(newMinX, newMinY, newWidth, newHeight);
+
+        for (int row = 0; row < oldHeight; row++) {
+            for (int column = 0; column < oldWidth; column++) {
+                if ((oldWords[row * oldWordsPerRow + (column >>> 6)] & (1L << column)) != 0) {
+                    int bit = oldMinX + column - minX;
+                    words[(oldMinY + row - minY) * wordsPerRow + (bit >>> 6)] |= 1L << bit;
+                }
+            }
+        }
+    }
+
+    private void allocate(int minX, int minY, int width, int height) {
+        this.minX = minX;
+        this.minY = minY;
+        this.width = width;
+        this.height = height;
+        this.wordsPerRow = (width + 63) >>> 6;
+        this.words = new long[wordsPerRow * height];
+    }
+
+}
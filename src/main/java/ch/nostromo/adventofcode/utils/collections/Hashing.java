@@ -0,0 +1,32 @@
+package ch.nostromo.adventofcode.utils.collections;
+
+/**
+ * Shared helpers of the open addressing collections.
+ */
+final class Hashing {
+
+    static final int DEFAULT_CAPACITY = 16;
+
+    private Hashing() {
+    }
+
+    /**
+     * Spreads the bits of a key so that consecutive keys do not cluster under linear probing.
+     */
+    static int mix(long key) {
+        long h = key * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32));
+    }
+
+    /**
+     * Power of two table size keeping the load factor at or below one half.
+     */
+    static int tableSize(int expectedSize) {
+        int size = Integer.highestOneBit(Math.max(DEFAULT_CAPACITY, expectedSize * 2) - 1) << 1;
+        if (size <= 0) {
+            throw new IllegalArgumentException("Capacity too large: " + expectedSize);
+        }
+        return size;
+    }
+
+}
@@ -0,0 +1,97 @@
+package ch.nostromo.adventofcode.utils.collections;
+
+import java.util.Arrays;
+
+/**
+ * Open addressing set of {@code int} values with linear probing and no boxing.
+ * <p>
+ * Value {@code 0} marks a free slot in the table and is tracked in a separate flag.
+ */
+public class IntSet {
+
+    private int[] keys;
+
+    private int mask;
+
+    private int size;
+
+    private boolean hasZero;
+
+    public IntSet() {
+        this(Hashing.DEFAULT_CAPACITY);
+    }
+
+    public IntSet(int expectedSize) {
+        allocate(Hashing.tableSize(expectedSize));
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public boolean contains(int value) {
+        if (value == 0) {
+            return hasZero;
+        }
+        return keys[find(value)] == value;
+    }
+
+    /**
+     * Returns {@code true} if the value was not yet present.
+     */
+    public boolean add(int value) {
+        if (value == 0) {
+            if (hasZero) {
+                return false;
+            }
+            hasZero = true;
+            size++;
+            return true;
+        }
+
+        int slot = find(value);
+        if (keys[slot] == value) {
+            return false;
+        }
+
+        keys[slot] = value;
+        if (++size > keys.length / 2) {
+            rehash();
+        }
+        return true;
+    }
+
+    public void clear() {
+        Arrays.fill(keys, 0);
+        size = 0;
+        hasZero = false;
+    }
+
+    private int find(int value) {
+        int slot = Hashing.mix(value) & mask;
+        while (keys[slot] != 0 && keys[slot] != value) {
+            slot = (slot + 1) & mask;
+        }
+        return slot;
+    }
+
+    private void rehash() {
+        int[] oldKeys = keys;
+        allocate(keys.length * 2);
+        for (int key : oldKeys) {
+            if (key != 0) {
+                keys[find(key)] = key;
+            }
+        }
+    }
+
+    private void allocate(int tableSize) {
+        keys = new int[tableSize];
+        mask = tableSize - 1;
+    }
+
+}
@@ -0,0 +1,127 @@
+package ch.nostromo.adventofcode.utils.graph;
+
+import java.util.Arrays;
+
+/**
+ * Directed weighted graph over the nodes {@code 0 .. size - 1} in compressed adjacency arrays: the edges of node
+ * {@code n} are {@code targets[offsets[n]] .. targets[offsets[n + 1] - 1]} with the matching {@code weights}.
+ */
+public class Graph {
+
+    private final int size;
+
+    private final int[] offsets;
+
+    private final int[] targets;
+
+    private final int[] weights;
+
+    private Graph(int size, int[] offsets, int[] targets, int[] weights) {
+        this.size = size;
+        this.offsets = offsets;
+        this.targets = targets;
+        this.weights = weights;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public int firstEdge(int node) {
+        return offsets[node];
+    }
+
+    public int endEdge(int node) {
+        return offsets[node + 1];
+    }
+
+    public int target(int edge) {
+        return targets[edge];
+    }
+
+    public int weight(int edge) {
+        return weights[edge];
+    }
+
+    /**
+     * The same graph with every edge pointing the other way, e.g. to search from the target back to all sources.
+     */
+    public Graph reverse() {
+        Builder builder = new Builder(size, targets.length);
+        for (int node = 0; node < size; node++) {
+            for (int edge = offsets[node]; edge < offsets[node + 1]; edge++) {
+                builder.addEdge(targets[edge], node, weights[edge]);
+            }
+        }
+        return builder.build();
+    }
+
+    public static Builder builder(int size) {
+        return new Builder(size, size * 4);
+    }
+
+    /**
+     * Collects edges in any order and sorts them by source node on {@link #build()}.
+     */
+    public static class Builder {
+
+        private final int size;
+
+        private int[] from;
+
+        private int[] to;
+
+        private int[] weight;
+
+        private int edges;
+
+        Builder(int size, int expectedEdges) {
+            this.size = size;
+            this.from = new int[Math.max(1, expectedEdges)];
+            this.to = new int[from.length];
+            this.weight = new int[from.length];
+        }
+
+        public Builder addEdge(int source, int target) {
+            return addEdge(source, target, 1);
+        }
+
+        public Builder addEdge(int source, int target, int edgeWeight) {
+            if (edgeWeight < 0) {
+                throw new IllegalArgumentException("Negative weight " + edgeWeight + " from " + source + " to " + target);
+            }
+            if (edges == from.length) {
+                from = Arrays.copyOf(from, edges * 2);
+                to = Arrays.copyOf(to, edges * 2);
+                weight = Arrays.copyOf(weight, edges * 2);
+            }
+            from[edges] = source;
+            to[edges] = target;
+            weight[edges] = edgeWeight;
+            edges++;
+            return this;
+        }
+
+        public Graph build() {
+            int[] offsets = new int[size + 1];
+            for (int i = 0; i < edges; i++) {
+                offsets[from[i] + 1]++;
+            }
+            for (int node = 0; node < size; node++) {
+                offsets[node + 1] += offsets[node];
+            }
+
+            int[] next = Arrays.copyOf(offsets, size);
+            int[] targets = new int[edges];
+            int[] weights = new int[edges];
+            for (int i = 0; i < edges; i++) {
+                int slot = next[from[i]]++;
+                targets[slot] = to[i];
+                weights[slot] = weight[i];
+            }
+
+            return new Graph(size, offsets, targets, weights);
+        }
+    }
+
+}
@@ -0,0 +1,214 @@
+package ch.nostromo.adventofcode.utils.graph;
+
+import java.util.Arrays;
+
+/**
+ * Shortest path searches on a {@link Graph}: BFS for unit weights, Dijkstra with a binary heap and A*.
+ * <p>
+ * All searches start from one or more sources at distance zero and can stop as soon as a target is settled:
+ * <pre>
+ * SearchResult result = new GraphSearch(graph).from(start).to(end).withPaths().bfs();
+ * </pre>
+ */
+public class GraphSearch {
+
+    private final Graph graph;
+
+    private int[] sources = new int[0];
+
+    private int target = -1;
+
+    private boolean withPaths;
+
+    public GraphSearch(Graph graph) {
+        this.graph = graph;
+    }
+
+    public GraphSearch from(int... sources) {
+        this.sources = sources;
+        return this;
+    }
+
+    /**
+     * Stops the search once {@code target} is settled; distances of nodes not yet settled are then upper bounds.
+     */
+    public GraphSearch to(int target) {
+        this.target = target;
+        return this;
+    }
+
+    /**
+     * Records parents for {@link SearchResult#getPath(int)}.
+     */
+    public GraphSearch withPaths() {
+        this.withPaths = true;
+        return this;
+    }
+
+    /**
+     * Breadth first search, ignoring the edge weights.
+     */
+    public SearchResult bfs() {
+        int[] distances = newDistances();
+        int[] parents = newParents();
+
+        int[] queue = new int[graph.size()];
+        int head = 0;
+        int tail = 0;
+        for (int source : sources) {
+            if (distances[source] != 0) {
+                distances[source] = 0;
+                queue[tail++] = source;
+            }
+        }
+
+        while (head < tail) {
+            int node = queue[head++];
+            if (node == target) {
+                break;
+            }
+
+            for (int edge = graph.firstEdge(node); edge < graph.endEdge(node); edge++) {
+                int next = graph.target(edge);
+                if (distances[next] == SearchResult.UNREACHABLE) {
+                    distances[next] = distances[node] + 1;
+                    if (parents != null) {
+                        parents[next] = node;
+                    }
+                    queue[tail++] = next;
+                }
+            }
+        }
+
+        return new SearchResult(distances, parents);
+    }
+
+    public SearchResult dijkstra() {
+        return aStar(node -> 0);
+    }
+
+    /**
+     * A* with a consistent {@code heuristic}: {@code h(u) <= w(u, v) + h(v)} for every edge, and 0 at the target.
+     * Settled nodes are never reopened, so a heuristic that is only admissible (never overestimating the remaining
+     * distance) may give a too long path.
+     */
+    public SearchResult aStar(Heuristic heuristic) {
+        int[] distances = newDistances();
+        int[] parents = newParents();
+        boolean[] settled = new boolean[graph.size()];
+
+        MinHeap heap = new MinHeap(graph.size());
+        for (int source : sources) {
+            distances[source] = 0;
+            heap.push(heuristic.estimate(source), source);
+        }
+
+        while (!heap.isEmpty()) {
+            int node = heap.pop();
+            if (settled[node]) {
+                continue;
+            }
+            settled[node] = true;
+            if (node == target) {
+                break;
+            }
+
+            for (int edge = graph.firstEdge(node); edge < graph.endEdge(node); edge++) {
+                int next = graph.target(edge);
+                int distance = distances[node] + graph.weight(edge);
+                if (distance < distances[next]) {
+                    distances[next] = distance;
+                    if (parents != null) {
+                        parents[next] = node;
+                    }
+                    heap.push(distance + heuristic.estimate(next), next);
+                }
+            }
+        }
+
+        return new SearchResult(distances, parents);
+    }
+
+    private int[] newDistances() {
+        int[] distances = new int[graph.size()];
+        Arrays.fill(distances, SearchResult.UNREACHABLE);
+        return distances;
+    }
+
+    private int[] newParents() {
+        if (!withPaths) {
+            return null;
+        }
+        int[] parents = new int[graph.size()];
+        Arrays.fill(parents, -1);
+        return parents;
+    }
+
+    @FunctionalInterface
+    public interface Heuristic {
+        int estimate(int node);
+    }
+
+    /**
+     * Binary heap of (priority, node) pairs packed into longs. Decrease-key is replaced by pushing again and skipping
+     * settled nodes on pop.
+     */
+    private static class MinHeap {
+
+        private long[] entries;
+
+        private int size;
+
+        MinHeap(int capacity) {
+            entries = new long[Math.max(16, capacity)];
+        }
+
+        boolean isEmpty() {
+            return size == 0;
+        }
+
+        void push(int priority, int node) {
+            if (size == entries.length) {
+                entries = Arrays.copyOf(entries, size * 2);
+            }
+
+            long entry = (long) priority << 32 | node;
+            int i = size++;
+            while (i > 0) {
+                int parent = (i - 1) >>> 1;
+                if (entries[parent] <= entry) {
+                    break;
+                }
+                entries[i] = entries[parent];
+                i = parent;
+            }
+            entries[i] = entry;
+        }
+
+        int pop() {
+            int node = (int) entries[0];
+            long last = entries[--size];
+
+            int i = 0;
+            while (true) {
+                int child = 2 * i + 1;
+                if (child >= size) {
+                    break;
+                }
+                if (child + 1 < size && entries[child + 1] < entries[child]) {
+                    child++;
+                }
+                if (last <= entries[child]) {
+                    break;
+                }
+                entries[i] = entries[child];
+                i = child;
+            }
+            if (size > 0) {
+                entries[i] = last;
+            }
+            return node;
+        }
+    }
+
+}
@@ -0,0 +1,52 @@
+package ch.nostromo.adventofcode.utils.graph;
+
+import ch.nostromo.adventofcode.utils.collections.IntArrayList;
+
+/**
+ * Distances of a {@link GraphSearch} and, if requested, the parent of every reached node.
+ */
+public class SearchResult {
+
+    public static final int UNREACHABLE = Integer.MAX_VALUE;
+
+    private final int[] distances;
+
+    private final int[] parents;
+
+    SearchResult(int[] distances, int[] parents) {
+        this.distances = distances;
+        this.parents = parents;
+    }
+
+    public int getDistance(int node) {
+        return distances[node];
+    }
+
+    public boolean isReachable(int node) {
+        return distances[node] != UNREACHABLE;
+    }
+
+    /**
+     * Nodes from the nearest source to {@code target}, or an empty array if the target was not reached.
+     */
+    public int[] getPath(int target) {
+        if (parents == null) {
+            throw new IllegalStateException("Search was run without paths");
+        }
+        if (!isReachable(target)) {
+            return new int[0];
+        }
+
+        IntArrayList reversed = new IntArrayList();
+        for (int node = target; node != -1; node = parents[node]) {
+            reversed.add(node);
+        }
+
+        int[] path = new int[reversed.size()];
+        for (int i = 0; i < path.length; i++) {
+            path[i] = reversed.get(path.length - 1 - i);
+        }
+        return path;
+    }
+
+}
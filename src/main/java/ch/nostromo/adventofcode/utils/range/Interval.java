@@ -0,0 +1,80 @@
+package ch.nostromo.adventofcode.utils.range;
+
+/**
+ * Immutable half-open interval {@code [start, end)} of longs.
+ */
+public record Interval(long start, long end) implements Comparable<Interval> {
+
+    public Interval {
+        if (end < start) {
+            throw new IllegalArgumentException("Interval end " + end + " before start " + start);
+        }
+    }
+
+    public static Interval of(long start, long end) {
+        return new Interval(start, end);
+    }
+
+    /**
+     * Interval of {@code first .. last}, both inclusive.
+     */
+    public static Interval closed(long first, long last) {
+        return new Interval(first, last + 1);
+    }
+
+    public static Interval ofLength(long start, long length) {
+        return new Interval(start, start + length);
+    }
+
+    public long length() {
+        return end - start;
+    }
+
+    public boolean isEmpty() {
+        return end == start;
+    }
+
+    /**
+     * Last value inside the interval.
+     */
+    public long last() {
+        return end - 1;
+    }
+
+    public boolean contains(long value) {
+        return value >= start && value < end;
+    }
+
+    public boolean encloses(Interval other) {
+        return other.start >= start && other.end <= end;
+    }
+
+    public boolean overlaps(Interval other) {
+        return other.start < end && start < other.end;
+    }
+
+    /**
+     * The common part, empty if the intervals do not overlap.
+     */
+    public Interval intersect(Interval other) {
+        long from = Math.max(start, other.start);
+        long to = Math.min(end, other.end);
+        return from < to ? new Interval(from, to) : new Interval(from, from);
+    }
+
+    public Interval shift(long offset) {
+        return new Interval(start + offset, end + offset);
+    }
+
+    @Override
+    public int compareTo(Interval other) {
+        int result = Long.compare(start, other.start);
+        return result != 0 ? result : Long.compare(end, other.end);
+    }
+
+    @Override
+    public String toString() {
+        return "[" + start + ", " + end + ")";
+    }
+
+}
@@ -0,0 +1,173 @@
+package ch.nostromo.adventofcode.utils.range;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Immutable set of longs stored as sorted, disjoint and non-adjacent {@link Interval}s.
+ * <p>
+ * Building a set sorts and merges its intervals in O(n log n); union, intersection and difference of two normalized
+ * sets are a single merge pass.
+ */
+public class IntervalSet {
+
+    private static final IntervalSet EMPTY = new IntervalSet(new Interval[0]);
+
+    private final Interval[] intervals;
+
+    private IntervalSet(Interval[] intervals) {
+        this.intervals = intervals;
+    }
+
+    public static IntervalSet empty() {
+        return EMPTY;
+    }
+
+    public static IntervalSet of(Interval... intervals) {
+        return of(Arrays.asList(intervals));
+    }
+
+    public static IntervalSet of(Collection<Interval> intervals) {
+        Interval[] sorted = intervals.stream().filter(interval -> !interval.isEmpty()).sorted().toArray(Interval[]::new);
+        return new IntervalSet(merge(sorted, sorted.length));
+    }
+
+    public List<Interval> getIntervals() {
+        return Collections.unmodifiableList(Arrays.asList(intervals));
+    }
+
+    public boolean isEmpty() {
+        return intervals.length == 0;
+    }
+
+    /**
+     * Number of values in the set.
+     */
+    public long measure() {
+        long result = 0;
+        for (Interval interval : intervals) {
+            result += interval.length();
+        }
+        return result;
+    }
+
+    public long min() {
+        if (isEmpty()) {
+            throw new IllegalStateException("Empty set has no minimum");
+        }
+        return intervals[0].start();
+    }
+
+    public boolean contains(long value) {
+        int low = 0;
+        int high = intervals.length - 1;
+        while (low <= high) {
+            int middle = (low + high) >>> 1;
+            Interval interval = intervals[middle];
+            if (value < interval.start()) {
+                high = middle - 1;
+            } else if (value >= interval.end()) {
+                low = middle + 1;
+            } else {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public IntervalSet union(IntervalSet other) {
+        Interval[] all = new Interval[intervals.length + other.intervals.length];
+        int i = 0;
+        int j = 0;
+        int n = 0;
+        while (i < intervals.length || j < other.intervals.length) {
+            if (j == other.intervals.length || i < intervals.length && intervals[i].start() <= other.intervals[j].start()) {
+                all[n++] = intervals[i++];
+            } else {
+                all[n++] = other.intervals[j++];
+            }
+        }
+        return new IntervalSet(merge(all, n));
+    }
+
+    public IntervalSet intersection(IntervalSet other) {
+        List<Interval> result = new ArrayList<>();
+        int i = 0;
+        int j = 0;
+        while (i < intervals.length && j < other.intervals.length) {
+            Interval common = intervals[i].intersect(other.intervals[j]);
+            if (!common.isEmpty()) {
+                result.add(common);
+            }
+            if (intervals[i].end() < other.intervals[j].end()) {
+                i++;
+            } else {
+                j++;
+            }
+        }
+        return new IntervalSet(result.toArray(new Interval[0]));
+    }
+
+    public IntervalSet difference(IntervalSet other) {
+        List<Interval> result = new ArrayList<>();
+        int j = 0;
+        for (Interval interval : intervals) {
+            long start = interval.start();
+            while (j < other.intervals.length && other.intervals[j].end() <= start) {
+                j++;
+            }
+
+            int k = j;
+            while (k < other.intervals.length && other.intervals[k].start() < interval.end()) {
+                if (other.intervals[k].start() > start) {
+                    result.add(Interval.of(start, other.intervals[k].start()));
+                }
+                start = Math.max(start, other.intervals[k].end());
+                k++;
+            }
+
+            if (start < interval.end()) {
+                result.add(Interval.of(start, interval.end()));
+            }
+        }
+        return new IntervalSet(result.toArray(new Interval[0]));
+    }
+
+    /**
+     * Merges overlapping and adjacent intervals of the first {@code count} entries, which are sorted by start.
+     */
+    private static Interval[] merge(Interval[] sorted, int count) {
+        List<Interval> result = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            Interval interval = sorted[i];
+            if (!result.isEmpty() && interval.start() <= result.get(result.size() - 1).end()) {
+                Interval last = result.get(result.size() - 1);
+                result.set(result.size() - 1, Interval.of(last.start(), Math.max(last.end(), interval.end())));
+            } else {
+                result.add(interval);
+            }
+        }
+        return result.toArray(new Interval[0]);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        return Arrays.equals(intervals, ((IntervalSet) o).intervals);
+    }
+
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(intervals);
+    }
+
+    @Override
+    public String toString() {
+        return Arrays.toString(intervals);
+    }
+
+}
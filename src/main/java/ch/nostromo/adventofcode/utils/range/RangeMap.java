@@ -0,0 +1,197 @@
+package ch.nostromo.adventofcode.utils.range;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Immutable piecewise-linear map of longs: values inside a segment are shifted by the segment's offset, all other
+ * values map to themselves.
+ * <p>
+ * Besides single values, whole {@link IntervalSet}s can be mapped by splitting them at the segment borders, and two
+ * maps compose into one, so a chain of maps only needs to be walked once.
+ */
+public class RangeMap {
+
+    private static final Interval DOMAIN = Interval.of(Long.MIN_VALUE, Long.MAX_VALUE);
+
+    private final Segment[] segments;
+
+    private RangeMap(Segment[] segments) {
+        this.segments = segments;
+    }
+
+    public static RangeMap identity() {
+        return new RangeMap(new Segment[0]);
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public long apply(long value) {
+        int low = 0;
+        int high = segments.length - 1;
+        while (low <= high) {
+            int middle = (low + high) >>> 1;
+            Interval source = segments[middle].source();
+            if (value < source.start()) {
+                high = middle - 1;
+            } else if (value >= source.end()) {
+                low = middle + 1;
+            } else {
+                return value + segments[middle].offset();
+            }
+        }
+        return value;
+    }
+
+    /**
+     * Maps whole intervals at once, splitting them where they cross segment boundaries. The cost depends on the number
+     * of intervals and splits, not on the number of values.
+     */
+    public IntervalSet apply(IntervalSet values) {
+        List<Interval> result = new ArrayList<>();
+        List<Segment> pieces = pieces();
+        for (Interval interval : values.getIntervals()) {
+            for (int i = firstPiece(pieces, interval.start()); i < pieces.size() && pieces.get(i).source().start() < interval.end(); i++) {
+                Segment piece = pieces.get(i);
+                result.add(piece.source().intersect(interval).shift(piece.offset()));
+            }
+        }
+        return IntervalSet.of(result);
+    }
+
+    /**
+     * The map applying this map first and {@code after} to its result.
+     */
+    public RangeMap andThen(RangeMap after) {
+        List<Segment> result = new ArrayList<>();
+        List<Segment> afterPieces = after.pieces();
+        for (Segment piece : pieces()) {
+            Interval image = piece.source().shift(piece.offset());
+            for (int i = firstPiece(afterPieces, image.start()); i < afterPieces.size() && afterPieces.get(i).source().start() < image.end(); i++) {
+                Segment afterPiece = afterPieces.get(i);
+                Interval part = afterPiece.source().intersect(image);
+                long offset = piece.offset() + afterPiece.offset();
+                if (!part.isEmpty() && offset != 0) {
+                    result.add(new Segment(part.shift(-piece.offset()), offset));
+                }
+            }
+        }
+        return new Builder(result).build();
+    }
+
+    /**
+     * Precompiles a chain of maps, applied in list order, into a single map.
+     */
+    public static RangeMap compose(List<RangeMap> maps) {
+        RangeMap result = identity();
+        for (RangeMap map : maps) {
+            result = result.andThen(map);
+        }
+        return result;
+    }
+
+    /**
+     * Index of the piece containing {@code value}; pieces cover the whole domain without gaps.
+     */
+    private static int firstPiece(List<Segment> pieces, long value) {
+        int low = 0;
+        int high = pieces.size() - 1;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (pieces.get(middle).source().end() <= value) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * The segments with the identity gaps between them filled in, covering the whole domain.
+     */
+    private List<Segment> pieces() {
+        List<Segment> result = new ArrayList<>(segments.length * 2 + 1);
+        long position = DOMAIN.start();
+        for (Segment segment : segments) {
+            if (segment.source().start() > position) {
+                result.add(new Segment(Interval.of(position, segment.source().start()), 0));
+            }
+            result.add(segment);
+            position = segment.source().end();
+        }
+        if (position < DOMAIN.end()) {
+            result.add(new Segment(Interval.of(position, DOMAIN.end()), 0));
+        }
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        return Arrays.toString(segments);
+    }
+
+    private record Segment(Interval source, long offset) {
+
+        @Override
+        public String toString() {
+            return source + " " + (offset < 0 ? "- " + -offset : "+ " + offset);
+        }
+    }
+
+    public static class Builder {
+
+        private final List<Segment> segments;
+
+        Builder() {
+            this(new ArrayList<>());
+        }
+
+        private Builder(List<Segment> segments) {
+            this.segments = segments;
+        }
+
+        /**
+         * Maps {@code sourceStart .. sourceStart + length - 1} onto {@code destinationStart ..}.
+         */
+        public Builder map(long sourceStart, long destinationStart, long length) {
+            return shift(Interval.ofLength(sourceStart, length), destinationStart - sourceStart);
+        }
+
+        public Builder shift(Interval source, long offset) {
+            if (!source.isEmpty()) {
+                segments.add(new Segment(source, offset));
+            }
+            return this;
+        }
+
+        /**
+         * Sorts the segments, merges touching ones with equal offsets and rejects overlaps.
+         */
+        public RangeMap build() {
+            segments.sort(Comparator.comparing(Segment::source));
+
+            List<Segment> result = new ArrayList<>();
+            for (Segment segment : segments) {
+                if (!result.isEmpty()) {
+                    Segment last = result.get(result.size() - 1);
+                    if (last.source().overlaps(segment.source())) {
+                        throw new IllegalArgumentException("Overlapping segments " + last + " and " + segment);
+                    }
+                    if (last.source().end() == segment.source().start() && last.offset() == segment.offset()) {
+                        result.set(result.size() - 1, new Segment(Interval.of(last.source().start(), segment.source().end()), last.offset()));
+                        continue;
+                    }
+                }
+                result.add(segment);
+            }
+
+            return new RangeMap(result.toArray(new Segment[0]));
+        }
+    }
+
+}
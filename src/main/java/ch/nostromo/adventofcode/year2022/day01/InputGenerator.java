@@ -0,0 +1,27 @@
+package ch.nostromo.adventofcode.year2022.day01;
+
+import ch.nostromo.adventofcode.BaseInputGenerator;
+
+import java.io.PrintWriter;
+import java.util.Random;
+
+/**
+ * Elves carrying 1 to 15 snacks of 1000 to 70000 calories, about 250 elves per scale unit.
+ */
+public class InputGenerator extends BaseInputGenerator {
+
+    @Override
+    public void generate(double scale, Random random, PrintWriter out) {
+        int elves = scaled(250, scale);
+        for (int elf = 0; elf < elves; elf++) {
+            if (elf > 0) {
+                out.println();
+            }
+            int snacks = between(random, 1, 15);
+            for (int i = 0; i < snacks; i++) {
+                out.println(between(random, 1000, 70000));
+            }
+        }
+    }
+
+}
@@ -1,7 +1,9 @@
 package ch.nostromo.adventofcode.year2022.day01;
 
 import ch.nostromo.adventofcode.BasePuzzle;
+import ch.nostromo.adventofcode.StreamingPuzzle;
 
+import java.util.Iterator;
 import java.util.List;
 
 /**
@@ -43,23 +45,29 @@ import java.util.List;
  * <p>
  * Find the Elf carrying the most Calories. How many total Calories is that Elf carrying?
  */
-public class Part1 extends BasePuzzle {
+public class Part1 extends BasePuzzle implements StreamingPuzzle {
 
    private static final String EXPECTED_TEST_RESULT = "24000";
 
     public String solvePuzzle(List<String> input) {
+        return solvePuzzle(input.iterator());
+    }
+
+    @Override
+    public String solvePuzzle(Iterator<? extends CharSequence> lines) {
 
         int highestCalories = Integer.MIN_VALUE;
         int currentCalories = 0;
 
-        for (String line : input) {
-            if (line.isEmpty()) {
+        while (lines.hasNext()) {
+            CharSequence line = lines.next();
+            if (line.length() == 0) {
                 if (currentCalories > highestCalories) {
                     highestCalories = currentCalories;
                 }
                 currentCalories = 0;
             } else {
-                currentCalories += Integer.valueOf(line);
+                currentCalories += Integer.parseInt(line, 0, line.length(), 10);
             }
         }
 
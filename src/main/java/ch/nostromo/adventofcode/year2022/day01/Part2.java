@@ -1,9 +1,9 @@
 package ch.nostromo.adventofcode.year2022.day01;
 
 import ch.nostromo.adventofcode.BasePuzzle;
+import ch.nostromo.adventofcode.StreamingPuzzle;
 
-import java.util.ArrayList;
-import java.util.Collections;
+import java.util.Iterator;
 import java.util.List;
 
 /**
@@ -58,35 +58,50 @@ import java.util.List;
  * <p>
  * Find the top three Elves carrying the most Calories. How many Calories are those Elves carrying in total?
  */
-public class Part2 extends BasePuzzle {
+public class Part2 extends BasePuzzle implements StreamingPuzzle {
 
     private static final String EXPECTED_TEST_RESULT = "45000";
 
     public String solvePuzzle(List<String> input) {
+        return solvePuzzle(input.iterator());
+    }
+
+    @Override
+    public String solvePuzzle(Iterator<? extends CharSequence> lines) {
 
-        List<Integer> elves = new ArrayList<>();
+        // Only the top three elves are kept, highest first
+        int[] topElves = new int[3];
 
         int currentCalories = 0;
 
 
-        for (String line : input) {
-            if (line.isEmpty()) {
-                elves.add(currentCalories);
+        while (lines.hasNext()) {
+            CharSequence line = lines.next();
+            if (line.length() == 0) {
+                addElf(topElves, currentCalories);
                 currentCalories = 0;
             } else {
-                currentCalories += Integer.valueOf(line);
+                currentCalories += Integer.parseInt(line, 0, line.length(), 10);
             }
         }
 
-        elves.add(currentCalories);
+        addElf(topElves, currentCalories);
 
-        Collections.sort(elves, Collections.reverseOrder());
-
-        int result = elves.get(0) + elves.get(1) + elves.get(2);
+        int result = topElves[0] + topElves[1] + topElves[2];
 
         return String.valueOf(result);
     }
 
+    private void addElf(int[] topElves, int calories) {
+        for (int i = 0; i < topElves.length; i++) {
+            if (calories > topElves[i]) {
+                int replaced = topElves[i];
+                topElves[i] = calories;
+                calories = replaced;
+            }
+        }
+    }
+
 
     public Part2() {
         super(EXPECTED_TEST_RESULT);
@@ -0,0 +1,23 @@
+package ch.nostromo.adventofcode.year2022.day02;
+
+import ch.nostromo.adventofcode.BaseInputGenerator;
+
+import java.io.PrintWriter;
+import java.util.Random;
+
+/**
+ * Rounds of rock paper scissors, 2500 per scale unit.
+ */
+public class InputGenerator extends BaseInputGenerator {
+
+    @Override
+    public void generate(double scale, Random random, PrintWriter out) {
+        int rounds = scaled(2500, scale);
+        for (int i = 0; i < rounds; i++) {
+            out.print((char) ('A' + random.nextInt(3)));
+            out.print(' ');
+            out.println((char) ('X' + random.nextInt(3)));
+        }
+    }
+
+}
@@ -0,0 +1,63 @@
+package ch.nostromo.adventofcode.year2022.day03;
+
+import ch.nostromo.adventofcode.BaseInputGenerator;
+
+import java.io.PrintWriter;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Rucksacks in groups of three, 300 per scale unit.
+ * <p>
+ * Every group draws a badge and splits the other 51 item types among its three rucksacks, so the halves of a rucksack
+ * share exactly one type and the three rucksacks share exactly the badge.
+ */
+public class InputGenerator extends BaseInputGenerator {
+
+    private static final String ITEMS = "abcdefghijklmnopqrstuvwxyzABCDEFGHIJKLMNOPQRSTUVWXYZ";
+
+    @Override
+    public void generate(double scale, Random random, PrintWriter out) {
+        int groups = scaled(100, scale);
+        for (int group = 0; group < groups; group++) {
+            List<Character> items = new ArrayList<>();
+            for (char item : ITEMS.toCharArray()) {
+                items.add(item);
+            }
+            Collections.shuffle(items, random);
+            char badge = items.remove(0);
+
+            for (int rucksack = 0; rucksack < 3; rucksack++) {
+                // 17 types per rucksack: one shared by both halves, eight for each half
+                List<Character> types = items.subList(rucksack * 17, rucksack * 17 + 17);
+                char shared = types.get(0);
+                int half = between(random, 8, 16);
+
+                List<Character> left = fill(random, types.subList(1, 9), half - 1);
+                List<Character> right = fill(random, types.subList(9, 17), half - 1);
+                left.add(shared);
+                right.add(shared);
+                List<Character> badgeHalf = random.nextBoolean() ? left : right;
+                badgeHalf.set(random.nextInt(half - 1), badge);
+                Collections.shuffle(left, random);
+                Collections.shuffle(right, random);
+
+                StringBuilder line = new StringBuilder();
+                left.forEach(line::append);
+                right.forEach(line::append);
+                out.println(line);
+            }
+        }
+    }
+
+    private static List<Character> fill(Random random, List<Character> types, int count) {
+        List<Character> result = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            result.add(types.get(random.nextInt(types.size())));
+        }
+        return result;
+    }
+
+}
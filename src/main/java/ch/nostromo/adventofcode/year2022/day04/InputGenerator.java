@@ -0,0 +1,25 @@
+package ch.nostromo.adventofcode.year2022.day04;
+
+import ch.nostromo.adventofcode.BaseInputGenerator;
+
+import java.io.PrintWriter;
+import java.util.Random;
+
+/**
+ * Section assignment pairs between 1 and 99, 1000 per scale unit.
+ */
+public class InputGenerator extends BaseInputGenerator {
+
+    @Override
+    public void generate(double scale, Random random, PrintWriter out) {
+        int pairs = scaled(1000, scale);
+        for (int i = 0; i < pairs; i++) {
+            int from1 = between(random, 1, 99);
+            int to1 = between(random, from1, 99);
+            int from2 = between(random, 1, 99);
+            int to2 = between(random, from2, 99);
+            out.println(from1 + "-" + to1 + "," + from2 + "-" + to2);
+        }
+    }
+
+}
@@ -1,8 +1,8 @@
 package ch.nostromo.adventofcode.year2022.day04;
 
 import ch.nostromo.adventofcode.BasePuzzle;
+import ch.nostromo.adventofcode.utils.range.Interval;
 
-import java.time.temporal.ValueRange;
 import java.util.List;
 
 /**
@@ -56,8 +56,8 @@ public class Part1 extends BasePuzzle {
         int result = 0;
 
         for (String line : input) {
-            ValueRange range1 = ValueRange.of(Integer.valueOf(line.split(",")[0].split("-")[0]), Integer.valueOf(line.split(",")[0].split("-")[1]));
-            ValueRange range2 = ValueRange.of(Integer.valueOf(line.split(",")[1].split("-")[0]), Integer.valueOf(line.split(",")[1].split("-")[1]));
+            Interval range1 = Interval.closed(Long.parseLong(line.split(",")[0].split("-")[0]), Long.parseLong(line.split(",")[0].split("-")[1]));
+            Interval range2 = Interval.closed(Long.parseLong(line.split(",")[1].split("-")[0]), Long.parseLong(line.split(",")[1].split("-")[1]));
 
             if (isRedundant(range1, range2)) {
                 result++;
@@ -67,9 +67,8 @@ public class Part1 extends BasePuzzle {
 
         return String.valueOf(result);
     }
-    private boolean isRedundant(ValueRange range1, ValueRange range2) {
-        return range1.isValidIntValue(range2.getMinimum()) && range1.isValidIntValue(range2.getMaximum()) ||
-                range2.isValidIntValue(range1.getMinimum()) && range2.isValidIntValue(range1.getMaximum());
+    private boolean isRedundant(Interval range1, Interval range2) {
+        return range1.encloses(range2) || range2.encloses(range1);
     }
 
     public Part1() {
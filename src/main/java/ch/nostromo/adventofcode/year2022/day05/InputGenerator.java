@@ -0,0 +1,66 @@
+package ch.nostromo.adventofcode.year2022.day05;
+
+import ch.nostromo.adventofcode.BaseInputGenerator;
+
+import java.io.PrintWriter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Nine stacks of crates and 500 moves per scale unit; the stacks are nine wide since the labels are single digits.
+ * No move ever empties a stack, so every stack has a crate on top at the end.
+ */
+public class InputGenerator extends BaseInputGenerator {
+
+    private static final int STACKS = 9;
+
+    @Override
+    public void generate(double scale, Random random, PrintWriter out) {
+        List<StringBuilder> stacks = new ArrayList<>();
+        int[] sizes = new int[STACKS];
+        for (int i = 0; i < STACKS; i++) {
+            StringBuilder stack = new StringBuilder();
+            int crates = between(random, 1, scaled(8, scale));
+            for (int c = 0; c < crates; c++) {
+                stack.append((char) between(random, 'A', 'Z'));
+            }
+            stacks.add(stack);
+            sizes[i] = crates;
+        }
+
+        int height = 0;
+        for (StringBuilder stack : stacks) {
+            height = Math.max(height, stack.length());
+        }
+        for (int level = height - 1; level >= 0; level--) {
+            StringBuilder line = new StringBuilder();
+            for (int i = 0; i < STACKS; i++) {
+                line.append(i > 0 ? " " : "");
+                line.append(level < stacks.get(i).length() ? "[" + stacks.get(i).charAt(level) + "]" : "   ");
+            }
+            out.println(line.toString().stripTrailing());
+        }
+
+        StringBuilder labels = new StringBuilder();
+        for (int i = 1; i <= STACKS; i++) {
+            labels.append(' ').append(i).append("  ");
+        }
+        out.println(labels.substring(0, labels.length() - 1));
+        out.println();
+
+        int moves = scaled(500, scale);
+        for (int m = 0; m < moves; m++) {
+            int from;
+            do {
+                from = random.nextInt(STACKS);
+            } while (sizes[from] < 2);
+            int to = (from + between(random, 1, STACKS - 1)) % STACKS;
+            int count = between(random, 1, Math.min(sizes[from] - 1, 30));
+            sizes[from] -= count;
+            sizes[to] += count;
+            out.println("move " + count + " from " + (from + 1) + " to " + (to + 1));
+        }
+    }
+
+}
@@ -1,6 +1,7 @@
 package ch.nostromo.adventofcode.year2022.day05;
 
 import ch.nostromo.adventofcode.BasePuzzle;
+import ch.nostromo.adventofcode.utils.Scanner;
 
 import java.time.temporal.ValueRange;
 import java.util.List;
@@ -81,8 +82,9 @@ public class Part1 extends BasePuzzle {
 
         Stack<String>[] stacks = readStacks(input, height, width);
 
+        Scanner scanner = new Scanner();
         for (int i = height + 2; i < input.size(); i++) {
-            computeOrder(stacks, input.get(i));
+            computeOrder(stacks, scanner.reset(input.get(i)));
         }
 
         String solution = "";
@@ -92,10 +94,10 @@ public class Part1 extends BasePuzzle {
 
         return String.valueOf(solution);
     }
-    private static void computeOrder(Stack<String>[] stacks, String order) {
-        int count = Integer.valueOf(order.substring(5, order.indexOf("from") -1));
-        int from = Integer.valueOf(order.substring(order.indexOf("from") +5, order.indexOf("to") -1)) -1;
-        int to = Integer.valueOf(order.substring(order.indexOf("to") +3)) -1;
+    private static void computeOrder(Stack<String>[] stacks, Scanner order) {
+        int count = order.expect("move ").nextInt();
+        int from = order.expect(" from ").nextInt() - 1;
+        int to = order.expect(" to ").nextInt() - 1;
 
         for (int i = 0; i < count; i++) {
             stacks[to].push(stacks[from].pop());
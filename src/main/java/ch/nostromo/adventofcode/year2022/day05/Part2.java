@@ -1,6 +1,7 @@
 package ch.nostromo.adventofcode.year2022.day05;
 
 import ch.nostromo.adventofcode.BasePuzzle;
+import ch.nostromo.adventofcode.utils.Scanner;
 
 import java.util.List;
 import java.util.Stack;
@@ -127,8 +128,9 @@ public class Part2 extends BasePuzzle {
 
         Stack<String>[] stacks = readStacks(input, height, width);
 
+        Scanner scanner = new Scanner();
         for (int i = height + 2; i < input.size(); i++) {
-            computeOrder(stacks, input.get(i));
+            computeOrder(stacks, scanner.reset(input.get(i)));
         }
 
         String solution = "";
@@ -138,10 +140,10 @@ public class Part2 extends BasePuzzle {
         return solution;
     }
 
-    private static void computeOrder(Stack<String>[] stacks, String order) {
-        int count = Integer.valueOf(order.substring(5, order.indexOf("from") - 1));
-        int from = Integer.valueOf(order.substring(order.indexOf("from") + 5, order.indexOf("to") - 1)) - 1;
-        int to = Integer.valueOf(order.substring(order.indexOf("to") + 3)) - 1;
+    private static void computeOrder(Stack<String>[] stacks, Scanner order) {
+        int count = order.expect("move ").nextInt();
+        int from = order.expect(" from ").nextInt() - 1;
+        int to = order.expect(" to ").nextInt() - 1;
 
         Stack<String> tempStack = new Stack<>();
 
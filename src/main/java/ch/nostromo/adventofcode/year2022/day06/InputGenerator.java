@@ -0,0 +1,25 @@
+package ch.nostromo.adventofcode.year2022.day06;
+
+import ch.nostromo.adventofcode.BaseInputGenerator;
+
+import java.io.PrintWriter;
+import java.util.Random;
+
+/**
+ * A datastream of 4096 characters per scale unit. All but the last 14 characters are drawn from three letters only,
+ * so both markers are found at the very end and the whole stream has to be scanned.
+ */
+public class InputGenerator extends BaseInputGenerator {
+
+    @Override
+    public void generate(double scale, Random random, PrintWriter out) {
+        int length = scaled(4096, scale);
+        StringBuilder stream = new StringBuilder(length + 14);
+        for (int i = 0; i < length; i++) {
+            stream.append((char) ('a' + random.nextInt(3)));
+        }
+        stream.append("defghijklmnopq");
+        out.println(stream);
+    }
+
+}
@@ -0,0 +1,89 @@
+package ch.nostromo.adventofcode.year2022.day07;
+
+import ch.nostromo.adventofcode.BaseInputGenerator;
+
+import java.io.PrintWriter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * A terminal session walking a random directory tree of 190 directories and 270 files per scale unit.
+ * <p>
+ * The file sizes always add up to between 41 and 69 million, so part 2 has to free space on a 70 million disk and the
+ * sizes shrink as the tree grows.
+ */
+public class InputGenerator extends BaseInputGenerator {
+
+    private static final String[] EXTENSIONS = {"", ".txt", ".dat", ".log", ".bin"};
+
+    private static class Directory {
+        final String name;
+        final List<Directory> directories = new ArrayList<>();
+        final List<String> files = new ArrayList<>();
+        final List<Integer> sizes = new ArrayList<>();
+
+        Directory(String name) {
+            this.name = name;
+        }
+    }
+
+    @Override
+    public void generate(double scale, Random random, PrintWriter out) {
+        int directoryCount = scaled(190, scale);
+        int fileCount = scaled(270, scale);
+
+        List<Directory> directories = new ArrayList<>();
+        directories.add(new Directory("/"));
+        int names = 0;
+        for (int i = 1; i < directoryCount; i++) {
+            Directory directory = new Directory(name(random, names++));
+            directories.get(random.nextInt(directories.size())).directories.add(directory);
+            directories.add(directory);
+        }
+
+        // Spread the total over the files by random weights
+        double[] weights = new double[fileCount];
+        double weightSum = 0;
+        for (int i = 0; i < fileCount; i++) {
+            weights[i] = random.nextDouble();
+            weightSum += weights[i];
+        }
+        int total = between(random, 41_000_000, 69_000_000);
+        for (int i = 0; i < fileCount; i++) {
+            Directory directory = directories.get(random.nextInt(directories.size()));
+            directory.files.add(name(random, names++) + EXTENSIONS[random.nextInt(EXTENSIONS.length)]);
+            directory.sizes.add(Math.max(1, (int) (total * weights[i] / weightSum)));
+        }
+
+        out.println("$ cd /");
+        walk(directories.get(0), out);
+    }
+
+    private static void walk(Directory directory, PrintWriter out) {
+        out.println("$ ls");
+        for (Directory child : directory.directories) {
+            out.println("dir " + child.name);
+        }
+        for (int i = 0; i < directory.files.size(); i++) {
+            out.println(directory.sizes.get(i) + " " + directory.files.get(i));
+        }
+        for (Directory child : directory.directories) {
+            out.println("$ cd " + child.name);
+            walk(child, out);
+            out.println("$ cd ..");
+        }
+    }
+
+    /**
+     * A few random letters followed by a running number, so names never collide.
+     */
+    private static String name(Random random, int number) {
+        StringBuilder name = new StringBuilder();
+        for (int i = between(random, 1, 4); i > 0; i--) {
+            name.append((char) ('a' + random.nextInt(26)));
+        }
+        return name.append(number).toString();
+    }
+
+}
@@ -0,0 +1,25 @@
+package ch.nostromo.adventofcode.year2022.day08;
+
+import ch.nostromo.adventofcode.BaseInputGenerator;
+
+import java.io.PrintWriter;
+import java.util.Random;
+
+/**
+ * A square forest of tree heights, 99x99 per scale unit.
+ */
+public class InputGenerator extends BaseInputGenerator {
+
+    @Override
+    public void generate(double scale, Random random, PrintWriter out) {
+        int side = scaledSide(99, scale);
+        for (int y = 0; y < side; y++) {
+            StringBuilder line = new StringBuilder(side);
+            for (int x = 0; x < side; x++) {
+                line.append((char) ('0' + random.nextInt(10)));
+            }
+            out.println(line);
+        }
+    }
+
+}
@@ -1,6 +1,8 @@
 package ch.nostromo.adventofcode.year2022.day08;
 
 import ch.nostromo.adventofcode.BasePuzzle;
+import ch.nostromo.adventofcode.PuzzleInput;
+import ch.nostromo.adventofcode.utils.Grid;
 
 import java.util.List;
 
@@ -41,57 +43,30 @@ public class Part1 extends BasePuzzle {
     private static final String EXPECTED_TEST_RESULT = "21";
 
     public String solvePuzzle(List<String> input) {
+        return solvePuzzle(PuzzleInput.of(input));
+    }
 
-        int height = input.size();
-        int width = input.get(0).length();
-
-        int[][] forrest = createForrest(input, height, width);
-        int solution = countVisibleTrees(forrest, height, width);
+    @Override
+    public String solvePuzzle(PuzzleInput input) {
+        Grid forrest = Grid.parse(input);
+        int solution = countVisibleTrees(forrest);
 
         return String.valueOf(solution);
     }
 
-    private static int countVisibleTrees(int[][] forrest, int height, int width) {
+    /**
+     * Heights are compared as digit characters, the border is lower than any tree.
+     */
+    private static int countVisibleTrees(Grid forrest) {
         int result = 0;
 
-        for (int heightIdx = 0; heightIdx < height; heightIdx++) {
-            for (int widthIdx = 0; widthIdx < width; widthIdx++) {
-                if (heightIdx == 0 || heightIdx == height - 1 || widthIdx == 0 || widthIdx == height - 1) {
-                    result++;
-                } else {
-
-                    boolean north = true;
-                    for (int i = heightIdx - 1; i >= 0; i--) {
-                        if (forrest[i][widthIdx] >= forrest[heightIdx][widthIdx]) {
-                            north = false;
-                        }
-                    }
-
-                    boolean south = true;
-                    for (int i = heightIdx + 1; i < height; i++) {
-                        if (forrest[i][widthIdx] >= forrest[heightIdx][widthIdx]) {
-                            south = false;
-                        }
-                    }
-
-                    boolean west = true;
-                    for (int i = widthIdx - 1; i >= 0; i--) {
-                        if (forrest[heightIdx][i] >= forrest[heightIdx][widthIdx]) {
-                            west = false;
-                        }
-                    }
-
-                    boolean east = true;
-                    for (int i = widthIdx + 1; i < width; i++) {
-                        if (forrest[heightIdx][i] >= forrest[heightIdx][widthIdx]) {
-                            east = false;
-                        }
-                    }
-
-                    if (north || south || west || east) {
+        for (int y = 0; y < forrest.getHeight(); y++) {
+            for (int tree = forrest.index(0, y); tree < forrest.index(forrest.getWidth(), y); tree++) {
+                for (int offset : forrest.getNeighbours4()) {
+                    if (isVisible(forrest, tree, offset)) {
                         result++;
+                        break;
                     }
-
                 }
             }
         }
@@ -101,18 +76,13 @@ public class Part1 extends BasePuzzle {
 
     }
 
-
-    private static int[][] createForrest(List<String> lines, int height, int width) {
-        int[][] forrest = new int[height][width];
-
-        for (int i = 0; i < lines.size(); i++) {
-            String line = lines.get(i);
-            for (int n = 0; n < line.length(); n++) {
-                forrest[i][n] = Integer.valueOf(line.substring(n, n + 1));
+    private static boolean isVisible(Grid forrest, int tree, int offset) {
+        for (int i = tree + offset; !forrest.isBorder(i); i += offset) {
+            if (forrest.get(i) >= forrest.get(tree)) {
+                return false;
             }
         }
-
-        return forrest;
+        return true;
     }
 
     public Part1() {
@@ -1,6 +1,8 @@
 package ch.nostromo.adventofcode.year2022.day08;
 
 import ch.nostromo.adventofcode.BasePuzzle;
+import ch.nostromo.adventofcode.PuzzleInput;
+import ch.nostromo.adventofcode.utils.Grid;
 
 import java.util.LinkedList;
 import java.util.List;
@@ -83,65 +85,31 @@ public class Part2 extends BasePuzzle {
     private static final String EXPECTED_TEST_RESULT = "8";
 
     public String solvePuzzle(List<String> input) {
+        return solvePuzzle(PuzzleInput.of(input));
+    }
 
-        int height = input.size();
-        int width = input.get(0).length();
-
-        int[][] forrest = createForrest(input, height, width);
-        int solution = countVisibleTrees(forrest, height, width);
+    @Override
+    public String solvePuzzle(PuzzleInput input) {
+        Grid forrest = Grid.parse(input);
+        int solution = countVisibleTrees(forrest);
 
 
         return String.valueOf(solution);
 
     }
 
-    private static int countVisibleTrees(int[][] forrest, int height, int width) {
+    private static int countVisibleTrees(Grid forrest) {
         int result = 0;
 
-        for (int heightIdx = 1; heightIdx < height - 1; heightIdx++) {
-            for (int widthIdx = 1; widthIdx < width - 1; widthIdx++) {
-
-
-                int northDistance = 1;
-                for (int i = heightIdx - 1; i > 0; i--) {
-                    if (forrest[i][widthIdx] >= forrest[heightIdx][widthIdx]) {
-                        break;
-                    }
-                    northDistance++;
-
-                }
-
-                int southDitstance = 1;
-                for (int i = heightIdx + 1; i < height - 1; i++) {
-                    if (forrest[i][widthIdx] >= forrest[heightIdx][widthIdx]) {
-                        break;
-                    }
-                    southDitstance++;
-                }
-
-                int westDistance = 1;
-                for (int i = widthIdx - 1; i > 0; i--) {
-                    if (forrest[heightIdx][i] >= forrest[heightIdx][widthIdx]) {
-                        break;
-                    }
-                    westDistance++;
-
+        for (int y = 0; y < forrest.getHeight(); y++) {
+            for (int tree = forrest.index(0, y); tree < forrest.index(forrest.getWidth(), y); tree++) {
+                int scenicScore = 1;
+                for (int offset : forrest.getNeighbours4()) {
+                    scenicScore *= viewingDistance(forrest, tree, offset);
                 }
 
-                int eastDistance = 1;
-                for (int i = widthIdx + 1; i < width - 1; i++) {
-                    if (forrest[heightIdx][i] >= forrest[heightIdx][widthIdx]) {
-                        break;
-                    }
-
-                    eastDistance++;
-                }
-
-                int scenicScore = northDistance * southDitstance * eastDistance * westDistance;
-
                 if (scenicScore > result) {
                     result = scenicScore;
-
                 }
             }
         }
@@ -151,18 +119,15 @@ public class Part2 extends BasePuzzle {
 
     }
 
-
-    private static int[][] createForrest(List<String> lines, int height, int width) {
-        int[][] forrest = new int[height][width];
-
-        for (int i = 0; i < lines.size(); i++) {
-            String line = lines.get(i);
-            for (int n = 0; n < line.length(); n++) {
-                forrest[i][n] = Integer.valueOf(line.substring(n, n + 1));
+    private static int viewingDistance(Grid forrest, int tree, int offset) {
+        int distance = 0;
+        for (int i = tree + offset; !forrest.isBorder(i); i += offset) {
+            distance++;
+            if (forrest.get(i) >= forrest.get(tree)) {
+                break;
             }
         }
-
-        return forrest;
+        return distance;
     }
 
 
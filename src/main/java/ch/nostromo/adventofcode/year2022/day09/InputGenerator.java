@@ -0,0 +1,22 @@
+package ch.nostromo.adventofcode.year2022.day09;
+
+import ch.nostromo.adventofcode.BaseInputGenerator;
+
+import java.io.PrintWriter;
+import java.util.Random;
+
+/**
+ * Rope head motions of 1 to 20 steps, 2000 per scale unit.
+ */
+public class InputGenerator extends BaseInputGenerator {
+
+    @Override
+    public void generate(double scale, Random random, PrintWriter out) {
+        String directions = "RLUD";
+        int motions = scaled(2000, scale);
+        for (int i = 0; i < motions; i++) {
+            out.println(directions.charAt(random.nextInt(4)) + " " + between(random, 1, 20));
+        }
+    }
+
+}
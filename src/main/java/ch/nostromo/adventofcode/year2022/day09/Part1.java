@@ -1,12 +1,11 @@
 package ch.nostromo.adventofcode.year2022.day09;
 
 import ch.nostromo.adventofcode.BasePuzzle;
+import ch.nostromo.adventofcode.utils.collections.BitSet2D;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 
-import java.util.LinkedHashSet;
 import java.util.List;
-import java.util.Set;
 
 /**
  * --- Day 9: Rope Bridge ---
@@ -267,13 +266,13 @@ public class Part1 extends BasePuzzle {
     public String solvePuzzle(List<String> input) {
 
 
-        Set<Coordinates> visitedCoordinates = new LinkedHashSet<>();
+        BitSet2D visitedCoordinates = new BitSet2D();
 
         Coordinates currentHead = new Coordinates(0, 0);
         Coordinates currentTail = new Coordinates(0, 0);
 
 
-        visitedCoordinates.add(new Coordinates(0, 0));
+        visitedCoordinates.set(0, 0);
 
 
         for (String line : input) {
@@ -303,12 +302,12 @@ public class Part1 extends BasePuzzle {
 
         }
 
-        int solution = visitedCoordinates.size();
+        int solution = visitedCoordinates.cardinality();
 
         return String.valueOf(solution);
     }
 
-    private static void move(Set<Coordinates> visitedCoordinates, Coordinates currentHead, Coordinates currentTail, boolean isXAxis, int direction, int steps) {
+    private static void move(BitSet2D visitedCoordinates, Coordinates currentHead, Coordinates currentTail, boolean isXAxis, int direction, int steps) {
         for (int i = 0; i < steps; i++) {
             if (isXAxis) {
                 currentHead.setX(currentHead.getX() + direction);
@@ -336,7 +335,7 @@ public class Part1 extends BasePuzzle {
                 }
             }
 
-            visitedCoordinates.add(new Coordinates(currentTail.getX(), currentTail.getY()));
+            visitedCoordinates.set(currentTail.getX(), currentTail.getY());
 
         }
     }
@@ -1,13 +1,12 @@
 package ch.nostromo.adventofcode.year2022.day09;
 
 import ch.nostromo.adventofcode.BasePuzzle;
+import ch.nostromo.adventofcode.utils.collections.BitSet2D;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 
 import java.util.ArrayList;
-import java.util.LinkedHashSet;
 import java.util.List;
-import java.util.Set;
 
 
 /**
@@ -95,7 +94,7 @@ public class Part2 extends BasePuzzle {
     public String solvePuzzle(List<String> input) {
 
 
-        Set<Coordinates> visitedCoordinates = new LinkedHashSet<>();
+        BitSet2D visitedCoordinates = new BitSet2D();
 
         List<Coordinates> rope = new ArrayList<>();
         for (int i = 0; i < 10; i++) {
@@ -103,7 +102,7 @@ public class Part2 extends BasePuzzle {
         }
 
 
-        visitedCoordinates.add(new Coordinates(0, 0));
+        visitedCoordinates.set(0, 0);
 
 
         for (String line : input) {
@@ -133,13 +132,13 @@ public class Part2 extends BasePuzzle {
 
         }
 
-        int solution = visitedCoordinates.size();
+        int solution = visitedCoordinates.cardinality();
 
 
         return String.valueOf(solution);
     }
 
-    private static void move(Set<Coordinates> visitedCoordinates, List<Coordinates> rope, boolean isXAxis, int direction, int steps) {
+    private static void move(BitSet2D visitedCoordinates, List<Coordinates> rope, boolean isXAxis, int direction, int steps) {
 
         for (int i = 0; i < steps; i++) {
             if (isXAxis) {
@@ -202,7 +201,7 @@ public class Part2 extends BasePuzzle {
 
             }
 
-            visitedCoordinates.add(new Coordinates(rope.get(rope.size() - 1).getX(), rope.get(rope.size() - 1).getY()));
+            visitedCoordinates.set(rope.get(rope.size() - 1).getX(), rope.get(rope.size() - 1).getY());
 
         }
 
@@ -0,0 +1,71 @@
+package ch.nostromo.adventofcode.year2022.day11;
+
+import ch.nostromo.adventofcode.BaseInputGenerator;
+
+import java.io.PrintWriter;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Eight monkeys holding 36 items per scale unit.
+ * <p>
+ * The monkeys stay at eight with the divisors 2 to 19, as in the regular inputs: their product keeps the squared worry
+ * levels of part 2 within a long. One monkey squares, two multiply and the others add.
+ */
+public class InputGenerator extends BaseInputGenerator {
+
+    private static final int MONKEYS = 8;
+
+    private static final int[] DIVISORS = {2, 3, 5, 7, 11, 13, 17, 19};
+
+    @Override
+    public void generate(double scale, Random random, PrintWriter out) {
+        int items = scaled(36, scale);
+
+        List<Integer> divisors = new ArrayList<>();
+        for (int divisor : DIVISORS) {
+            divisors.add(divisor);
+        }
+        Collections.shuffle(divisors, random);
+
+        List<List<Integer>> holdings = new ArrayList<>();
+        for (int monkey = 0; monkey < MONKEYS; monkey++) {
+            holdings.add(new ArrayList<>());
+        }
+        // Every monkey starts with at least one item, the solvers cannot parse an empty list
+        for (int item = 0; item < items; item++) {
+            holdings.get(item < MONKEYS ? item : random.nextInt(MONKEYS)).add(between(random, 50, 99));
+        }
+
+        int squaring = random.nextInt(MONKEYS);
+        for (int monkey = 0; monkey < MONKEYS; monkey++) {
+            String operation;
+            if (monkey == squaring) {
+                operation = "* old";
+            } else if ((monkey + MONKEYS - squaring) % MONKEYS <= 2) {
+                operation = "* " + between(random, 2, 19);
+            } else {
+                operation = "+ " + between(random, 1, 8);
+            }
+
+            int onTrue = (monkey + between(random, 1, MONKEYS - 1)) % MONKEYS;
+            int onFalse;
+            do {
+                onFalse = (monkey + between(random, 1, MONKEYS - 1)) % MONKEYS;
+            } while (onFalse == onTrue);
+
+            if (monkey > 0) {
+                out.println();
+            }
+            out.println("Monkey " + monkey + ":");
+            out.println("  Starting items: " + String.join(", ", holdings.get(monkey).stream().map(String::valueOf).toList()));
+            out.println("  Operation: new = old " + operation);
+            out.println("  Test: divisible by " + divisors.get(monkey));
+            out.println("    If true: throw to monkey " + onTrue);
+            out.println("    If false: throw to monkey " + onFalse);
+        }
+    }
+
+}
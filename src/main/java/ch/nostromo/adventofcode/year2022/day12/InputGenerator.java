@@ -0,0 +1,43 @@
+package ch.nostromo.adventofcode.year2022.day12;
+
+import ch.nostromo.adventofcode.BaseInputGenerator;
+
+import java.io.PrintWriter;
+import java.util.Random;
+
+/**
+ * A heightmap of 160x40 per scale unit rising towards the best signal. The height drops by one every few steps away
+ * from it, with a random offset per cell, so neighbours never differ by more than one and every square can climb up.
+ * The start is in the farthest corner.
+ */
+public class InputGenerator extends BaseInputGenerator {
+
+    @Override
+    public void generate(double scale, Random random, PrintWriter out) {
+        int width = scaledSide(160, scale);
+        int height = scaledSide(40, scale);
+        int endX = between(random, width / 2, width - 1);
+        int endY = random.nextInt(height);
+        int maxDistance = Math.max(endX, width - 1 - endX) + Math.max(endY, height - 1 - endY);
+        int step = Math.max(1, maxDistance / 40);
+
+        for (int y = 0; y < height; y++) {
+            StringBuilder line = new StringBuilder(width);
+            for (int x = 0; x < width; x++) {
+                int distance = Math.abs(x - endX) + Math.abs(y - endY);
+                if (distance == 0) {
+                    line.append('E');
+                } else if (distance == maxDistance) {
+                    line.append('S');
+                } else if (distance == 1) {
+                    line.append('z');
+                } else {
+                    int drop = (distance + random.nextInt(step)) / step;
+                    line.append((char) ('z' - Math.min(drop, 25)));
+                }
+            }
+            out.println(line);
+        }
+    }
+
+}
@@ -1,14 +1,14 @@
 package ch.nostromo.adventofcode.year2022.day12;
 
 import ch.nostromo.adventofcode.BasePuzzle;
+import ch.nostromo.adventofcode.PuzzleInput;
+import ch.nostromo.adventofcode.utils.Grid;
+import ch.nostromo.adventofcode.utils.collections.IntArrayList;
+import ch.nostromo.adventofcode.utils.graph.Graph;
+import ch.nostromo.adventofcode.utils.graph.GraphSearch;
+import ch.nostromo.adventofcode.utils.graph.SearchResult;
 
-import java.util.ArrayList;
-import java.util.HashMap;
-import java.util.HashSet;
-import java.util.LinkedList;
 import java.util.List;
-import java.util.Map;
-import java.util.Set;
 
 
 /**
@@ -74,174 +74,75 @@ public class Part2 extends BasePuzzle {
 
     private static final String EXPECTED_TEST_RESULT = "29";
 
+    private static final char START = 'S';
 
-    public String solvePuzzle(List<String> input) {
-
-        int height = input.size();
-        int width = input.get(0).length();
-
-        int[][] map = createMap(input, height, width);
-        Node[][] nodes = new Node[height][width];
-
-        createNodes(nodes, map);
-
-        List<Node> startNodes = getNodesByNumber(nodes, map, 1);
-        Node endNode = getNodesByNumber(nodes, map, 27).get(0);
-
-        int solution = Integer.MAX_VALUE;
-        for (Node startNode : startNodes) {
-            calculateShortestPathFromSource(startNode);
-            solution = Math.min(endNode.distance, solution);
-        }
-
-        return String.valueOf( solution);
-    }
+    private static final char END = 'E';
 
-    private static List<Node> getNodesByNumber(Node[][] nodes, int[][] map, int number) {
 
-        List<Node> result = new ArrayList<>();
-        for (int y = 0; y < map.length; y++) {
-            for (int x = 0; x < map[y].length; x++) {
-                if (map[y][x] == number) {
-                    result.add(nodes[y][x]);
-                }
-            }
-        }
-        return result;
+    public String solvePuzzle(List<String> input) {
+        return solvePuzzle(PuzzleInput.of(input));
     }
 
-    private static void createNodes(Node[][] nodes, int[][] map) {
-        for (int y = 0; y < map.length; y++) {
-            for (int x = 0; x < map[y].length; x++) {
-                nodes[y][x] = new Node();
-            }
-        }
+    /**
+     * One breadth first search starting from all lowest squares at once.
+     */
+    @Override
+    public String solvePuzzle(PuzzleInput input) {
+        Grid map = Grid.parse(input);
+        Graph graph = createGraph(map);
 
-        // Link nodes
-        for (int y = 0; y < map.length; y++) {
-            for (int x = 0; x < map[y].length; x++) {
+        int end = map.indexOf(END);
 
-                int currentChar = map[y][x];
+        SearchResult result = new GraphSearch(graph).from(getSquaresByElevation(map, 'a')).to(end).bfs();
 
-                if (y > 0 && map[y - 1][x] - currentChar <= 1) {
-                    nodes[y][x].addDestination(nodes[y - 1][x], 1);
-                }
-                if (y < map.length - 1 && map[y + 1][x] - currentChar <= 1) {
-                    nodes[y][x].addDestination(nodes[y + 1][x], 1);
-                }
-                if (x > 0 && map[y][x - 1] - currentChar <= 1) {
-                    nodes[y][x].addDestination(nodes[y][x - 1], 1);
-                }
-                if (x < map[y].length - 1 && map[y][x + 1] - currentChar <= 1) {
-                    nodes[y][x].addDestination(nodes[y][x + 1], 1);
-                }
-            }
-        }
+        return String.valueOf(result.getDistance(end));
 
     }
 
-    private static int[][] createMap(List<String> lines, int height, int width) {
-        int[][] map = new int[height][width];
-
-        for (int i = 0; i < lines.size(); i++) {
-            String line = lines.get(i);
-            for (int n = 0; n < line.length(); n++) {
-                char character = line.charAt(n);
-                if (character == 'S') {
-                    map[i][n] = 0;
-                } else if (character == 'E') {
-                    map[i][n] = 27;
-                } else {
-                    int code = (int) character - 96;
-                    map[i][n] = code;
+    private static int[] getSquaresByElevation(Grid map, char elevation) {
+        IntArrayList result = new IntArrayList();
+        for (int y = 0; y < map.getHeight(); y++) {
+            for (int i = map.index(0, y); i < map.index(map.getWidth(), y); i++) {
+                if (map.get(i) == elevation) {
+                    result.add(i);
                 }
             }
         }
-
-        return map;
+        return result.toArray();
     }
 
-
-    // Dijkstra from Baeldung
-    public static class Node {
-
-        private List<Node> shortestPath = new LinkedList<>();
-        private Integer distance = Integer.MAX_VALUE;
-        Map<Node, Integer> adjacentNodes = new HashMap<>();
-
-        public void addDestination(Node destination, int distance) {
-            adjacentNodes.put(destination, distance);
-        }
-
-        public Integer getDistance() {
-            return distance;
-        }
-
-        public void setDistance(Integer distance) {
-            this.distance = distance;
-        }
-
-        public Map<Node, Integer> getAdjacentNodes() {
-            return adjacentNodes;
-        }
-
-        public List<Node> getShortestPath() {
-            return shortestPath;
-        }
-
-        public void setShortestPath(List<Node> shortestPath) {
-            this.shortestPath = shortestPath;
-        }
-    }
-
-    public static void calculateShortestPathFromSource(Node source) {
-        source.setDistance(0);
-
-        Set<Node> settledNodes = new HashSet<>();
-        Set<Node> unsettledNodes = new HashSet<>();
-
-        unsettledNodes.add(source);
-
-        while (unsettledNodes.size() != 0) {
-            Node currentNode = getLowestDistanceNode(unsettledNodes);
-            unsettledNodes.remove(currentNode);
-            for (Map.Entry<Node, Integer> adjacencyPair :
-                    currentNode.getAdjacentNodes().entrySet()) {
-                Node adjacentNode = adjacencyPair.getKey();
-                Integer edgeWeight = adjacencyPair.getValue();
-                if (!settledNodes.contains(adjacentNode)) {
-                    CalculateMinimumDistance(adjacentNode, edgeWeight, currentNode);
-                    unsettledNodes.add(adjacentNode);
+    /**
+     * Nodes are grid indices, an edge leads to every neighbour at most one higher.
+     */
+    private static Graph createGraph(Grid map) {
+        Graph.Builder graph = Graph.builder(map.getCells().length);
+
+        for (int y = 0; y < map.getHeight(); y++) {
+            for (int i = map.index(0, y); i < map.index(map.getWidth(), y); i++) {
+                for (int offset : map.getNeighbours4()) {
+                    int neighbour = i + offset;
+                    if (!map.isBorder(neighbour) && elevation(map.get(neighbour)) - elevation(map.get(i)) <= 1) {
+                        graph.addEdge(i, neighbour);
+                    }
                 }
             }
-            settledNodes.add(currentNode);
         }
-    }
 
-    private static Node getLowestDistanceNode(Set<Node> unsettledNodes) {
-        Node lowestDistanceNode = null;
-        int lowestDistance = Integer.MAX_VALUE;
-        for (Node node : unsettledNodes) {
-            int nodeDistance = node.getDistance();
-            if (nodeDistance < lowestDistance) {
-                lowestDistance = nodeDistance;
-                lowestDistanceNode = node;
-            }
-        }
-        return lowestDistanceNode;
+        return graph.build();
     }
 
-    private static void CalculateMinimumDistance(Node evaluationNode, Integer edgeWeigh, Node sourceNode) {
-        Integer sourceDistance = sourceNode.getDistance();
-        if (sourceDistance + edgeWeigh < evaluationNode.getDistance()) {
-            evaluationNode.setDistance(sourceDistance + edgeWeigh);
-            LinkedList<Node> shortestPath = new LinkedList<>(sourceNode.getShortestPath());
-            shortestPath.add(sourceNode);
-            evaluationNode.setShortestPath(shortestPath);
+    /**
+     * S is below a, E above z.
+     */
+    private static int elevation(byte height) {
+        if (height == START) {
+            return 'a' - 1;
+        } else if (height == END) {
+            return 'z' + 1;
         }
+        return height;
     }
 
-
     public Part2() {
         super(EXPECTED_TEST_RESULT);
     }
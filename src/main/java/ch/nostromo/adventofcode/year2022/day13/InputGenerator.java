@@ -0,0 +1,43 @@
+package ch.nostromo.adventofcode.year2022.day13;
+
+import ch.nostromo.adventofcode.BaseInputGenerator;
+
+import java.io.PrintWriter;
+import java.util.Random;
+
+/**
+ * Pairs of nested packets with integers from 0 to 10, 150 pairs per scale unit.
+ */
+public class InputGenerator extends BaseInputGenerator {
+
+    private static final int MAX_DEPTH = 4;
+
+    @Override
+    public void generate(double scale, Random random, PrintWriter out) {
+        int pairs = scaled(150, scale);
+        for (int pair = 0; pair < pairs; pair++) {
+            if (pair > 0) {
+                out.println();
+            }
+            out.println(list(random, 0, new StringBuilder()));
+            out.println(list(random, 0, new StringBuilder()));
+        }
+    }
+
+    private static StringBuilder list(Random random, int depth, StringBuilder packet) {
+        packet.append('[');
+        int size = between(random, depth == 0 ? 1 : 0, 5);
+        for (int i = 0; i < size; i++) {
+            if (i > 0) {
+                packet.append(',');
+            }
+            if (depth < MAX_DEPTH && random.nextInt(3) == 0) {
+                list(random, depth + 1, packet);
+            } else {
+                packet.append(random.nextInt(11));
+            }
+        }
+        return packet.append(']');
+    }
+
+}
@@ -0,0 +1,98 @@
+package ch.nostromo.adventofcode.year2022.day14;
+
+import ch.nostromo.adventofcode.BaseInputGenerator;
+
+import java.io.PrintWriter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * 150 rock paths per scale unit below the sand source, in a cave about 170 deep and 115 wide per scale unit. The depth
+ * is capped at 400 so that the sand of part 2 still fits the solvers' 1000x1000 map. Caves in which the sand of part 1
+ * piles up to the source instead of flowing into the abyss are thrown away and drawn again.
+ */
+public class InputGenerator extends BaseInputGenerator {
+
+    private static final int SOURCE_X = 500;
+
+    private static final int MAX_DEPTH = 400;
+
+    private static final int TOP = 15;
+
+    private static final int MAP_SIZE = 1000;
+
+    @Override
+    public void generate(double scale, Random random, PrintWriter out) {
+        int depth = Math.max(TOP, Math.min(MAX_DEPTH, scaledSide(170, scale)));
+        int halfWidth = Math.min(SOURCE_X - 10, scaledSide(57, scale));
+        int paths = scaled(150, scale);
+
+        List<String> lines;
+        boolean[][] rocks;
+        do {
+            lines = new ArrayList<>();
+            rocks = new boolean[depth + 2][MAP_SIZE];
+            for (int path = 0; path < paths; path++) {
+                lines.add(drawPath(random, depth, halfWidth, rocks));
+            }
+        } while (!sandFlowsOff(rocks));
+
+        lines.forEach(out::println);
+    }
+
+    private static String drawPath(Random random, int depth, int halfWidth, boolean[][] rocks) {
+        int x = between(random, SOURCE_X - halfWidth, SOURCE_X + halfWidth);
+        int y = between(random, TOP, depth);
+        rocks[y][x] = true;
+        StringBuilder line = new StringBuilder().append(x).append(',').append(y);
+
+        int segments = between(random, 1, 5);
+        boolean horizontal = random.nextBoolean();
+        for (int s = 0; s < segments; s++) {
+            int length = between(random, 1, 10) * (random.nextBoolean() ? 1 : -1);
+            int toX = horizontal ? Math.max(SOURCE_X - halfWidth, Math.min(SOURCE_X + halfWidth, x + length)) : x;
+            int toY = horizontal ? y : Math.max(TOP, Math.min(depth, y + length));
+            for (int i = Math.min(x, toX); i <= Math.max(x, toX); i++) {
+                for (int j = Math.min(y, toY); j <= Math.max(y, toY); j++) {
+                    rocks[j][i] = true;
+                }
+            }
+            x = toX;
+            y = toY;
+            horizontal = !horizontal;
+            line.append(" -> ").append(x).append(',').append(y);
+        }
+        return line.toString();
+    }
+
+    /**
+     * Drops sand as in part 1, marking the resting units in {@code rocks}, until a unit falls below the lowest rock
+     * (true) or the source is covered (false).
+     */
+    private static boolean sandFlowsOff(boolean[][] rocks) {
+        int bottom = rocks.length - 1;
+        while (!rocks[0][SOURCE_X]) {
+            int x = SOURCE_X;
+            int y = 0;
+            while (true) {
+                if (y == bottom) {
+                    return true;
+                } else if (!rocks[y + 1][x]) {
+                    y++;
+                } else if (!rocks[y + 1][x - 1]) {
+                    y++;
+                    x--;
+                } else if (!rocks[y + 1][x + 1]) {
+                    y++;
+                    x++;
+                } else {
+                    break;
+                }
+            }
+            rocks[y][x] = true;
+        }
+        return false;
+    }
+
+}
@@ -1,6 +1,7 @@
 package ch.nostromo.adventofcode.year2022.day14;
 
 import ch.nostromo.adventofcode.BasePuzzle;
+import ch.nostromo.adventofcode.utils.Grid;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 
@@ -167,15 +168,22 @@ public class Part2 extends BasePuzzle {
 
     private static final String EXPECTED_TEST_RESULT = "93";
 
+    /**
+     * Side of the square cave map, wide enough for the sand of part 2 to pile up below the source.
+     */
+    private static final int MAP_SIZE = 1000;
+
+    private static final int SOURCE_X = 500;
+
 
     public String solvePuzzle(List<String> input) {
 
         int result = 0;
 
         List<Wall> walls = getWalls(input);
-        String[][] map = drawMap(walls);
+        Grid map = drawMap(walls);
 
-        while (dropSand(map, new Coordinates("500,0"))) {
+        while (dropSand(map, map.index(SOURCE_X, 0))) {
             result ++;
         }
 
@@ -185,38 +193,37 @@ public class Part2 extends BasePuzzle {
     }
 
 
-    private boolean dropSand(String[][] map, Coordinates drop) {
+    private boolean dropSand(Grid map, int drop) {
+        int stride = map.getStride();
+
+        if (map.get(drop) == 'o') {
+            return false;
+        }
 
         boolean placeFound = true;
         while (placeFound) {
 
-            if (map[500][0].equals("o")) {
-                return false;
-            }
-
-
             placeFound = false;
             // Check direction below
-            if (map[drop.getX()][drop.getY() + 1].equals(".")) {
-                drop.setY(drop.getY() + 1);
+            if (map.get(drop + stride) == '.') {
+                drop += stride;
                 placeFound = true;
-            } else if (map[drop.getX() -1][drop.getY() + 1].equals(".")) {
-                drop.setX(drop.getX() - 1);
-                drop.setY(drop.getY() + 1);
+            } else if (map.get(drop + stride - 1) == '.') {
+                drop += stride - 1;
                 placeFound = true;
-            } else if (map[drop.getX() + 1][drop.getY() + 1].equals(".")) {
-                drop.setX(drop.getX() + 1);
-                drop.setY(drop.getY() + 1);
+            } else if (map.get(drop + stride + 1) == '.') {
+                drop += stride + 1;
                 placeFound = true;
             }
 
-            if (drop.getY() > 998) {
+            // Sand in the last row has nothing below it but the abyss
+            if (map.y(drop) >= map.getHeight() - 1) {
                 return false;
             }
 
         }
 
-        map[drop.getX()][ drop.getY()] = "o";
+        map.set(drop, 'o');
         return true;
 
     }
@@ -275,23 +282,18 @@ public class Part2 extends BasePuzzle {
 
     }
 
-    private String[][] drawMap(List<Wall> walls) {
-        String[][] map = new String[1000][1000];
-        for (int x = 0; x < 1000; x++) {
-            for (int y = 0; y < 1000; y++) {
-                map[x][y] = ".";
-            }
-        }
+    private Grid drawMap(List<Wall> walls) {
+        Grid map = new Grid(MAP_SIZE, MAP_SIZE, '.');
 
         // Add Walls
         for (Wall wall : walls) {
             if (wall.isHorizontal()) {
                 for (int x = Math.min(wall.getTo().getX(), wall.getFrom().getX()); x <= Math.max(wall.getTo().getX(), wall.getFrom().getX()); x++) {
-                    map[x][wall.getFrom().getY()] = "#";
+                    map.set(x, wall.getFrom().getY(), '#');
                 }
             } else {
                 for (int y = Math.min(wall.getTo().getY(), wall.getFrom().getY()); y <= Math.max(wall.getTo().getY(), wall.getFrom().getY()); y++) {
-                    map[wall.getFrom().getX()][y] = "#";
+                    map.set(wall.getFrom().getX(), y, '#');
                 }
 
             }
@@ -300,14 +302,14 @@ public class Part2 extends BasePuzzle {
 
         // Add Floor
         Coordinates floorY = getMaxCoords(walls);
-        for (int x = 0; x < 1000; x++) {
-            map[x][floorY.getY() + 2] = "#";
+        for (int x = 0; x < map.getWidth(); x++) {
+            map.set(x, floorY.getY() + 2, '#');
         }
 
         return map;
     }
 
-    private void dumpMap(String[][] map, List<Wall> walls) {
+    private void dumpMap(Grid map, List<Wall> walls) {
         Coordinates minCoords = getMinCoords(walls);
         Coordinates maxCoords = getMaxCoords(walls);
 
@@ -315,7 +317,7 @@ public class Part2 extends BasePuzzle {
         for (int y = minCoords.getY() - 1; y < maxCoords.getY() + 4; y++) {
             StringBuilder line = new StringBuilder();
             for (int x = minCoords.getX() -1; x < maxCoords.getX() +4; x++) {
-                line.append(map[x][y]);
+                line.append((char) map.get(x, y));
             }
 
             result.append(line + "\n");
@@ -328,7 +330,7 @@ public class Part2 extends BasePuzzle {
 
 
     private Coordinates getMinCoords(List<Wall> walls) {
-        Coordinates result = new Coordinates("1000,1000");
+        Coordinates result = new Coordinates(MAP_SIZE + "," + MAP_SIZE);
 
         for (Wall wall : walls) {
             int minX = Math.min(wall.getFrom().getX(), wall.getTo().getX());
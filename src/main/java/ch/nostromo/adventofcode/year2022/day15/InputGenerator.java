@@ -0,0 +1,48 @@
+package ch.nostromo.adventofcode.year2022.day15;
+
+import ch.nostromo.adventofcode.BaseInputGenerator;
+
+import java.io.PrintWriter;
+import java.util.Random;
+
+/**
+ * 30 sensors per scale unit around a single hidden spot in the 4000000x4000000 search area. Four sensors in the
+ * corners of the area reach up to the spot and together cover everything else; none of the others reaches it.
+ */
+public class InputGenerator extends BaseInputGenerator {
+
+    private static final int AREA = 4000000;
+
+    @Override
+    public void generate(double scale, Random random, PrintWriter out) {
+        int spotX = between(random, AREA / 10, AREA - AREA / 10);
+        int spotY = between(random, AREA / 10, AREA - AREA / 10);
+
+        int[][] corners = {{0, 0}, {AREA, 0}, {0, AREA}, {AREA, AREA}};
+        int sensors = Math.max(corners.length, scaled(30, scale));
+        for (int s = 0; s < sensors; s++) {
+            int x;
+            int y;
+            int reach;
+            if (s < corners.length) {
+                x = corners[s][0];
+                y = corners[s][1];
+                reach = Math.abs(x - spotX) + Math.abs(y - spotY) - 1;
+            } else {
+                int distance;
+                do {
+                    x = random.nextInt(AREA + 1);
+                    y = random.nextInt(AREA + 1);
+                    distance = Math.abs(x - spotX) + Math.abs(y - spotY);
+                } while (distance < 2);
+                reach = between(random, (distance + 1) / 2, distance - 1);
+            }
+
+            int along = between(random, 0, reach);
+            int beaconX = x + (random.nextBoolean() ? along : -along);
+            int beaconY = y + (random.nextBoolean() ? reach - along : along - reach);
+            out.println("Sensor at x=" + x + ", y=" + y + ": closest beacon is at x=" + beaconX + ", y=" + beaconY);
+        }
+    }
+
+}
@@ -1,14 +1,13 @@
 package ch.nostromo.adventofcode.year2022.day15;
 
 import ch.nostromo.adventofcode.BasePuzzle;
+import ch.nostromo.adventofcode.utils.range.Interval;
+import ch.nostromo.adventofcode.utils.range.IntervalSet;
 import lombok.AllArgsConstructor;
 import lombok.Data;
-import lombok.experimental.SuperBuilder;
 
 import java.util.ArrayList;
-import java.util.HashSet;
 import java.util.List;
-import java.util.Set;
 
 /**
  * --- Day 15: Beacon Exclusion Zone ---
@@ -127,27 +126,27 @@ public class Part1 extends BasePuzzle {
             beacons.add(getBeacon(line));
         }
 
-        int minX = Integer.MAX_VALUE;
-        int maxX = Integer.MIN_VALUE;
+        // Every sensor covers one interval of the row, minus the sensors and beacons sitting on it
+        List<Interval> covered = new ArrayList<>();
+        List<Interval> occupied = new ArrayList<>();
         for (Coordinates sensor : sensors) {
-            minX = Math.min(minX, sensor.getX() - sensor.getDistanceToBeacon());
-            maxX = Math.max(maxX, sensor.getX() + sensor.getDistanceToBeacon());
+            int reach = sensor.getDistanceToBeacon() - Math.abs(sensor.getY() - yAxis);
+            if (reach >= 0) {
+                covered.add(Interval.closed(sensor.getX() - reach, sensor.getX() + reach));
+            }
+            if (sensor.getY() == yAxis) {
+                occupied.add(Interval.closed(sensor.getX(), sensor.getX()));
+            }
         }
-
-        Set<Integer> resultCoords = new HashSet<>();
-
-        for (int x = minX; x <= maxX; x++) {
-            for (Coordinates sensor : sensors) {
-                int sensorToBeaconDistance = Math.abs(sensor.getX() - sensor.getClosestBeacon().getX()) + Math.abs(sensor.getY() - sensor.getClosestBeacon().getY());
-                int sensorToCoordinateDistance = Math.abs(sensor.getX() - x) + Math.abs(sensor.getY() - yAxis);
-
-                if (sensorToBeaconDistance >= sensorToCoordinateDistance && !sensors.contains(new Coordinates(x, yAxis, null)) && !beacons.contains(new Coordinates(x, yAxis, null))) {
-                    resultCoords.add(x);
-                }
+        for (Coordinates beacon : beacons) {
+            if (beacon.getY() == yAxis) {
+                occupied.add(Interval.closed(beacon.getX(), beacon.getX()));
             }
         }
 
-        return String.valueOf(resultCoords.size());
+        IntervalSet result = IntervalSet.of(covered).difference(IntervalSet.of(occupied));
+
+        return String.valueOf(result.measure());
 
     }
 
@@ -1,6 +1,8 @@
 package ch.nostromo.adventofcode.year2022.day15;
 
 import ch.nostromo.adventofcode.BasePuzzle;
+import ch.nostromo.adventofcode.utils.range.Interval;
+import ch.nostromo.adventofcode.utils.range.IntervalSet;
 import lombok.Data;
 
 import java.util.ArrayList;
@@ -130,69 +132,66 @@ public class Part2 extends BasePuzzle {
             sensors.add(getSensor(line));
         }
 
+        // Rotated by 45 degrees (u = x + y, v = x - y) the sensor diamonds become squares. The free spot is just
+        // outside one of them, so it lies on one of the lines u = su +- (r + 1) or v = sv +- (r + 1).
         Coordinates freeCoordinates = null;
-
         for (Coordinates sensor : sensors) {
-
-            freeCoordinates = travelDiamondSide(sensors, maxCoordRange, sensor, -1, +1);
-            if (freeCoordinates != null) {
-                break;
-            }
-
-            freeCoordinates = travelDiamondSide(sensors, maxCoordRange, sensor, -1, -1);
-            if (freeCoordinates != null) {
-                break;
-            }
-
-            freeCoordinates = travelDiamondSide(sensors, maxCoordRange, sensor, +1, -1);
-            if (freeCoordinates != null) {
-                break;
+            int u = sensor.getX() + sensor.getY();
+            int v = sensor.getX() - sensor.getY();
+            int r = sensor.getDistanceToBeacon() + 1;
+
+            long[] lines = {u - r, u + r, v - r, v + r};
+            for (int i = 0; i < lines.length; i++) {
+                freeCoordinates = findFree(sensors, maxCoordRange, lines[i], i < 2);
+                if (freeCoordinates != null) {
+                    break;
+                }
             }
-
-            freeCoordinates = travelDiamondSide(sensors, maxCoordRange, sensor, +1, +1);
             if (freeCoordinates != null) {
                 break;
             }
-
         }
 
         return String.valueOf((long) freeCoordinates.getX() * 4000000L + (long) freeCoordinates.getY());
 
     }
 
-    private Coordinates travelDiamondSide(List<Coordinates> sensors, int maxCoordRange, Coordinates sensor, int xMulti, int yMulti) {
-        int x = sensor.getX() + (sensor.getDistanceToBeacon() + 1);
-        int y = sensor.getY();
-
-        for (int i = 0; i < sensor.getDistanceToBeacon() + 2; i++) {
-            if (!isReachableByOtherSensors(sensors, sensor, x, y, maxCoordRange)) {
-                return new Coordinates(x, y, null);
-            }
-            y += (1 * xMulti);
-            x += (1 * yMulti);
-        }
-        return null;
-    }
-
-
-    boolean isReachableByOtherSensors(List<Coordinates> sensors, Coordinates currentSensor, int x, int y, int maxCoords) {
+    /**
+     * Looks for an uncovered spot on the line u = {@code line} (or v = {@code line}) inside the search area.
+     */
+    private Coordinates findFree(List<Coordinates> sensors, long maxCoordRange, long line, boolean uLine) {
+        List<Interval> covered = new ArrayList<>();
         for (Coordinates sensor : sensors) {
-            if (!currentSensor.equals(sensor)) {
-                if (sensor.isInReach(x, y)) {
-                    return true;
-                }
+            long u = sensor.getX() + sensor.getY();
+            long v = sensor.getX() - sensor.getY();
+            long r = sensor.getDistanceToBeacon();
+
+            long across = uLine ? u : v;
+            long along = uLine ? v : u;
+            if (Math.abs(line - across) <= r) {
+                covered.add(Interval.closed(along - r, along + r));
             }
         }
 
-        if (x >= 0 && x <= maxCoords && y >= 0 && y <= maxCoords) {
-            return false;
+        // Part of the line with 0 <= x, y <= max
+        long first = uLine ? Math.max(-line, line - 2 * maxCoordRange) : Math.max(-line, line);
+        long last = uLine ? Math.min(2 * maxCoordRange - line, line) : Math.min(2 * maxCoordRange - line, 2 * maxCoordRange + line);
+        if (last < first) {
+            return null;
         }
 
-        // Well it is out of range, though ;)
-        return true;
+        for (Interval free : IntervalSet.of(Interval.closed(first, last)).difference(IntervalSet.of(covered)).getIntervals()) {
+            // u and v of a grid point have the same parity
+            long along = (free.start() + line) % 2 == 0 ? free.start() : free.start() + 1;
+            if (along < free.end()) {
+                long u = uLine ? line : along;
+                long v = uLine ? along : line;
+                return new Coordinates((int) ((u + v) / 2), (int) ((u - v) / 2), null);
+            }
+        }
+        return null;
     }
 
-
     private Coordinates getBeacon(String line) {
         int xPos = line.indexOf("x=", line.indexOf(":"));
         int yPos = line.indexOf("y=", xPos);
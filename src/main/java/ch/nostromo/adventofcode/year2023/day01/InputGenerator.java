@@ -0,0 +1,37 @@
+package ch.nostromo.adventofcode.year2023.day01;
+
+import ch.nostromo.adventofcode.BaseInputGenerator;
+
+import java.io.PrintWriter;
+import java.util.Random;
+
+/**
+ * Calibration lines of letters, spelled out and plain digits, 1000 per scale unit. Every line holds a plain digit.
+ */
+public class InputGenerator extends BaseInputGenerator {
+
+    @Override
+    public void generate(double scale, Random random, PrintWriter out) {
+        String[] words = {"one", "two", "three", "four", "five", "six", "seven", "eight", "nine"};
+        int lines = scaled(1000, scale);
+        for (int i = 0; i < lines; i++) {
+            StringBuilder line = new StringBuilder();
+            int tokens = between(random, 2, 8);
+            int digitToken = random.nextInt(tokens);
+            for (int t = 0; t < tokens; t++) {
+                int kind = t == digitToken ? 0 : random.nextInt(3);
+                if (kind == 0) {
+                    line.append(between(random, 1, 9));
+                } else if (kind == 1) {
+                    line.append(words[random.nextInt(words.length)]);
+                } else {
+                    for (int c = between(random, 1, 5); c > 0; c--) {
+                        line.append((char) ('a' + random.nextInt(26)));
+                    }
+                }
+            }
+            out.println(line);
+        }
+    }
+
+}
@@ -1,10 +1,12 @@
 package ch.nostromo.adventofcode.year2023.day01;
 
 import ch.nostromo.adventofcode.BasePuzzle;
+import ch.nostromo.adventofcode.StreamingPuzzle;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 
 import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.List;
 import java.util.StringTokenizer;
 
@@ -32,35 +34,41 @@ import java.util.StringTokenizer;
  * <p>
  * Consider your entire calibration document. What is the sum of all of the calibration values?
  */
-public class Part1 extends BasePuzzle {
+public class Part1 extends BasePuzzle implements StreamingPuzzle {
 
     private static final String EXPECTED_TEST_RESULT = "142";
 
     public String solvePuzzle(List<String> input) {
+        return solvePuzzle(input.iterator());
+    }
+
+    @Override
+    public String solvePuzzle(Iterator<? extends CharSequence> lines) {
 
         int result = 0;
 
-        for (String line : input) {
-            result += parseLine(line);
+        while (lines.hasNext()) {
+            result += parseLine(lines.next());
         }
 
         return String.valueOf(result);
     }
 
-    private int parseLine(String line) {
-        Character firstDigit = null;
-        Character lastDigit = null;
+    private int parseLine(CharSequence line) {
+        int firstDigit = -1;
+        int lastDigit = -1;
 
-        for (char c : line.toCharArray()) {
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
             if (Character.isDigit(c)) {
-                if (firstDigit == null) {
-                    firstDigit = c;
+                if (firstDigit == -1) {
+                    firstDigit = c - '0';
                 }
-                lastDigit = c;
+                lastDigit = c - '0';
             }
         }
 
-        return Integer.valueOf(firstDigit + "" + lastDigit);
+        return firstDigit * 10 + lastDigit;
     }
 
 
@@ -1,8 +1,10 @@
 package ch.nostromo.adventofcode.year2023.day01;
 
 import ch.nostromo.adventofcode.BasePuzzle;
+import ch.nostromo.adventofcode.StreamingPuzzle;
 import lombok.Data;
 
+import java.util.Iterator;
 import java.util.List;
 
 /**
@@ -47,7 +49,7 @@ import java.util.List;
  * 7pqrstsixteen
  * In this example, the calibration values are 29, 83, 13, 24, 42, 14, and 76. Adding these together produces 281.
  */
-public class Part2 extends BasePuzzle {
+public class Part2 extends BasePuzzle implements StreamingPuzzle {
 
     private static final String EXPECTED_TEST_RESULT = "281";
 
@@ -70,10 +72,15 @@ public class Part2 extends BasePuzzle {
     }
 
     public String solvePuzzle(List<String> input) {
+        return solvePuzzle(input.iterator());
+    }
+
+    @Override
+    public String solvePuzzle(Iterator<? extends CharSequence> lines) {
         int result = 0;
 
-        for (String line : input) {
-            result += parseLine(line);
+        while (lines.hasNext()) {
+            result += parseLine(lines.next().toString());
         }
 
         return String.valueOf(result);
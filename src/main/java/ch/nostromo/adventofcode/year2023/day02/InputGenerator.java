@@ -0,0 +1,37 @@
+package ch.nostromo.adventofcode.year2023.day02;
+
+import ch.nostromo.adventofcode.BaseInputGenerator;
+
+import java.io.PrintWriter;
+import java.util.Random;
+
+/**
+ * Games of 1 to 6 draws of up to 20 cubes per color, 100 per scale unit.
+ */
+public class InputGenerator extends BaseInputGenerator {
+
+    @Override
+    public void generate(double scale, Random random, PrintWriter out) {
+        String[] colors = {"red", "green", "blue"};
+        int games = scaled(100, scale);
+        for (int game = 1; game <= games; game++) {
+            StringBuilder line = new StringBuilder("Game " + game + ":");
+            int draws = between(random, 1, 6);
+            for (int draw = 0; draw < draws; draw++) {
+                if (draw > 0) {
+                    line.append(';');
+                }
+                int first = random.nextInt(3);
+                int count = between(random, 1, 3);
+                for (int c = 0; c < count; c++) {
+                    if (c > 0) {
+                        line.append(',');
+                    }
+                    line.append(' ').append(between(random, 1, 20)).append(' ').append(colors[(first + c) % 3]);
+                }
+            }
+            out.println(line);
+        }
+    }
+
+}
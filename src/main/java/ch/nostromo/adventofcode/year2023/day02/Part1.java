@@ -1,7 +1,9 @@
 package ch.nostromo.adventofcode.year2023.day02;
 
 import ch.nostromo.adventofcode.BasePuzzle;
+import ch.nostromo.adventofcode.StreamingPuzzle;
 
+import java.util.Iterator;
 import java.util.List;
 
 /**
@@ -31,16 +33,21 @@ import java.util.List;
  * <p>
  * Determine which games would have been possible if the bag had been loaded with only 12 red cubes, 13 green cubes, and 14 blue cubes. What is the sum of the IDs of those games?
  */
-public class Part1 extends BasePuzzle {
+public class Part1 extends BasePuzzle implements StreamingPuzzle {
 
     private static final String EXPECTED_TEST_RESULT = "8";
 
     public String solvePuzzle(List<String> input) {
+        return solvePuzzle(input.iterator());
+    }
+
+    @Override
+    public String solvePuzzle(Iterator<? extends CharSequence> lines) {
 
         int result = 0;
 
-        for (int i = 0; i < input.size(); i++) {
-            String line = input.get(i);
+        for (int i = 0; lines.hasNext(); i++) {
+            String line = lines.next().toString();
             int maxBlue = getMax(line, "blue");
             int maxRed = getMax(line, "red");
             int maxGreen = getMax(line, "green");
@@ -1,7 +1,9 @@
 package ch.nostromo.adventofcode.year2023.day02;
 
 import ch.nostromo.adventofcode.BasePuzzle;
+import ch.nostromo.adventofcode.StreamingPuzzle;
 
+import java.util.Iterator;
 import java.util.List;
 
 /**
@@ -56,16 +58,21 @@ import java.util.List;
  * <p>
  * Your puzzle answer was 63711.
  */
-public class Part2 extends BasePuzzle {
+public class Part2 extends BasePuzzle implements StreamingPuzzle {
 
     private static final String EXPECTED_TEST_RESULT = "2286";
 
     public String solvePuzzle(List<String> input) {
+        return solvePuzzle(input.iterator());
+    }
+
+    @Override
+    public String solvePuzzle(Iterator<? extends CharSequence> lines) {
 
         int result = 0;
 
-        for (int i = 0; i < input.size(); i++) {
-            String line = input.get(i);
+        for (int i = 0; lines.hasNext(); i++) {
+            String line = lines.next().toString();
             int maxBlue = getMax(line, "blue");
             int maxRed = getMax(line, "red");
             int maxGreen = getMax(line, "green");
@@ -0,0 +1,40 @@
+package ch.nostromo.adventofcode.year2023.day03;
+
+import ch.nostromo.adventofcode.BaseInputGenerator;
+
+import java.io.PrintWriter;
+import java.util.Random;
+
+/**
+ * A square engine schematic of numbers with up to three digits and symbols, 140x140 per scale unit. Half of the
+ * symbols are gears.
+ */
+public class InputGenerator extends BaseInputGenerator {
+
+    private static final String SYMBOLS = "#$%&+-/=@";
+
+    @Override
+    public void generate(double scale, Random random, PrintWriter out) {
+        int side = scaledSide(140, scale);
+        for (int y = 0; y < side; y++) {
+            StringBuilder line = new StringBuilder(side);
+            while (line.length() < side) {
+                double roll = random.nextDouble();
+                if (roll < 0.08) {
+                    String number = String.valueOf(between(random, 1, 999));
+                    if (line.length() + number.length() < side) {
+                        // Always followed by a dot, so numbers never run into each other
+                        line.append(number).append('.');
+                        continue;
+                    }
+                } else if (roll < 0.11) {
+                    line.append(random.nextBoolean() ? '*' : SYMBOLS.charAt(random.nextInt(SYMBOLS.length())));
+                    continue;
+                }
+                line.append('.');
+            }
+            out.println(line);
+        }
+    }
+
+}
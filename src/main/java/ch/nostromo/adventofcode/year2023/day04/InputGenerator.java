@@ -0,0 +1,48 @@
+package ch.nostromo.adventofcode.year2023.day04;
+
+import ch.nostromo.adventofcode.BaseInputGenerator;
+
+import java.io.PrintWriter;
+import java.util.Random;
+
+/**
+ * Scratchcards with 10 winning and 25 own numbers, 200 per scale unit.
+ * <p>
+ * Cards win 0 to 3 matches with falling probability, so the number of card copies stays linear in the number of cards.
+ */
+public class InputGenerator extends BaseInputGenerator {
+
+    @Override
+    public void generate(double scale, Random random, PrintWriter out) {
+        int cards = scaled(200, scale);
+        int width = String.valueOf(cards).length();
+        for (int card = 1; card <= cards; card++) {
+            double roll = random.nextDouble();
+            int matches = roll < 0.6 ? 0 : roll < 0.85 ? 1 : roll < 0.95 ? 2 : 3;
+
+            // Shuffle 1..99 and take winning numbers, matches and misses from disjoint parts
+            int[] numbers = new int[99];
+            for (int i = 0; i < numbers.length; i++) {
+                numbers[i] = i + 1;
+            }
+            for (int i = numbers.length - 1; i > 0; i--) {
+                int j = random.nextInt(i + 1);
+                int swap = numbers[i];
+                numbers[i] = numbers[j];
+                numbers[j] = swap;
+            }
+
+            StringBuilder line = new StringBuilder(String.format("Card %" + width + "d:", card));
+            for (int i = 0; i < 10; i++) {
+                line.append(String.format(" %2d", numbers[i]));
+            }
+            line.append(" |");
+            for (int i = 0; i < 25; i++) {
+                int number = i < matches ? numbers[i] : numbers[10 + i];
+                line.append(String.format(" %2d", number));
+            }
+            out.println(line);
+        }
+    }
+
+}
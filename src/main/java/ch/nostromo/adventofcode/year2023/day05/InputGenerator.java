@@ -0,0 +1,59 @@
+package ch.nostromo.adventofcode.year2023.day05;
+
+import ch.nostromo.adventofcode.BaseInputGenerator;
+
+import java.io.PrintWriter;
+import java.util.Arrays;
+import java.util.Random;
+
+/**
+ * An almanac of 10 seed ranges and 30 ranges in each of the seven maps per scale unit. Like the real almanacs, every
+ * map shuffles the pieces of one span of numbers among each other and leaves the rest as it is.
+ */
+public class InputGenerator extends BaseInputGenerator {
+
+    private static final String[] CATEGORIES = {"seed", "soil", "fertilizer", "water", "light", "temperature", "humidity", "location"};
+
+    private static final long MAX_NUMBER = 4000000000L;
+
+    @Override
+    public void generate(double scale, Random random, PrintWriter out) {
+        StringBuilder seeds = new StringBuilder("seeds:");
+        int seedRanges = scaled(10, scale);
+        for (int i = 0; i < seedRanges; i++) {
+            long start = between(random, 0L, MAX_NUMBER - 1);
+            long length = between(random, 1L, Math.min(MAX_NUMBER - start, 500000000L));
+            seeds.append(' ').append(start).append(' ').append(length);
+        }
+        out.println(seeds);
+
+        int ranges = scaled(30, scale);
+        for (int map = 0; map + 1 < CATEGORIES.length; map++) {
+            out.println();
+            out.println(CATEGORIES[map] + "-to-" + CATEGORIES[map + 1] + " map:");
+
+            long[] cuts = new long[ranges + 1];
+            for (int i = 0; i < cuts.length; i++) {
+                cuts[i] = between(random, 0L, MAX_NUMBER);
+            }
+            Arrays.sort(cuts);
+
+            // The pieces in random order, laid out one after the other from the start of the span
+            int[] order = new int[ranges];
+            for (int i = 0; i < ranges; i++) {
+                int j = random.nextInt(i + 1);
+                order[i] = order[j];
+                order[j] = i;
+            }
+            long destination = cuts[0];
+            for (int piece : order) {
+                long length = cuts[piece + 1] - cuts[piece];
+                if (length > 0) {
+                    out.println(destination + " " + cuts[piece] + " " + length);
+                    destination += length;
+                }
+            }
+        }
+    }
+
+}
@@ -1,7 +1,7 @@
 package ch.nostromo.adventofcode.year2023.day05;
 
 import ch.nostromo.adventofcode.BasePuzzle;
-import lombok.Data;
+import ch.nostromo.adventofcode.utils.range.RangeMap;
 
 import java.util.*;
 
@@ -110,44 +110,18 @@ public class Part1 extends BasePuzzle {
 
     public String solvePuzzle(List<String> input) {
         List<Long> seeds = readSeed(input.get(0));
-        List<GardenerMap> gardenerMaps = readMaps(input);
+        // All seven maps precompiled into one seed-to-location map
+        RangeMap almanac = RangeMap.compose(readMaps(input));
 
-        Long result = Long.MAX_VALUE;
+        long result = Long.MAX_VALUE;
 
-        for (Long seed : seeds) {
-            for (GardenerMap maps : gardenerMaps) {
-                seed = maps.getLocation(seed);
-            }
-            result = Math.min(result, seed);
+        for (long seed : seeds) {
+            result = Math.min(result, almanac.apply(seed));
         }
 
         return String.valueOf(result);
     }
 
-    @Data
-    public class GardenerMap {
-        List<GardenerMapLine> lines = new ArrayList<>();
-
-        public long getLocation(long seed) {
-            long result = seed;
-            for (GardenerMapLine line : lines) {
-                // Range hit?
-                if (line.getSourceRangeStart() <= seed && line.getSourceRangeStart() + line.getRange() >= seed) {
-                    return line.getDestinationRangeStart() + (seed - line.getSourceRangeStart());
-                }
-            }
-
-            return result;
-        }
-    }
-
-    @Data
-    public class GardenerMapLine {
-        long destinationRangeStart;
-        long sourceRangeStart;
-        long range;
-    }
-
     private List<Long> readSeed(String line) {
         List<Long> result = new ArrayList<>();
         for (String str : line.split(":")[1].trim().split("\\s+")) {
@@ -157,26 +131,28 @@ public class Part1 extends BasePuzzle {
         return result;
     }
 
-    private List<GardenerMap> readMaps(List<String> input) {
-        List<GardenerMap> result = new ArrayList<>();
-        GardenerMap currentMap = null;
+    private List<RangeMap> readMaps(List<String> input) {
+        List<RangeMap> result = new ArrayList<>();
+        RangeMap.Builder currentMap = null;
         for (String line : input) {
             if (line.contains("map")) {
-                currentMap = new GardenerMap();
-                result.add(currentMap);
+                if (currentMap != null) {
+                    result.add(currentMap.build());
+                }
+                currentMap = RangeMap.builder();
             } else if (line.isEmpty() || line.contains("seeds:")) {
                 // There is nothing to see here ;)
             } else {
                 String[] numbers = line.split("\\s+");
-                GardenerMapLine mapLine = new GardenerMapLine();
-                mapLine.setDestinationRangeStart(Long.valueOf(numbers[0]));
-                mapLine.setSourceRangeStart(Long.valueOf(numbers[1]));
-                mapLine.setRange(Long.valueOf(numbers[2]));
-                currentMap.lines.add(mapLine);
+                currentMap.map(Long.parseLong(numbers[1]), Long.parseLong(numbers[0]), Long.parseLong(numbers[2]));
             }
 
         }
 
+        if (currentMap != null) {
+            result.add(currentMap.build());
+        }
+
         return result;
     }
 
@@ -1,7 +1,9 @@
 package ch.nostromo.adventofcode.year2023.day05;
 
 import ch.nostromo.adventofcode.BasePuzzle;
-import lombok.Data;
+import ch.nostromo.adventofcode.utils.range.Interval;
+import ch.nostromo.adventofcode.utils.range.IntervalSet;
+import ch.nostromo.adventofcode.utils.range.RangeMap;
 
 import java.util.*;
 
@@ -126,53 +128,16 @@ public class Part2 extends BasePuzzle {
 
     public String solvePuzzle(List<String> input) {
         List<Long> seeds = readSeed(input.get(0));
-        List<GardenerMap> gardenerMaps = readMaps(input);
-
-        long result = Long.MAX_VALUE;
 
+        List<Interval> seedRanges = new ArrayList<>();
         for (int i = 0; i < seeds.size(); i += 2) {
-
-            long from = seeds.get(i);
-            long to = from + seeds.get(i + 1);
-
-            for (long idx = from; idx <= to; idx++) {
-                long seed = idx;
-                for (GardenerMap maps : gardenerMaps) {
-                    seed = maps.getLocation(seed);
-                }
-
-                result = Math.min(result, seed);
-            }
-
+            seedRanges.add(Interval.ofLength(seeds.get(i), seeds.get(i + 1)));
         }
 
-        return String.valueOf(result);
-
+        // Push whole seed ranges through the maps, splitting them at the map boundaries
+        IntervalSet locations = RangeMap.compose(readMaps(input)).apply(IntervalSet.of(seedRanges));
 
-    }
-
-    @Data
-    public class GardenerMap {
-        List<GardenerMapLine> lines = new ArrayList<>();
-
-        public long getLocation(long seed) {
-            long result = seed;
-            for (GardenerMapLine line : lines) {
-                // Range hit?
-                if (line.getSourceRangeStart() <= seed && line.getSourceRangeStart() + line.getRange() >= seed) {
-                    return line.getDestinationRangeStart() + (seed - line.getSourceRangeStart());
-                }
-            }
-
-            return result;
-        }
-    }
-
-    @Data
-    public class GardenerMapLine {
-        long destinationRangeStart;
-        long sourceRangeStart;
-        long range;
+        return String.valueOf(locations.min());
     }
 
     private List<Long> readSeed(String line) {
@@ -184,25 +149,26 @@ public class Part2 extends BasePuzzle {
         return result;
     }
 
-    private List<GardenerMap> readMaps(List<String> input) {
-        List<GardenerMap> result = new ArrayList<>();
-        GardenerMap currentMap = null;
+    private List<RangeMap> readMaps(List<String> input) {
+        List<RangeMap> result = new ArrayList<>();
+        RangeMap.Builder currentMap = null;
         for (String line : input) {
             if (line.contains("map")) {
-                currentMap = new GardenerMap();
-                result.add(currentMap);
+                if (currentMap != null) {
+                    result.add(currentMap.build());
+                }
+                currentMap = RangeMap.builder();
             } else if (line.isEmpty() || line.contains("seeds:")) {
                 // There is nothing to see here ;)
             } else {
                 String[] numbers = line.split("\\s+");
-                GardenerMapLine mapLine = new GardenerMapLine();
-                mapLine.setDestinationRangeStart(Long.valueOf(numbers[0]));
-                mapLine.setSourceRangeStart(Long.valueOf(numbers[1]));
-                mapLine.setRange(Long.valueOf(numbers[2]));
-                currentMap.lines.add(mapLine);
+                currentMap.map(Long.parseLong(numbers[1]), Long.parseLong(numbers[0]), Long.parseLong(numbers[2]));
             }
 
+        }
 
+        if (currentMap != null) {
+            result.add(currentMap.build());
         }
 
         return result;
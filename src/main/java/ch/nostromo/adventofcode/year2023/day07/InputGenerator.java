@@ -0,0 +1,36 @@
+package ch.nostromo.adventofcode.year2023.day07;
+
+import ch.nostromo.adventofcode.BaseInputGenerator;
+
+import java.io.PrintWriter;
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+
+/**
+ * Distinct camel card hands with their bids, 1000 per scale unit; the solvers reject equal hands.
+ * <p>
+ * The bids shrink with the square of the scale, from up to 999 at scale 1, so the total winnings stay within the int
+ * the solvers sum them in up to about scale 60.
+ */
+public class InputGenerator extends BaseInputGenerator {
+
+    private static final String CARDS = "23456789TJQKA";
+
+    @Override
+    public void generate(double scale, Random random, PrintWriter out) {
+        int hands = scaled(1000, scale);
+        int maxBid = Math.max(1, Math.min(999, (int) (1000 / (scale * scale))));
+        Set<String> drawn = new HashSet<>();
+        while (drawn.size() < hands) {
+            StringBuilder hand = new StringBuilder(5);
+            for (int card = 0; card < 5; card++) {
+                hand.append(CARDS.charAt(random.nextInt(CARDS.length())));
+            }
+            if (drawn.add(hand.toString())) {
+                out.println(hand + " " + between(random, 1, maxBid));
+            }
+        }
+    }
+
+}
@@ -0,0 +1,119 @@
+package ch.nostromo.adventofcode.year2023.day08;
+
+import ch.nostromo.adventofcode.BaseInputGenerator;
+
+import java.io.PrintWriter;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Left/right instructions of about 280 steps and a network of six ghost loops, about 740 nodes per scale unit.
+ * <p>
+ * Every loop has a prime length and two nodes per step, one reached by left and one by right, and both nodes of the
+ * first step end with Z. Part 2 therefore sees the product of the six primes. The instruction count is never a multiple
+ * of the first loop, so part 1 eventually reaches ZZZ. The three letter node names cap the network at about scale 20,
+ * with loops of at most 1250 steps, beyond that only the instructions grow.
+ */
+public class InputGenerator extends BaseInputGenerator {
+
+    private static final int GHOSTS = 6;
+
+    private static final int MAX_LOOP = 1250;
+
+    @Override
+    public void generate(double scale, Random random, PrintWriter out) {
+        int instructionCount = scaled(281, scale);
+        int base = Math.min(MAX_LOOP, scaled(60, scale));
+        int[] loops = new int[GHOSTS];
+        int prime = base - between(random, 0, base / 4);
+        for (int ghost = 0; ghost < GHOSTS; ghost++) {
+            prime = nextPrime(prime + 1);
+            loops[ghost] = prime;
+        }
+        if (instructionCount % loops[0] == 0) {
+            instructionCount++;
+        }
+
+        // At least one left turn, which part 1 needs to step onto ZZZ instead of its twin
+        StringBuilder instructions = new StringBuilder(instructionCount).append('L');
+        for (int i = 1; i < instructionCount; i++) {
+            instructions.append(random.nextBoolean() ? 'L' : 'R');
+        }
+
+        List<String> names = new ArrayList<>();
+        List<String> starts = new ArrayList<>();
+        List<String> ends = new ArrayList<>();
+        for (char a = 'A'; a <= 'Z'; a++) {
+            for (char b = 'A'; b <= 'Z'; b++) {
+                for (char c = 'A'; c <= 'Z'; c++) {
+                    String name = "" + a + b + c;
+                    if (c == 'A') {
+                        starts.add(name);
+                    } else if (c == 'Z') {
+                        ends.add(name);
+                    } else {
+                        names.add(name);
+                    }
+                }
+            }
+        }
+        Collections.shuffle(names, random);
+        Collections.shuffle(starts, random);
+        Collections.shuffle(ends, random);
+        starts.remove("AAA");
+        starts.add(0, "AAA");
+        ends.remove("ZZZ");
+        ends.add(0, "ZZZ");
+
+        List<String> nodes = new ArrayList<>();
+        int nextName = 0;
+        for (int ghost = 0; ghost < GHOSTS; ghost++) {
+            // left[0] and right[0] are the Z nodes, which lead on like the start node
+            String[] left = new String[loops[ghost]];
+            String[] right = new String[loops[ghost]];
+            left[0] = ends.get(2 * ghost);
+            right[0] = ends.get(2 * ghost + 1);
+            for (int step = 1; step < loops[ghost]; step++) {
+                left[step] = names.get(nextName++);
+                right[step] = names.get(nextName++);
+            }
+            for (int step = 0; step < loops[ghost]; step++) {
+                int next = (step + 1) % loops[ghost];
+                String targets = " = (" + left[next] + ", " + right[next] + ")";
+                nodes.add(left[step] + targets);
+                nodes.add(right[step] + targets);
+                if (step == 0) {
+                    nodes.add(starts.get(ghost) + targets);
+                }
+            }
+        }
+        Collections.shuffle(nodes, random);
+
+        out.println(instructions);
+        out.println();
+        nodes.forEach(out::println);
+    }
+
+    private static int nextPrime(int from) {
+        int candidate = from;
+        while (!isPrime(candidate)) {
+            candidate++;
+        }
+        return candidate;
+    }
+
+    private static boolean isPrime(int number) {
+        if (number < 2) {
+            return false;
+        }
+        for (int divisor = 2; divisor * divisor <= number; divisor++) {
+            if (number % divisor == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+}
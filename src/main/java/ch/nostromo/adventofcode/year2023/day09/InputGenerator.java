@@ -0,0 +1,38 @@
+package ch.nostromo.adventofcode.year2023.day09;
+
+import ch.nostromo.adventofcode.BaseInputGenerator;
+
+import java.io.PrintWriter;
+import java.util.Random;
+
+/**
+ * Histories of 21 values of a polynomial of degree 0 to 4, 200 per scale unit.
+ */
+public class InputGenerator extends BaseInputGenerator {
+
+    @Override
+    public void generate(double scale, Random random, PrintWriter out) {
+        int histories = scaled(200, scale);
+        for (int h = 0; h < histories; h++) {
+            int degree = between(random, 0, 4);
+            int[] coefficients = new int[degree + 1];
+            for (int i = 0; i <= degree; i++) {
+                coefficients[i] = between(random, -5, 5);
+            }
+
+            StringBuilder line = new StringBuilder();
+            for (int x = 0; x < 21; x++) {
+                long value = 0;
+                for (int i = degree; i >= 0; i--) {
+                    value = value * x + coefficients[i];
+                }
+                if (x > 0) {
+                    line.append(' ');
+                }
+                line.append(value);
+            }
+            out.println(line);
+        }
+    }
+
+}
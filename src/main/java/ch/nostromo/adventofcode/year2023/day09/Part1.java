@@ -1,10 +1,12 @@
 package ch.nostromo.adventofcode.year2023.day09;
 
 import ch.nostromo.adventofcode.BasePuzzle;
+import ch.nostromo.adventofcode.StreamingPuzzle;
 import lombok.Data;
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.Iterator;
 import java.util.List;
 
 /**
@@ -75,16 +77,21 @@ import java.util.List;
  * <p>
  * Your puzzle answer was 1938731307.
  */
-public class Part1 extends BasePuzzle {
+public class Part1 extends BasePuzzle implements StreamingPuzzle {
 
     private static final String EXPECTED_TEST_RESULT = "114";
 
 
     public String solvePuzzle(List<String> input) {
+        return solvePuzzle(input.iterator());
+    }
+
+    @Override
+    public String solvePuzzle(Iterator<? extends CharSequence> lines) {
 
         int result = 0;
-        for (String line : input) {
-            History history = new History(line);
+        while (lines.hasNext()) {
+            History history = new History(lines.next().toString());
 
             while (!history.addNewHistoryLine()) {
 
@@ -1,9 +1,11 @@
 package ch.nostromo.adventofcode.year2023.day09;
 
 import ch.nostromo.adventofcode.BasePuzzle;
+import ch.nostromo.adventofcode.StreamingPuzzle;
 import lombok.Data;
 
 import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.List;
 
 /**
@@ -94,16 +96,21 @@ import java.util.List;
  * <p>
  * Your puzzle answer was 948.
  */
-public class Part2 extends BasePuzzle {
+public class Part2 extends BasePuzzle implements StreamingPuzzle {
 
     private static final String EXPECTED_TEST_RESULT = "2";
 
 
     public String solvePuzzle(List<String> input) {
+        return solvePuzzle(input.iterator());
+    }
+
+    @Override
+    public String solvePuzzle(Iterator<? extends CharSequence> lines) {
 
         int result = 0;
-        for (String line : input) {
-            History history = new History(line);
+        while (lines.hasNext()) {
+            History history = new History(lines.next().toString());
 
             while (!history.addNewHistoryLine()) {
 
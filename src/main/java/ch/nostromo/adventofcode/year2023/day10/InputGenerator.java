@@ -0,0 +1,65 @@
+package ch.nostromo.adventofcode.year2023.day10;
+
+import ch.nostromo.adventofcode.BaseInputGenerator;
+
+import java.io.PrintWriter;
+import java.util.Random;
+
+/**
+ * A square field with one big pipe loop, 140x140 per scale unit.
+ * <p>
+ * The loop is a comb: it runs down and up through teeth of three columns and comes back along the top row. S sits on
+ * the straight vertical pipe below the top left corner. The middle column of every tooth is enclosed by the loop and
+ * filled with junk pipes.
+ */
+public class InputGenerator extends BaseInputGenerator {
+
+    private static final String JUNK = "|-LJ7F.";
+
+    @Override
+    public void generate(double scale, Random random, PrintWriter out) {
+        int side = scaledSide(140, scale);
+        int teeth = Math.max(1, side / 3);
+        int width = teeth * 3;
+        int height = Math.max(3, side);
+
+        for (int y = 0; y < height; y++) {
+            StringBuilder line = new StringBuilder(width);
+            for (int x = 0; x < width; x++) {
+                line.append(getTile(x, y, width, height, random));
+            }
+            out.println(line);
+        }
+    }
+
+    private char getTile(int x, int y, int width, int height, Random random) {
+        // Return path along the top row
+        if (y == 0) {
+            if (x == 0) {
+                return 'F';
+            }
+            return x == width - 1 ? '7' : '-';
+        }
+
+        int column = x % 3;
+        boolean lastTooth = x / 3 == width / 3 - 1;
+
+        if (y == height - 1) {
+            return column == 0 ? 'L' : column == 1 ? '-' : 'J';
+        }
+
+        if (column == 1) {
+            return JUNK.charAt(random.nextInt(JUNK.length()));
+        }
+
+        if (y == 1) {
+            if (column == 0) {
+                return x == 0 ? 'S' : '7';
+            }
+            return lastTooth ? '|' : 'F';
+        }
+
+        return '|';
+    }
+
+}
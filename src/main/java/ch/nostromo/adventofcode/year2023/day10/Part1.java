@@ -1,9 +1,9 @@
 package ch.nostromo.adventofcode.year2023.day10;
 
 import ch.nostromo.adventofcode.BasePuzzle;
-import lombok.Data;
+import ch.nostromo.adventofcode.PuzzleInput;
+import ch.nostromo.adventofcode.utils.Grid;
 
-import java.util.ArrayList;
 import java.util.List;
 
 /**
@@ -109,181 +109,59 @@ public class Part1 extends BasePuzzle {
 
 
     public String solvePuzzle(List<String> input) {
+        return solvePuzzle(PuzzleInput.of(input));
+    }
 
-        int startX = 0;
-        int startY = 0;
-
-        // Find start
-        for (int y = 0; y < input.size(); y++) {
-            int x = input.get(y).indexOf('S');
-            if (x >= 0) {
-                startY = y;
-                startX = x;
-            }
-        }
-
-        List<Crossroad> allCrossroads = new ArrayList<>();
-
-        Crossroad startCrossroad = new Crossroad(startX, startY);
-        startCrossroad.setStartEnd(true);
-
-        allCrossroads.add(startCrossroad);
-
-        int nextX = startX;
-        int nextY = startY;
-
-        // Find first connecting tile
-        if (startY > 0 && (input.get(startY - 1).charAt(startX) == '|' || input.get(startY - 1).charAt(startX) == 'F' || input.get(startY - 1).charAt(startX) == '7')) {
-            nextY = startY - 1;
-        } else if (startY < input.size() - 1 && (input.get(startY + 1).charAt(startX) == '-' || input.get(startY + 1).charAt(startX) == 'L' || input.get(startY + 1).charAt(startX) == 'J')) {
-            nextY = startY + 1;
-        } else if (startX > 0 && (input.get(startY).charAt(startX - 1) == 'F' || input.get(startY).charAt(startX - 1) == 'L' || input.get(startY).charAt(startX - 1) == '-')) {
-            nextX = startX - 1;
-        } else if (startX < input.get(startY).length() - 1 && (input.get(startY).charAt(startX + 1) == '7' || input.get(startY).charAt(startX + 1) == 'J' || input.get(startY).charAt(startX + 1) == '-')) {
-            nextX = startX + 1;
-        } else {
-            throw new IllegalArgumentException("Well that was fun :)");
-        }
-
-        Crossroad currentCrossroad = startCrossroad;
-
-        // connect pipes
-        boolean pipeClosed = false;
-        while (!pipeClosed) {
-            Crossroad nextCrossroad = new Crossroad(nextX, nextY);
-
-            allCrossroads.add(nextCrossroad);
-
-            currentCrossroad.setNextCrossroad(nextCrossroad);
-
-            char nextPoint = input.get(nextY).charAt(nextX);
-
-            switch (nextPoint) {
-                case '|': {
-                    if (nextCrossroad.y > currentCrossroad.y) {
-                        nextY++;
-                    } else {
-                        nextY--;
-                    }
-                    break;
-                }
-                case '-': {
-                    if (nextCrossroad.x > currentCrossroad.x) {
-                        nextX++;
-                    } else {
-                        nextX--;
-                    }
-                    break;
-                }
-                case ('F'): {
-                    if (nextCrossroad.x != currentCrossroad.x) {
-                        nextY++;
-                    } else if (nextCrossroad.y != currentCrossroad.y) {
-                        nextX++;
-                    }
-                    break;
-                }
-                case ('7'): {
-                    if (nextCrossroad.x != currentCrossroad.x) {
-                        nextY++;
-                    } else if (nextCrossroad.y != currentCrossroad.y) {
-                        nextX--;
-                    }
-                    break;
-                }
-                case ('L'): {
-                    if (nextCrossroad.x != currentCrossroad.x) {
-                        nextY--;
-                    } else if (nextCrossroad.y != currentCrossroad.y) {
-                        nextX++;
-                    }
-                    break;
-                }
-                case ('J'): {
-                    if (nextCrossroad.x != currentCrossroad.x) {
-                        nextY--;
-                    } else if (nextCrossroad.y != currentCrossroad.y) {
-                        nextX--;
-                    }
-                    break;
-                }
-
-
-            }
-
-            currentCrossroad = nextCrossroad;
-
-
-            if (nextX == startX && nextY == startY) {
-                currentCrossroad.nextCrossroad = startCrossroad;
-                pipeClosed = true;
-            }
-        }
-
+    @Override
+    public String solvePuzzle(PuzzleInput input) {
+        Grid map = Grid.parse(input);
 
-        int result = 0;
+        int start = map.indexOf('S');
+        int direction = findFirstDirection(map, start);
 
-        for (Crossroad targetCrossroad : allCrossroads) {
-            if (!targetCrossroad.isStartEnd) {
-                int curDistance = getMaxDistance(startCrossroad, targetCrossroad);
-                if (curDistance > result) {
-                    result = curDistance;
-                }
-            }
-        }
+        // Walk the pipe until we're back at the start, the farthest point is half way
+        int length = 0;
+        int position = start;
+        do {
+            position += map.offset(direction);
+            direction = nextDirection(map.get(position), direction);
+            length++;
+        } while (position != start);
 
-        return String.valueOf(result);
+        return String.valueOf(length / 2);
     }
 
-    private int getMaxDistance(Crossroad start, Crossroad target) {
-        //
-        int distance = 0;
-        Crossroad tempCrossroad = start.nextCrossroad;
-        while (true) {
-            distance++;
-            if (tempCrossroad.equals(target)) {
-                break;
+    private int findFirstDirection(Grid map, int start) {
+        for (int direction = Grid.NORTH; direction <= Grid.WEST; direction++) {
+            int neighbour = map.get(start + map.offset(direction));
+            if ((connections(neighbour) & (1 << reverse(direction))) != 0) {
+                return direction;
             }
-            tempCrossroad = tempCrossroad.nextCrossroad;
         }
-
-        return distance / 2 + 1;
+        throw new IllegalArgumentException("Well that was fun :)");
     }
 
+    private int nextDirection(int pipe, int direction) {
+        return Integer.numberOfTrailingZeros(connections(pipe) & ~(1 << reverse(direction)));
+    }
 
-    @Data
-    public class Crossroad {
-
-        int x;
-        int y;
-
-        boolean isStartEnd = false;
-        boolean isTarget = false;
-
-        Crossroad nextCrossroad;
-
-        public Crossroad(int x, int y) {
-            this.x = x;
-            this.y = y;
-        }
-
-        @Override
-        public boolean equals(Object o) {
-            if (this == o) return true;
-            if (o == null || getClass() != o.getClass()) return false;
-
-            Crossroad crossroad = (Crossroad) o;
-
-            if (x != crossroad.x) return false;
-            return y == crossroad.y;
-        }
+    private int reverse(int direction) {
+        return (direction + 2) & 3;
+    }
 
-        @Override
-        public int hashCode() {
-            int result = x;
-            result = 31 * result + y;
-            return result;
-        }
+    /**
+     * Directions a pipe connects to, one bit per {@link Grid} direction.
+     */
+    private int connections(int pipe) {
+        return switch (pipe) {
+            case '|' -> 1 << Grid.NORTH | 1 << Grid.SOUTH;
+            case '-' -> 1 << Grid.EAST | 1 << Grid.WEST;
+            case 'L' -> 1 << Grid.NORTH | 1 << Grid.EAST;
+            case 'J' -> 1 << Grid.NORTH | 1 << Grid.WEST;
+            case '7' -> 1 << Grid.SOUTH | 1 << Grid.WEST;
+            case 'F' -> 1 << Grid.SOUTH | 1 << Grid.EAST;
+            default -> 0;
+        };
     }
 
     public Part1() {
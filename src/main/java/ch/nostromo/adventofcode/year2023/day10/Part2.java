@@ -1,12 +1,10 @@
 package ch.nostromo.adventofcode.year2023.day10;
 
 import ch.nostromo.adventofcode.BasePuzzle;
-import lombok.AllArgsConstructor;
-import lombok.Data;
+import ch.nostromo.adventofcode.PuzzleInput;
+import ch.nostromo.adventofcode.utils.Grid;
 
-import java.util.ArrayList;
 import java.util.List;
-import java.util.Stack;
 
 /**
  * --- Day 10: Pipe Maze ---
@@ -215,351 +213,146 @@ public class Part2 extends BasePuzzle {
             "L7JLJL-JLJLJL--JLJ.L";
 
     public String solvePuzzle(List<String> input) {
+        return solvePuzzle(PuzzleInput.of(input));
+    }
 
-        int startX = 0;
-        int startY = 0;
-
-        // Find start
-        for (int y = 0; y < input.size(); y++) {
-            int x = input.get(y).indexOf('S');
-            if (x >= 0) {
-                startY = y;
-                startX = x;
-            }
-        }
-
-        List<Crossroad> allCrossroads = new ArrayList<>();
-
-        Crossroad startCrossroad = new Crossroad(startX, startY);
-        startCrossroad.setStartEnd(true);
-
-        allCrossroads.add(startCrossroad);
-
-        int nextX = startX;
-        int nextY = startY;
-
-        // Find first connecting tile
-        if (startY > 0 && (input.get(startY - 1).charAt(startX) == '|' || input.get(startY - 1).charAt(startX) == 'F' || input.get(startY - 1).charAt(startX) == '7')) {
-            nextY = startY - 1;
-        } else if (startY < input.size() - 1 && (input.get(startY + 1).charAt(startX) == '-' || input.get(startY + 1).charAt(startX) == 'L' || input.get(startY + 1).charAt(startX) == 'J')) {
-            nextY = startY + 1;
-        } else if (startX > 0 && (input.get(startY).charAt(startX - 1) == 'F' || input.get(startY).charAt(startX - 1) == 'L' || input.get(startY).charAt(startX - 1) == '-')) {
-            nextX = startX - 1;
-        } else if (startX < input.get(startY).length() - 1 && (input.get(startY).charAt(startX + 1) == '7' || input.get(startY).charAt(startX + 1) == 'J' || input.get(startY).charAt(startX + 1) == '-')) {
-            nextX = startX + 1;
-        } else {
-            throw new IllegalArgumentException("Well that was fun :)");
-        }
-
-        Crossroad currentCrossroad = startCrossroad;
-
-        // connect pipes
-        boolean pipeClosed = false;
-        while (!pipeClosed) {
-            Crossroad nextCrossroad = new Crossroad(nextX, nextY);
-
-            allCrossroads.add(nextCrossroad);
-
-            currentCrossroad.setNextCrossroad(nextCrossroad);
-
-            char nextPoint = input.get(nextY).charAt(nextX);
-
-            switch (nextPoint) {
-                case '|': {
-                    if (nextCrossroad.y > currentCrossroad.y) {
-                        nextY++;
-                    } else {
-                        nextY--;
-                    }
-                    break;
-                }
-                case '-': {
-                    if (nextCrossroad.x > currentCrossroad.x) {
-                        nextX++;
-                    } else {
-                        nextX--;
-                    }
-                    break;
-                }
-                case ('F'): {
-                    if (nextCrossroad.x != currentCrossroad.x) {
-                        nextY++;
-                    } else if (nextCrossroad.y != currentCrossroad.y) {
-                        nextX++;
-                    }
-                    break;
-                }
-                case ('7'): {
-                    if (nextCrossroad.x != currentCrossroad.x) {
-                        nextY++;
-                    } else if (nextCrossroad.y != currentCrossroad.y) {
-                        nextX--;
-                    }
-                    break;
-                }
-                case ('L'): {
-                    if (nextCrossroad.x != currentCrossroad.x) {
-                        nextY--;
-                    } else if (nextCrossroad.y != currentCrossroad.y) {
-                        nextX++;
-                    }
-                    break;
-                }
-                case ('J'): {
-                    if (nextCrossroad.x != currentCrossroad.x) {
-                        nextY--;
-                    } else if (nextCrossroad.y != currentCrossroad.y) {
-                        nextX--;
-                    }
-                    break;
-                }
-
-
-            }
-
-            currentCrossroad = nextCrossroad;
+    @Override
+    public String solvePuzzle(PuzzleInput input) {
+        Grid map = Grid.parse(input);
 
+        int start = map.indexOf('S');
+        int firstDirection = findFirstDirection(map, start);
 
-            if (nextX == startX && nextY == startY) {
-                currentCrossroad.nextCrossroad = startCrossroad;
-                pipeClosed = true;
-            }
-        }
+        // Walk the pipe and mark every tile on it
+        boolean[] pipe = new boolean[map.getCells().length];
+        int direction = firstDirection;
+        int lastDirection;
+        int position = start;
+        do {
+            pipe[position] = true;
+            position += map.offset(direction);
+            lastDirection = direction;
+            direction = nextDirection(map.get(position), direction);
+        } while (position != start);
 
+        // S connects to where we left and to where we came back from
+        int startConnections = 1 << firstDirection | 1 << reverse(lastDirection);
 
         // Bloat map by 3x3 segments and connect the pipes where needed
-        List<String> bloatedMap = bloatMap(input, allCrossroads);
+        Grid bloatedMap = phase("bloatMap", () -> bloatMap(map, pipe, start, startConnections));
 
         // Fill reachable positions on the map
-        List<String> floatedMap = floatFillMap(bloatedMap);
+        phase("floatFillMap", () -> floatFillMap(bloatedMap));
 
         // Find the center of any 3x3 segment and check if it's free
         int result = 0;
-        for (int y = 0; y < input.size(); y++) {
-            for (int x = 0; x < input.get(0).length(); x++) {
-                int wy = (y * 3) + 1;
-                int wx = (x * 3) + 1;
-
-                if (floatedMap.get(wy).charAt(wx) == '.') {
+        for (int y = 0; y < map.getHeight(); y++) {
+            for (int x = 0; x < map.getWidth(); x++) {
+                if (bloatedMap.get(x * 3 + 1, y * 3 + 1) == '.') {
                     result++;
                 }
             }
-
         }
 
 
         return String.valueOf(result);
     }
 
-    public List<String> floatFillMap(List<String> bloatedMap) {
-        List<String> result = new ArrayList<>(bloatedMap);
+    public void floatFillMap(Grid bloatedMap) {
+        int[] stack = new int[bloatedMap.getWidth() * bloatedMap.getHeight()];
 
         // horizontal boarders
-        for (int x = 0; x < result.get(0).length(); x++) {
-            stackFloat(result, x, 0);
-        }
-
-
-        for (int x = 0; x < result.get(result.size() - 1).length(); x++) {
-            stackFloat(result, x, result.size() - 1);
+        for (int x = 0; x < bloatedMap.getWidth(); x++) {
+            stackFloat(bloatedMap, bloatedMap.index(x, 0), stack);
+            stackFloat(bloatedMap, bloatedMap.index(x, bloatedMap.getHeight() - 1), stack);
         }
 
         // vertical boarders
-        for (int y = 0; y < result.size(); y++) {
-            stackFloat(result, 0, y);
+        for (int y = 0; y < bloatedMap.getHeight(); y++) {
+            stackFloat(bloatedMap, bloatedMap.index(0, y), stack);
+            stackFloat(bloatedMap, bloatedMap.index(bloatedMap.getWidth() - 1, y), stack);
         }
-
-        for (int y = 0; y < result.size(); y++) {
-            stackFloat(result, result.get(y).length() - 1, y);
-        }
-
-
-        return result;
-    }
-
-    @Data
-    @AllArgsConstructor
-    public class Coordinates {
-        int x;
-        int y;
     }
 
     // Who would be dumb enough to try recursion anyways ? ;)
-    public void stackFloat(List<String> map, int startX, int startY) {
-        Stack<Coordinates> stack = new Stack<>();
-        stack.push(new Coordinates(startX, startY));
-
-        while (!stack.empty()) {
-            Coordinates coords = stack.pop();
-            int x = coords.getX();
-            int y = coords.getY();
-
-            if (map.get(y).charAt(x) == '.') {
-                map.set(y, replaceFreeSpot(map.get(y), x));
-
-                // Northern coord
-                if (y > 0 && map.get(y - 1).charAt(x) == '.') {
-                    stack.push(new Coordinates(x, y - 1));
-                }
-
-                // southern coord
-                if (y < map.size() - 1 && map.get(y + 1).charAt(x) == '.') {
-                    stack.push(new Coordinates(x, y + 1));
-                }
-
-                // Western coord
-                if (x > 0 && map.get(y).charAt(x - 1) == '.') {
-                    stack.push(new Coordinates(x - 1, y));
-                }
-
-                // eastern coord
-                if (x < map.get(y).length() - 1 && map.get(y).charAt(x + 1) == '.') {
-                    stack.push(new Coordinates(x + 1, y));
-                }
-
-
-            }
-
-
+    public void stackFloat(Grid map, int start, int[] stack) {
+        if (map.get(start) != '.') {
+            return;
         }
 
+        int size = 0;
+        stack[size++] = start;
+        map.set(start, 'O');
 
-    }
-
+        while (size > 0) {
+            int position = stack[--size];
 
-    public Crossroad getCrossRoadByCoord(List<Crossroad> allCrossRoads, int x, int y) {
-        for (Crossroad crossroad : allCrossRoads) {
-            if (crossroad.x == x && crossroad.y == y) {
-                return crossroad;
+            for (int offset : map.getNeighbours4()) {
+                int next = position + offset;
+                if (map.get(next) == '.') {
+                    map.set(next, 'O');
+                    stack[size++] = next;
+                }
             }
         }
-        return null;
     }
 
-    private List<String> bloatMap(List<String> map, List<Crossroad> allCrossRoads) {
-        List<String> result = new ArrayList<>();
-
-        for (int y = 0; y < map.size(); y++) {
-            String line1 = "";
-            String line2 = "";
-            String line3 = "";
-
-            for (int x = 0; x < map.get(y).length(); x++) {
-
-                char currChar = map.get(y).charAt(x);
-
+    private Grid bloatMap(Grid map, boolean[] pipe, int start, int startConnections) {
+        Grid result = new Grid(map.getWidth() * 3, map.getHeight() * 3, '.');
 
-                Crossroad currCrossroad = getCrossRoadByCoord(allCrossRoads, x, y);
+        for (int y = 0; y < map.getHeight(); y++) {
+            for (int x = 0; x < map.getWidth(); x++) {
+                int position = map.index(x, y);
 
-                if (currCrossroad != null) {
+                if (pipe[position]) {
+                    int connections = position == start ? startConnections : connections(map.get(position));
 
-                    switch (currChar) {
-                        case '|': {
-                            line1 += ".#.";
-                            line2 += ".#.";
-                            line3 += ".#.";
-                            break;
-                        }
-                        case '-': {
-                            line1 += "...";
-                            line2 += "###";
-                            line3 += "...";
-                            break;
-                        }
-                        case ('F'): {
-                            line1 += "...";
-                            line2 += ".##";
-                            line3 += ".#.";
-                            break;
-                        }
-                        case ('7'): {
-                            line1 += "...";
-                            line2 += "##.";
-                            line3 += ".#.";
-                            break;
-                        }
-                        case ('L'): {
-                            line1 += ".#.";
-                            line2 += ".##";
-                            line3 += "...";
-                            break;
-                        }
-                        case ('J'): {
-                            line1 += ".#.";
-                            line2 += "##.";
-                            line3 += "...";
-                            break;
-                        }
-                        case ('S'): {
-                            // Cheated a bit ;)
-                            if (isTestRun()) {
-                                line1 += "...";
-                                line2 += "##.";
-                                line3 += ".#.";
-                            } else {
-                                line1 += ".#.";
-                                line2 += ".#.";
-                                line3 += ".#.";
-                            }
-                            break;
+                    int center = result.index(x * 3 + 1, y * 3 + 1);
+                    result.set(center, '#');
+                    for (int direction = Grid.NORTH; direction <= Grid.WEST; direction++) {
+                        if ((connections & (1 << direction)) != 0) {
+                            result.set(center + result.offset(direction), '#');
                         }
                     }
-                } else {
-                    line1 += "...";
-                    line2 += "...";
-                    line3 += "...";
                 }
-
             }
-
-            result.add(line1);
-            result.add(line2);
-            result.add(line3);
-
         }
 
         return result;
 
     }
 
-    private String replaceFreeSpot(String line, int idx) {
-        char[] chars = line.toCharArray();
-        chars[idx] = 'O';
-        return new String(chars);
-    }
-
-    @Data
-    public class Crossroad {
-
-        int x;
-        int y;
-
-        boolean isStartEnd = false;
-
-        Crossroad nextCrossroad;
-
-        public Crossroad(int x, int y) {
-            this.x = x;
-            this.y = y;
+    private int findFirstDirection(Grid map, int start) {
+        for (int direction = Grid.NORTH; direction <= Grid.WEST; direction++) {
+            int neighbour = map.get(start + map.offset(direction));
+            if ((connections(neighbour) & (1 << reverse(direction))) != 0) {
+                return direction;
+            }
         }
+        throw new IllegalArgumentException("Well that was fun :)");
+    }
 
-        @Override
-        public boolean equals(Object o) {
-            if (this == o) return true;
-            if (o == null || getClass() != o.getClass()) return false;
-
-            Crossroad crossroad = (Crossroad) o;
+    private int nextDirection(int pipe, int direction) {
+        return Integer.numberOfTrailingZeros(connections(pipe) & ~(1 << reverse(direction)));
+    }
 
-            if (x != crossroad.x) return false;
-            return y == crossroad.y;
-        }
+    private int reverse(int direction) {
+        return (direction + 2) & 3;
+    }
 
-        @Override
-        public int hashCode() {
-            int result = x;
-            result = 31 * result + y;
-            return result;
-        }
+    /**
+     * Directions a pipe connects to, one bit per {@link Grid} direction.
+     */
+    private int connections(int pipe) {
+        return switch (pipe) {
+            case '|' -> 1 << Grid.NORTH | 1 << Grid.SOUTH;
+            case '-' -> 1 << Grid.EAST | 1 << Grid.WEST;
+            case 'L' -> 1 << Grid.NORTH | 1 << Grid.EAST;
+            case 'J' -> 1 << Grid.NORTH | 1 << Grid.WEST;
+            case '7' -> 1 << Grid.SOUTH | 1 << Grid.WEST;
+            case 'F' -> 1 << Grid.SOUTH | 1 << Grid.EAST;
+            default -> 0;
+        };
     }
 
     public Part2() {
@@ -0,0 +1,35 @@
+package ch.nostromo.adventofcode.year2023.day11;
+
+import ch.nostromo.adventofcode.BaseInputGenerator;
+
+import java.io.PrintWriter;
+import java.util.Random;
+
+/**
+ * A square image of about 440 galaxies per scale unit, 140x140 per scale unit, with one row and one column in ten left
+ * empty to expand.
+ * <p>
+ * The solvers compare every pair of galaxies, so their time grows with the square of the scale, and the sum of part 1
+ * outgrows its int before scale 10.
+ */
+public class InputGenerator extends BaseInputGenerator {
+
+    @Override
+    public void generate(double scale, Random random, PrintWriter out) {
+        int side = scaledSide(140, scale);
+        boolean[] emptyColumns = new boolean[side];
+        for (int x = 0; x < side; x++) {
+            emptyColumns[x] = random.nextInt(10) == 0;
+        }
+
+        for (int y = 0; y < side; y++) {
+            boolean emptyRow = random.nextInt(10) == 0;
+            StringBuilder line = new StringBuilder(side);
+            for (int x = 0; x < side; x++) {
+                line.append(!emptyRow && !emptyColumns[x] && random.nextInt(36) == 0 ? '#' : '.');
+            }
+            out.println(line);
+        }
+    }
+
+}
@@ -0,0 +1,56 @@
+package ch.nostromo.adventofcode.year2023.day12;
+
+import ch.nostromo.adventofcode.BaseInputGenerator;
+
+import java.io.PrintWriter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Condition records of up to 20 springs, 1000 per scale unit.
+ * <p>
+ * Each record is drawn as a valid arrangement of its damaged groups, then about half of the springs are hidden behind
+ * a question mark, so every record has at least one arrangement.
+ */
+public class InputGenerator extends BaseInputGenerator {
+
+    private static final int MAX_LENGTH = 20;
+
+    @Override
+    public void generate(double scale, Random random, PrintWriter out) {
+        int records = scaled(1000, scale);
+        for (int i = 0; i < records; i++) {
+            List<Integer> groups = new ArrayList<>();
+            StringBuilder springs = new StringBuilder();
+            appendOperational(random, springs);
+            do {
+                int group = between(random, 1, 6);
+                if (springs.length() + group > MAX_LENGTH) {
+                    break;
+                }
+                groups.add(group);
+                springs.append("#".repeat(group)).append('.');
+                appendOperational(random, springs);
+            } while (springs.length() < MAX_LENGTH - 4 && random.nextInt(5) > 0);
+
+            if (groups.isEmpty()) {
+                groups.add(1);
+                springs.append('#');
+            }
+
+            StringBuilder record = new StringBuilder();
+            for (int s = 0; s < Math.min(springs.length(), MAX_LENGTH); s++) {
+                record.append(random.nextBoolean() ? '?' : springs.charAt(s));
+            }
+            out.println(record + " " + String.join(",", groups.stream().map(String::valueOf).toList()));
+        }
+    }
+
+    private static void appendOperational(Random random, StringBuilder springs) {
+        for (int dots = random.nextInt(3); dots > 0 && springs.length() < MAX_LENGTH; dots--) {
+            springs.append('.');
+        }
+    }
+
+}
@@ -0,0 +1,112 @@
+package ch.nostromo.adventofcode.year2023.day13;
+
+import ch.nostromo.adventofcode.BaseInputGenerator;
+
+import java.io.PrintWriter;
+import java.util.Random;
+
+/**
+ * Patterns of ash and rocks between 7x7 and 17x17, 100 per scale unit.
+ * <p>
+ * Each pattern is mirrored along one line near an edge and along a second line across it, then one cell outside the
+ * reach of the first mirror is flipped: the first line is the clean reflection of part 1 and the second one needs the
+ * smudge of part 2. Patterns in which another line happens to reflect as well are drawn again.
+ */
+public class InputGenerator extends BaseInputGenerator {
+
+    @Override
+    public void generate(double scale, Random random, PrintWriter out) {
+        int patterns = scaled(100, scale);
+        for (int pattern = 0; pattern < patterns; pattern++) {
+            if (pattern > 0) {
+                out.println();
+            }
+            boolean[][] cells;
+            do {
+                cells = draw(random);
+            } while (!hasOneReflectionEach(cells));
+            for (boolean[] row : cells) {
+                StringBuilder line = new StringBuilder(row.length);
+                for (boolean rock : row) {
+                    line.append(rock ? '#' : '.');
+                }
+                out.println(line);
+            }
+        }
+    }
+
+    private static boolean[][] draw(Random random) {
+        int height = between(random, 7, 17);
+        int width = between(random, 7, 17);
+        boolean[][] cells = new boolean[height][width];
+        for (boolean[] row : cells) {
+            for (int x = 0; x < width; x++) {
+                row[x] = random.nextBoolean();
+            }
+        }
+
+        // The smudged mirror between columns, then the clean one between the first rows, which copies whole rows
+        int column = between(random, 1, width - 1);
+        for (boolean[] row : cells) {
+            for (int x = column; x < Math.min(width, 2 * column); x++) {
+                row[x] = row[2 * column - 1 - x];
+            }
+        }
+        int rowLine = between(random, 1, (height - 1) / 2);
+        for (int y = rowLine; y < 2 * rowLine; y++) {
+            cells[y] = cells[2 * rowLine - 1 - y].clone();
+        }
+
+        int reach = Math.min(column, width - column);
+        cells[between(random, 2 * rowLine, height - 1)][between(random, column - reach, column - 1)] ^= true;
+
+        if (random.nextBoolean()) {
+            for (int y = 0; y < height / 2; y++) {
+                boolean[] swap = cells[y];
+                cells[y] = cells[height - 1 - y];
+                cells[height - 1 - y] = swap;
+            }
+        }
+        return random.nextBoolean() ? transpose(cells) : cells;
+    }
+
+    /**
+     * True if, over all row and column lines, exactly one reflects cleanly and exactly one is off by a single cell.
+     */
+    private static boolean hasOneReflectionEach(boolean[][] cells) {
+        boolean[][] columns = transpose(cells);
+        int clean = 0;
+        int smudged = 0;
+        for (boolean[][] lines : new boolean[][][]{cells, columns}) {
+            for (int line = 1; line < lines.length; line++) {
+                int differences = 0;
+                for (int offset = 0; line - 1 - offset >= 0 && line + offset < lines.length; offset++) {
+                    boolean[] before = lines[line - 1 - offset];
+                    boolean[] after = lines[line + offset];
+                    for (int i = 0; i < before.length; i++) {
+                        if (before[i] != after[i]) {
+                            differences++;
+                        }
+                    }
+                }
+                if (differences == 0) {
+                    clean++;
+                } else if (differences == 1) {
+                    smudged++;
+                }
+            }
+        }
+        return clean == 1 && smudged == 1;
+    }
+
+    private static boolean[][] transpose(boolean[][] cells) {
+        boolean[][] transposed = new boolean[cells[0].length][cells.length];
+        for (int y = 0; y < cells.length; y++) {
+            for (int x = 0; x < cells[0].length; x++) {
+                transposed[x][y] = cells[y][x];
+            }
+        }
+        return transposed;
+    }
+
+}
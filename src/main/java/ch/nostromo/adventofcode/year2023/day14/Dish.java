@@ -0,0 +1,270 @@
+package ch.nostromo.adventofcode.year2023.day14;
+
+import ch.nostromo.adventofcode.utils.Grid;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * The platform with its rounded rocks as bitboards, one bit per cell.
+ * <p>
+ * The rounded rocks are kept row by row (bit {@code x} of row {@code y}) for tilting west and east, and column by
+ * column (bit {@code y} of column {@code x}) for tilting north and south; the other orientation is derived by 64x64
+ * block transposes when the direction changes. The cube rocks never move, so every row and column is split once into
+ * segments between them. Tilting counts the rocks of a segment and packs them against one end of it, which costs a few
+ * word operations per segment instead of moving rocks cell by cell.
+ */
+public class Dish {
+
+    private final int width;
+
+    private final int height;
+
+    private final int rowWords;
+
+    private final int columnWords;
+
+    private final long[] rows;
+
+    private final long[] columns;
+
+    private final Segments rowSegments;
+
+    private final Segments columnSegments;
+
+    private boolean rowsCurrent = true;
+
+    private Dish(Grid grid) {
+        this.width = grid.getWidth();
+        this.height = grid.getHeight();
+        this.rowWords = (width + 63) >>> 6;
+        this.columnWords = (height + 63) >>> 6;
+        this.rows = new long[height * rowWords];
+        this.columns = new long[width * columnWords];
+
+        for (int y = 0; y < height; y++) {
+            for (int x = 0; x < width; x++) {
+                if (grid.get(x, y) == 'O') {
+                    rows[y * rowWords + (x >>> 6)] |= 1L << x;
+                }
+            }
+        }
+
+        this.rowSegments = new Segments(height, width, rowWords, (line, i) -> grid.get(i, line) == '#');
+        this.columnSegments = new Segments(width, height, columnWords, (line, i) -> grid.get(line, i) == '#');
+    }
+
+    public static Dish parse(List<String> lines) {
+        return new Dish(Grid.parse(lines));
+    }
+
+    public void tiltNorth() {
+        toColumns();
+        columnSegments.tilt(columns, true);
+    }
+
+    public void tiltWest() {
+        toRows();
+        rowSegments.tilt(rows, true);
+    }
+
+    public void tiltSouth() {
+        toColumns();
+        columnSegments.tilt(columns, false);
+    }
+
+    public void tiltEast() {
+        toRows();
+        rowSegments.tilt(rows, false);
+    }
+
+    /**
+     * Tilts north, west, south and east.
+     */
+    public void spin() {
+        tiltNorth();
+        tiltWest();
+        tiltSouth();
+        tiltEast();
+    }
+
+    /**
+     * Total load on the north support beams.
+     */
+    public long load() {
+        toRows();
+        long result = 0;
+        for (int y = 0; y < height; y++) {
+            int rocks = 0;
+            for (int w = 0; w < rowWords; w++) {
+                rocks += Long.bitCount(rows[y * rowWords + w]);
+            }
+            result += (long) rocks * (height - y);
+        }
+        return result;
+    }
+
+    /**
+     * 64-bit hash of the rock positions. Equal positions have equal hashes; with 64 bits a collision among the few
+     * hundred states before a spin cycle repeats is not a practical concern.
+     */
+    public long hash() {
+        toRows();
+        long h = 0;
+        for (long word : rows) {
+            h = (Long.rotateLeft(h, 23) ^ word) * 0x9E3779B97F4A7C15L;
+        }
+        return h ^ (h >>> 32);
+    }
+
+    private void toRows() {
+        if (!rowsCurrent) {
+            transpose(columns, width, columnWords, rows, height, rowWords);
+            rowsCurrent = true;
+        }
+    }
+
+    private void toColumns() {
+        if (rowsCurrent) {
+            transpose(rows, height, rowWords, columns, width, columnWords);
+            rowsCurrent = false;
+        }
+    }
+
+    /**
+     * Transposes {@code sourceLines} lines of {@code sourceWords} words into {@code targetLines} lines of
+     * {@code targetWords} words, block by block.
+     */
+    private static void transpose(long[] source, int sourceLines, int sourceWords, long[] target, int targetLines, int targetWords) {
+        long[] block = new long[64];
+        for (int bi = 0; bi < targetWords; bi++) {
+            for (int bj = 0; bj < sourceWords; bj++) {
+                for (int k = 0; k < 64; k++) {
+                    int line = (bi << 6) + k;
+                    block[k] = line < sourceLines ? source[line * sourceWords + bj] : 0;
+                }
+
+                transpose64(block);
+
+                for (int k = 0; k < 64 && (bj << 6) + k < targetLines; k++) {
+                    target[((bj << 6) + k) * targetWords + bi] = block[k];
+                }
+            }
+        }
+    }
+
+    /**
+     * Transposes a 64x64 bit matrix in place, bit {@code j} of {@code a[k]} swapping with bit {@code k} of
+     * {@code a[j]}, by exchanging ever smaller off-diagonal blocks.
+     */
+    static void transpose64(long[] a) {
+        long m = 0x00000000FFFFFFFFL;
+        for (int j = 32; j != 0; j >>= 1, m ^= m << j) {
+            for (int k = 0; k < 64; k = ((k | j) + 1) & ~j) {
+                long t = ((a[k] >>> j) ^ a[k | j]) & m;
+                a[k | j] ^= t;
+                a[k] ^= t << j;
+            }
+        }
+    }
+
+    private interface CubeTest {
+        boolean isCube(int line, int i);
+    }
+
+    /**
+     * The runs of at least two cells between cube rocks of all lines, as absolute bit positions {@code start}
+     * (inclusive) to {@code end} (exclusive). Most runs lie within one word, their bits are kept in {@code masks};
+     * the mask of a run crossing a word boundary is 0.
+     */
+    private static class Segments {
+
+        private final int[] start;
+
+        private final int[] end;
+
+        private final long[] masks;
+
+        Segments(int lines, int length, int words, CubeTest cubes) {
+            int[] starts = new int[lines * (length + 1) / 2 + 1];
+            int[] ends = new int[starts.length];
+
+            int count = 0;
+            for (int line = 0; line < lines; line++) {
+                int i = 0;
+                while (i < length) {
+                    while (i < length && cubes.isCube(line, i)) {
+                        i++;
+                    }
+                    int segmentStart = i;
+                    while (i < length && !cubes.isCube(line, i)) {
+                        i++;
+                    }
+                    // A single cell never changes
+                    if (i - segmentStart > 1) {
+                        starts[count] = (line * words << 6) + segmentStart;
+                        ends[count] = (line * words << 6) + i;
+                        count++;
+                    }
+                }
+            }
+
+            start = Arrays.copyOf(starts, count);
+            end = Arrays.copyOf(ends, count);
+            masks = new long[count];
+            for (int s = 0; s < count; s++) {
+                if (start[s] >>> 6 == (end[s] - 1) >>> 6) {
+                    masks[s] = mask(start[s] >>> 6, start[s], end[s]);
+                }
+            }
+        }
+
+        /**
+         * Packs the rocks of every segment against its start ({@code towardsStart}) or its end.
+         */
+        void tilt(long[] bits, boolean towardsStart) {
+            for (int s = 0; s < masks.length; s++) {
+                long mask = masks[s];
+                if (mask != 0) {
+                    int w = start[s] >>> 6;
+                    int rocks = Long.bitCount(bits[w] & mask);
+                    if (rocks > 0 && rocks < 64) {
+                        long packed = towardsStart ? mask & ~(mask << rocks) : mask & ~(mask >>> rocks);
+                        bits[w] = bits[w] & ~mask | packed;
+                    }
+                } else {
+                    tiltAcrossWords(bits, start[s], end[s], towardsStart);
+                }
+            }
+        }
+
+        private static void tiltAcrossWords(long[] bits, int first, int last, boolean towardsStart) {
+            int rocks = 0;
+            for (int w = first >>> 6; w <= (last - 1) >>> 6; w++) {
+                long mask = mask(w, first, last);
+                rocks += Long.bitCount(bits[w] & mask);
+                bits[w] &= ~mask;
+            }
+
+            if (rocks > 0) {
+                int fillFirst = towardsStart ? first : last - rocks;
+                int fillLast = towardsStart ? first + rocks : last;
+                for (int w = fillFirst >>> 6; w <= (fillLast - 1) >>> 6; w++) {
+                    bits[w] |= mask(w, fillFirst, fillLast);
+                }
+            }
+        }
+
+        /**
+         * The bits of word {@code w} within {@code first} (inclusive) to {@code last} (exclusive).
+         */
+        private static long mask(int w, int first, int last) {
+            int low = Math.max(first - (w << 6), 0);
+            int high = Math.min(last - (w << 6), 64);
+            long upTo = high == 64 ? -1L : (1L << high) - 1;
+            return upTo & (-1L << low);
+        }
+
+    }
+
+}
@@ -0,0 +1,26 @@
+package ch.nostromo.adventofcode.year2023.day14;
+
+import ch.nostromo.adventofcode.BaseInputGenerator;
+
+import java.io.PrintWriter;
+import java.util.Random;
+
+/**
+ * A square platform of rounded rocks and cube rocks, 100x100 per scale unit.
+ */
+public class InputGenerator extends BaseInputGenerator {
+
+    @Override
+    public void generate(double scale, Random random, PrintWriter out) {
+        int side = scaledSide(100, scale);
+        for (int y = 0; y < side; y++) {
+            StringBuilder line = new StringBuilder(side);
+            for (int x = 0; x < side; x++) {
+                int roll = random.nextInt(100);
+                line.append(roll < 20 ? 'O' : roll < 38 ? '#' : '.');
+            }
+            out.println(line);
+        }
+    }
+
+}
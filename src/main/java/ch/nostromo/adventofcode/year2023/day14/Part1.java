@@ -1,10 +1,7 @@
 package ch.nostromo.adventofcode.year2023.day14;
 
 import ch.nostromo.adventofcode.BasePuzzle;
-import lombok.AllArgsConstructor;
-import lombok.Data;
 
-import java.util.ArrayList;
 import java.util.List;
 
 /**
@@ -67,57 +64,11 @@ public class Part1 extends BasePuzzle {
     private static final String EXPECTED_TEST_RESULT = "136";
 
     public String solvePuzzle(List<String> input) {
-        Map map = new Map(input);
-        map.tiltNorth();
-        return String.valueOf(map.scoreMap());
+        Dish dish = Dish.parse(input);
+        dish.tiltNorth();
+        return String.valueOf(dish.load());
     }
 
-    @Data
-    @AllArgsConstructor
-    public class Map {
-        char[][] map;
-
-        public Map(List<String> lines) {
-            map = new char[lines.get(0).length()][lines.size()];
-            for (int y = 0; y < lines.size(); y++) {
-                for (int x = 0; x < lines.get(y).length(); x++) {
-                    map[x][y] = lines.get(y).charAt(x);
-                }
-            }
-        }
-
-        public void tiltNorth() {
-            boolean movement = true;
-            while (movement) {
-                movement = false;
-                for (int y = 1; y < map.length; y++) {
-                    for (int x = 0; x < map[y].length; x++) {
-                        if (map[x][y] == 'O' && map[x][y - 1] == '.') {
-                            map[x][y - 1] = 'O';
-                            map[x][y] = '.';
-                            movement = true;
-                        }
-                    }
-                }
-            }
-        }
-
-        public long scoreMap() {
-            long result = 0;
-            for (int y = 0; y < map.length; y++) {
-                for (int x = 0; x < map[y].length; x++) {
-                    if (map[x][y] == 'O') {
-                        result += map.length - y;
-                    }
-                }
-            }
-            return result;
-        }
-
-
-    }
-
-
     public Part1() {
         super(EXPECTED_TEST_RESULT);
     }
@@ -1,13 +1,10 @@
 package ch.nostromo.adventofcode.year2023.day14;
 
 import ch.nostromo.adventofcode.BasePuzzle;
-import lombok.AllArgsConstructor;
-import lombok.Data;
+import ch.nostromo.adventofcode.utils.collections.LongLongMap;
 
 import java.util.ArrayList;
-import java.util.HashSet;
 import java.util.List;
-import java.util.Set;
 
 /**
  * --- Day 14: Parabolic Reflector Dish ---
@@ -117,150 +114,34 @@ public class Part2 extends BasePuzzle {
 
     private static final String EXPECTED_TEST_RESULT = "64";
 
-    public String solvePuzzle(List<String> input) {
-        Map map = new Map(input);
-
-
-        List<String> visitedCycleResults = new ArrayList<>();
-        List<Long> visitedCycleResultsScore = new ArrayList<>();
-
-        while (true) {
-            visitedCycleResults.add(map.createCycleResult());
-            visitedCycleResultsScore.add(map.scoreMap());
-
-            Set<String> uniqueResults = new HashSet<>(visitedCycleResults);
-            if (uniqueResults.size() != visitedCycleResults.size()) {
-                // First repetition
-                break;
-            }
-        }
-
+    private static final int SPINS = 1_000_000_000;
 
-        int endPos = visitedCycleResults.size() - 1;
-        int startPos = visitedCycleResults.indexOf(visitedCycleResults.get(endPos));
-        int scoreIdx = ((999999999 - startPos) % (endPos - startPos)) + startPos;
-        long result = visitedCycleResultsScore.get(scoreIdx);
-
-        return String.valueOf(result);
-    }
-
-    @Data
-    @AllArgsConstructor
-    public class Map {
-        char[][] map;
-
-        public Map(List<String> lines) {
-            map = new char[lines.get(0).length()][lines.size()];
-            for (int y = 0; y < lines.size(); y++) {
-                for (int x = 0; x < lines.get(y).length(); x++) {
-                    map[x][y] = lines.get(y).charAt(x);
-                }
-            }
-        }
-
-
-        public String createCycleResult() {
-            tiltNorth();
-            tiltWest();
-            tiltSouth();
-            tiltEast();
-
-
-            // lame unique key ;)
-            StringBuilder sb = new StringBuilder();
-            for (int y = 0; y < map.length; y++) {
-                for (int x = 0; x < map[y].length; x++) {
-                    sb.append(map[x][y]);
-                }
-            }
-
-            return sb.toString();
-        }
-
-
-        public void tiltNorth() {
-            boolean movement = true;
-            while (movement) {
-                movement = false;
-                for (int y = 1; y < map.length; y++) {
-                    for (int x = 0; x < map[y].length; x++) {
-                        if (map[x][y] == 'O' && map[x][y - 1] == '.') {
-                            map[x][y - 1] = 'O';
-                            map[x][y] = '.';
-                            movement = true;
-                        }
-                    }
-                }
-            }
-        }
-
-        public void tiltSouth() {
-            boolean movement = true;
-            while (movement) {
-                movement = false;
-                for (int y = map.length - 2; y >= 0; y--) {
-                    for (int x = 0; x < map[y].length; x++) {
-                        if (map[x][y] == 'O' && map[x][y + 1] == '.') {
-                            map[x][y + 1] = 'O';
-                            map[x][y] = '.';
-                            movement = true;
-                        }
-                    }
-                }
-            }
-        }
+    /**
+     * Spins until a state repeats; from then on the loads repeat with the period of the cycle.
+     */
+    public String solvePuzzle(List<String> input) {
+        Dish dish = Dish.parse(input);
 
+        LongLongMap seenAt = new LongLongMap();
+        List<Long> loads = new ArrayList<>();
 
-        public void tiltEast() {
-            boolean movement = true;
-            while (movement) {
-                movement = false;
-                for (int y = 0; y < map.length; y++) {
-                    for (int x = map[y].length - 2; x >= 0; x--) {
-                        if (map[x][y] == 'O' && map[x + 1][y] == '.') {
-                            map[x + 1][y] = 'O';
-                            map[x][y] = '.';
-                            movement = true;
-                        }
-                    }
-                }
-            }
-        }
+        for (int spin = 0; spin < SPINS; spin++) {
+            dish.spin();
 
-
-        public void tiltWest() {
-            boolean movement = true;
-            while (movement) {
-                movement = false;
-                for (int y = 0; y < map.length; y++) {
-                    for (int x = 1; x < map[y].length; x++) {
-                        if (map[x][y] == 'O' && map[x - 1][y] == '.') {
-                            map[x - 1][y] = 'O';
-                            map[x][y] = '.';
-                            movement = true;
-                        }
-                    }
-                }
+            long hash = dish.hash();
+            long first = seenAt.get(hash, -1);
+            if (first >= 0) {
+                int period = spin - (int) first;
+                return String.valueOf(loads.get((int) first + (SPINS - 1 - (int) first) % period));
             }
-        }
 
-
-        public long scoreMap() {
-            long result = 0;
-            for (int y = 0; y < map.length; y++) {
-                for (int x = 0; x < map[y].length; x++) {
-                    if (map[x][y] == 'O') {
-                        result += map.length - y;
-                    }
-                }
-            }
-            return result;
+            seenAt.put(hash, spin);
+            loads.add(dish.load());
         }
 
-
+        return String.valueOf(dish.load());
     }
 
-
     public Part2() {
         super(EXPECTED_TEST_RESULT);
     }
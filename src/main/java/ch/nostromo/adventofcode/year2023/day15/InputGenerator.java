@@ -0,0 +1,44 @@
+package ch.nostromo.adventofcode.year2023.day15;
+
+import ch.nostromo.adventofcode.BaseInputGenerator;
+
+import java.io.PrintWriter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * One line of 4000 initialization steps per scale unit. The labels come from a pool of 500 per scale unit, so lenses
+ * are replaced and removed again; two steps in three insert a lens.
+ */
+public class InputGenerator extends BaseInputGenerator {
+
+    @Override
+    public void generate(double scale, Random random, PrintWriter out) {
+        int steps = scaled(4000, scale);
+
+        List<String> labels = new ArrayList<>();
+        for (int i = scaled(500, scale); i > 0; i--) {
+            StringBuilder label = new StringBuilder();
+            for (int c = between(random, 2, 6); c > 0; c--) {
+                label.append((char) ('a' + random.nextInt(26)));
+            }
+            labels.add(label.toString());
+        }
+
+        StringBuilder line = new StringBuilder();
+        for (int step = 0; step < steps; step++) {
+            if (step > 0) {
+                line.append(',');
+            }
+            line.append(labels.get(random.nextInt(labels.size())));
+            if (random.nextInt(3) > 0) {
+                line.append('=').append(between(random, 1, 9));
+            } else {
+                line.append('-');
+            }
+        }
+        out.println(line);
+    }
+
+}
@@ -0,0 +1,244 @@
+package ch.nostromo.adventofcode.year2023.day16;
+
+import ch.nostromo.adventofcode.utils.Grid;
+import ch.nostromo.adventofcode.utils.collections.IntArrayList;
+
+import java.util.stream.IntStream;
+
+/**
+ * Follows the beam through the contraption without recursion: split beams are pushed on a work stack as
+ * {@code cell << 2 | direction}, and the visited (cell, direction) pairs are a bitset, so a beam running in a loop stops
+ * where it has been before.
+ * <p>
+ * With {@code memoize}, the paths between splitters are traced once up front. A splitter hit across its axis always
+ * sends the beam out both ends, so what it energizes from there on does not depend on where the beam came from; each
+ * run then only joins the stored paths of the splitters it reaches. The tracer is read-only once built and can be
+ * shared between threads.
+ */
+public class BeamTracer {
+
+    private final Grid grid;
+
+    private final int[] offsets = new int[4];
+
+    private final int cells;
+
+    /**
+     * Splitter node of every cell, -1 if the cell holds no splitter. Only set with memoization.
+     */
+    private int[] nodeOf;
+
+    /**
+     * Cells passed from each splitter node until the next splitter or the edge, the splitter itself included.
+     */
+    private int[][] nodeCells;
+
+    /**
+     * Splitter nodes reached from each splitter node.
+     */
+    private int[][] nodeSuccessors;
+
+    public BeamTracer(Grid grid, boolean memoize) {
+        this.grid = grid;
+        this.cells = grid.getCells().length;
+        for (int direction = 0; direction < 4; direction++) {
+            offsets[direction] = grid.offset(direction);
+        }
+
+        if (memoize) {
+            traceSplitterPaths();
+        }
+    }
+
+    /**
+     * Number of tiles energized by a beam entering at {@code position} heading in {@code direction}.
+     */
+    public int energize(int position, int direction) {
+        return nodeOf == null ? trace(position, direction) : traceMemoized(position, direction);
+    }
+
+    /**
+     * The most tiles energized by a beam entering from any edge tile, the entries evaluated in parallel on the common
+     * fork/join pool.
+     */
+    public int energizeBestEdge() {
+        int width = grid.getWidth();
+        int height = grid.getHeight();
+
+        IntArrayList entries = new IntArrayList(2 * (width + height));
+        for (int x = 0; x < width; x++) {
+            entries.add(grid.index(x, 0) << 2 | Grid.SOUTH);
+            entries.add(grid.index(x, height - 1) << 2 | Grid.NORTH);
+        }
+        for (int y = 0; y < height; y++) {
+            entries.add(grid.index(0, y) << 2 | Grid.EAST);
+            entries.add(grid.index(width - 1, y) << 2 | Grid.WEST);
+        }
+
+        return IntStream.of(entries.toArray())
+                .parallel()
+                .map(entry -> energize(entry >>> 2, entry & 3))
+                .max()
+                .orElse(0);
+    }
+
+    private int trace(int position, int direction) {
+        long[] visited = new long[(cells * 4 + 63) >>> 6];
+        long[] energized = new long[(cells + 63) >>> 6];
+        int count = 0;
+
+        IntArrayList beams = new IntArrayList();
+        beams.add(position << 2 | direction);
+
+        while (!beams.isEmpty()) {
+            int beam = beams.removeLast();
+            int p = beam >>> 2;
+            int d = beam & 3;
+
+            while (!grid.isBorder(p)) {
+                int state = p << 2 | d;
+                if ((visited[state >>> 6] & (1L << state)) != 0) {
+                    break;
+                }
+                visited[state >>> 6] |= 1L << state;
+
+                if ((energized[p >>> 6] & (1L << p)) == 0) {
+                    energized[p >>> 6] |= 1L << p;
+                    count++;
+                }
+
+                switch (grid.get(p)) {
+                    case '|' -> {
+                        if (d == Grid.WEST || d == Grid.EAST) {
+                            beams.add((p + offsets[Grid.NORTH]) << 2 | Grid.NORTH);
+                            d = Grid.SOUTH;
+                        }
+                    }
+                    case '-' -> {
+                        if (d == Grid.NORTH || d == Grid.SOUTH) {
+                            beams.add((p + offsets[Grid.WEST]) << 2 | Grid.WEST);
+                            d = Grid.EAST;
+                        }
+                    }
+                    // North <-> east, south <-> west
+                    case '/' -> d ^= 1;
+                    // North <-> west, south <-> east
+                    case '\\' -> d = 3 - d;
+                }
+
+                p += offsets[d];
+            }
+        }
+
+        return count;
+    }
+
+    private int traceMemoized(int position, int direction) {
+        long[] energized = new long[(cells + 63) >>> 6];
+        long[] reached = new long[(nodeCells.length + 63) >>> 6];
+        int count = 0;
+
+        IntArrayList cellsPassed = new IntArrayList();
+        IntArrayList nodes = new IntArrayList();
+        int node = follow(position, direction, cellsPassed);
+        if (node >= 0) {
+            nodes.add(node);
+            reached[node >>> 6] |= 1L << node;
+        }
+        for (int i = 0; i < cellsPassed.size(); i++) {
+            count += mark(energized, cellsPassed.get(i));
+        }
+
+        while (!nodes.isEmpty()) {
+            node = nodes.removeLast();
+            for (int cell : nodeCells[node]) {
+                count += mark(energized, cell);
+            }
+            for (int successor : nodeSuccessors[node]) {
+                if ((reached[successor >>> 6] & (1L << successor)) == 0) {
+                    reached[successor >>> 6] |= 1L << successor;
+                    nodes.add(successor);
+                }
+            }
+        }
+
+        return count;
+    }
+
+    private static int mark(long[] energized, int cell) {
+        if ((energized[cell >>> 6] & (1L << cell)) != 0) {
+            return 0;
+        }
+        energized[cell >>> 6] |= 1L << cell;
+        return 1;
+    }
+
+    private void traceSplitterPaths() {
+        nodeOf = new int[cells];
+        IntArrayList splitters = new IntArrayList();
+        for (int p = 0; p < cells; p++) {
+            byte tile = grid.get(p);
+            nodeOf[p] = tile == '|' || tile == '-' ? splitters.size() : -1;
+            if (nodeOf[p] >= 0) {
+                splitters.add(p);
+            }
+        }
+
+        nodeCells = new int[splitters.size()][];
+        nodeSuccessors = new int[splitters.size()][];
+
+        IntArrayList cellsPassed = new IntArrayList();
+        IntArrayList successors = new IntArrayList();
+        for (int node = 0; node < splitters.size(); node++) {
+            int p = splitters.get(node);
+            boolean vertical = grid.get(p) == '|';
+
+            cellsPassed.clear();
+            successors.clear();
+            cellsPassed.add(p);
+            for (int d : vertical ? new int[]{Grid.NORTH, Grid.SOUTH} : new int[]{Grid.WEST, Grid.EAST}) {
+                int successor = follow(p + offsets[d], d, cellsPassed);
+                if (successor >= 0 && !successors.contains(successor)) {
+                    successors.add(successor);
+                }
+            }
+
+            nodeCells[node] = cellsPassed.toArray();
+            nodeSuccessors[node] = successors.toArray();
+        }
+    }
+
+    /**
+     * Follows a beam through mirrors and along splitters until it hits a splitter across its axis, whose node is
+     * returned, or leaves the grid (-1). Without splitting, every tile sends a beam on one way and receives it from
+     * one way, so the only loop possible leads back to where the beam started; it ends there too (-1).
+     */
+    private int follow(int p, int d, IntArrayList cellsPassed) {
+        int start = p;
+        int startDirection = d;
+        while (!grid.isBorder(p)) {
+            switch (grid.get(p)) {
+                case '|' -> {
+                    if (d == Grid.WEST || d == Grid.EAST) {
+                        return nodeOf[p];
+                    }
+                }
+                case '-' -> {
+                    if (d == Grid.NORTH || d == Grid.SOUTH) {
+                        return nodeOf[p];
+                    }
+                }
+                case '/' -> d ^= 1;
+                case '\\' -> d = 3 - d;
+            }
+
+            cellsPassed.add(p);
+            p += offsets[d];
+            if (p == start && d == startDirection) {
+                return -1;
+            }
+        }
+        return -1;
+    }
+
+}
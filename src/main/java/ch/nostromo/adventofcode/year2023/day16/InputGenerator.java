@@ -0,0 +1,30 @@
+package ch.nostromo.adventofcode.year2023.day16;
+
+import ch.nostromo.adventofcode.BaseInputGenerator;
+
+import java.io.PrintWriter;
+import java.util.Random;
+
+/**
+ * A square contraption of mirrors and splitters, 110x110 per scale unit, with about one of ten tiles taken. The edge
+ * holds no mirrors, which would turn a beam running along it straight out of the contraption.
+ */
+public class InputGenerator extends BaseInputGenerator {
+
+    private static final char[] DEVICES = {'/', '\\', '|', '-'};
+
+    @Override
+    public void generate(double scale, Random random, PrintWriter out) {
+        int side = scaledSide(110, scale);
+        for (int y = 0; y < side; y++) {
+            StringBuilder line = new StringBuilder(side);
+            for (int x = 0; x < side; x++) {
+                boolean edge = x == 0 || y == 0 || x == side - 1 || y == side - 1;
+                int device = edge ? between(random, 2, 3) : random.nextInt(DEVICES.length);
+                line.append(random.nextInt(10) == 0 ? DEVICES[device] : '.');
+            }
+            out.println(line);
+        }
+    }
+
+}
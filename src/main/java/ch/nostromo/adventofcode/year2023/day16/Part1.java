@@ -1,10 +1,8 @@
 package ch.nostromo.adventofcode.year2023.day16;
 
 import ch.nostromo.adventofcode.BasePuzzle;
-import lombok.Data;
+import ch.nostromo.adventofcode.utils.Grid;
 
-import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.List;
 
 
@@ -73,155 +71,8 @@ public class Part1 extends BasePuzzle {
     private static final String EXPECTED_TEST_RESULT = "46";
 
     public String solvePuzzle(List<String> input) {
-        Map map = new Map(input);
-
-        lightTheMap(map, 0, 0, Direction.EAST);
-
-        return String.valueOf(map.getScore());
-    }
-
-    private void lightTheMap(Map map, int x, int y, Direction direction) {
-
-        if (y < 0 || y == map.getMap().length || x < 0 || x == map.getMap()[y].length) {
-            return;
-        }
-
-        map.getHeatedMap()[x][y] = '#';
-
-
-        if (map.directionsMap.get(x + "/" + y).contains(direction)) {
-            return;
-        } else {
-            map.directionsMap.get(x + "/" + y).add(direction);
-        }
-
-        char descisionPoint = map.getMap()[x][y];
-
-        switch (descisionPoint) {
-            case '.' -> {
-                switch (direction) {
-                    case NORTH -> {
-                        lightTheMap(map, x, y - 1, direction);
-                    }
-                    case SOUTH -> {
-                        lightTheMap(map, x, y + 1, direction);
-                    }
-                    case WEST -> {
-                        lightTheMap(map, x - 1, y, direction);
-                    }
-                    case EAST -> {
-                        lightTheMap(map, x + 1, y, direction);
-                    }
-                }
-
-            }
-            case '|' -> {
-                switch (direction) {
-                    case NORTH -> {
-                        lightTheMap(map, x, y - 1, direction);
-                    }
-                    case SOUTH -> {
-                        lightTheMap(map, x, y + 1, direction);
-                    }
-                    case WEST, EAST -> {
-                        lightTheMap(map, x, y - 1, direction.NORTH);
-                        lightTheMap(map, x, y + 1, direction.SOUTH);
-                    }
-                }
-            }
-            case '-' -> {
-                switch (direction) {
-                    case WEST -> {
-                        lightTheMap(map, x - 1, y, direction);
-                    }
-                    case EAST -> {
-                        lightTheMap(map, x + 1, y, direction);
-                    }
-                    case NORTH, SOUTH -> {
-                        lightTheMap(map, x - 1, y, direction.WEST);
-                        lightTheMap(map, x + 1, y, direction.EAST);
-                    }
-                }
-            }
-            case '/' -> {
-
-                switch (direction) {
-                    case NORTH -> {
-                        lightTheMap(map, x + 1, y, direction.EAST);
-                    }
-                    case SOUTH -> {
-                        lightTheMap(map, x - 1, y, direction.WEST);
-                    }
-                    case WEST -> {
-                        lightTheMap(map, x, y + 1, direction.SOUTH);
-                    }
-                    case EAST -> {
-                        lightTheMap(map, x, y - 1, direction.NORTH);
-                    }
-                }
-
-            }
-            case '\\' -> {
-                switch (direction) {
-                    case NORTH -> {
-                        lightTheMap(map, x - 1, y, direction.WEST);
-                    }
-                    case SOUTH -> {
-                        lightTheMap(map, x + 1, y, direction.EAST);
-                    }
-                    case WEST -> {
-                        lightTheMap(map, x, y - 1, direction.NORTH);
-                    }
-                    case EAST -> {
-                        lightTheMap(map, x, y + 1, direction.SOUTH);
-                    }
-
-
-                }
-
-            }
-
-        }
-
-
-    }
-
-
-    @Data
-    public class Map {
-        char[][] map;
-        char[][] heatedMap;
-
-        HashMap<String, List<Direction>> directionsMap = new HashMap<>();
-
-        public Map(List<String> lines) {
-            map = new char[lines.get(0).length()][lines.size()];
-            heatedMap = new char[lines.get(0).length()][lines.size()];
-            for (int y = 0; y < lines.size(); y++) {
-                for (int x = 0; x < lines.get(y).length(); x++) {
-                    map[x][y] = lines.get(y).charAt(x);
-                    heatedMap[x][y] = '.';
-                    directionsMap.put(x + "/" + y, new ArrayList<>());
-                }
-            }
-        }
-
-        public long getScore() {
-            long result = 0;
-            for (int y = 0; y < map.length; y++) {
-                for (int x = 0; x < map[y].length; x++) {
-                    if (heatedMap[x][y] == '#') {
-                        result++;
-                    }
-
-                }
-            }
-            return result;
-        }
-    }
-
-    public enum Direction {
-        NORTH, SOUTH, WEST, EAST;
+        Grid grid = Grid.parse(input);
+        return String.valueOf(new BeamTracer(grid, false).energize(grid.index(0, 0), Grid.EAST));
     }
 
     public Part1() {
@@ -0,0 +1,21 @@
+package ch.nostromo.adventofcode.year2024.day01;
+
+import ch.nostromo.adventofcode.BaseInputGenerator;
+
+import java.io.PrintWriter;
+import java.util.Random;
+
+/**
+ * Two location id lists of five digit numbers, 1000 per scale unit.
+ */
+public class InputGenerator extends BaseInputGenerator {
+
+    @Override
+    public void generate(double scale, Random random, PrintWriter out) {
+        int lines = scaled(1000, scale);
+        for (int i = 0; i < lines; i++) {
+            out.println(between(random, 10000, 99999) + "   " + between(random, 10000, 99999));
+        }
+    }
+
+}
@@ -1,6 +1,7 @@
 package ch.nostromo.adventofcode.year2024.day01;
 
 import ch.nostromo.adventofcode.BasePuzzle;
+import ch.nostromo.adventofcode.utils.Scanner;
 
 import java.util.ArrayList;
 import java.util.Collections;
@@ -96,9 +97,11 @@ public class Part2 extends BasePuzzle {
         List<Integer> leftCol = new ArrayList<>();
         List<Integer> rightCol = new ArrayList<>();
 
+        Scanner scanner = new Scanner();
         for (String line : input) {
-            leftCol.add(Integer.parseInt(line.split("\\s+")[0]));
-            rightCol.add(Integer.parseInt(line.split("\\s+")[1]));
+            scanner.reset(line);
+            leftCol.add(scanner.nextInt());
+            rightCol.add(scanner.nextInt());
         }
 
         for (Integer leftEntry : leftCol) {
@@ -0,0 +1,31 @@
+package ch.nostromo.adventofcode.year2024.day02;
+
+import ch.nostromo.adventofcode.BaseInputGenerator;
+
+import java.io.PrintWriter;
+import java.util.Random;
+
+/**
+ * Reports of 5 to 8 levels, mostly drifting in one direction, 1000 per scale unit.
+ */
+public class InputGenerator extends BaseInputGenerator {
+
+    @Override
+    public void generate(double scale, Random random, PrintWriter out) {
+        int reports = scaled(1000, scale);
+        for (int r = 0; r < reports; r++) {
+            int levels = between(random, 5, 8);
+            int direction = random.nextBoolean() ? 1 : -1;
+            int level = between(random, 20, 80);
+
+            StringBuilder line = new StringBuilder();
+            line.append(level);
+            for (int i = 1; i < levels; i++) {
+                level += random.nextInt(10) == 0 ? between(random, -4, 4) : direction * between(random, 1, 3);
+                line.append(' ').append(level);
+            }
+            out.println(line);
+        }
+    }
+
+}
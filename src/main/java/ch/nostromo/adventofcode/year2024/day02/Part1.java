@@ -1,10 +1,11 @@
 package ch.nostromo.adventofcode.year2024.day02;
 
 import ch.nostromo.adventofcode.BasePuzzle;
+import ch.nostromo.adventofcode.StreamingPuzzle;
 
-import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.Iterator;
 import java.util.List;
 
 /**
@@ -43,21 +44,21 @@ import java.util.List;
 
  Your puzzle answer was 218.
  */
-public class Part1 extends BasePuzzle {
+public class Part1 extends BasePuzzle implements StreamingPuzzle {
 
     private static final String EXPECTED_TEST_RESULT = "2";
 
     public String solvePuzzle(List<String> input) {
+        return solvePuzzle(input.iterator());
+    }
 
-        int result = 0;
+    @Override
+    public String solvePuzzle(Iterator<? extends CharSequence> lines) {
 
-        List<int[]> reports = new ArrayList<>();
-        for (String line : input) {
-            int[] numbers = Arrays.stream(line.split(" ")).mapToInt(Integer::parseInt).toArray();
-            reports.add(numbers);
-        }
+        int result = 0;
 
-        for (int[] report : reports) {
+        while (lines.hasNext()) {
+            int[] report = Arrays.stream(lines.next().toString().split(" ")).mapToInt(Integer::parseInt).toArray();
             if (isSafeReport(report)) {
                 result++;
             }
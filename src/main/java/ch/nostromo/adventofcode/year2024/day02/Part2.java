@@ -1,9 +1,10 @@
 package ch.nostromo.adventofcode.year2024.day02;
 
 import ch.nostromo.adventofcode.BasePuzzle;
+import ch.nostromo.adventofcode.StreamingPuzzle;
 
-import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Iterator;
 import java.util.List;
 
 /**
@@ -63,22 +64,20 @@ import java.util.List;
 
  Your puzzle answer was 290.
  */
-public class Part2 extends BasePuzzle {
+public class Part2 extends BasePuzzle implements StreamingPuzzle {
 
     private static final String EXPECTED_TEST_RESULT = "4";
 
     public String solvePuzzle(List<String> input) {
+        return solvePuzzle(input.iterator());
+    }
 
-        int result = 0;
-
-        List<int[]> reports = new ArrayList<>();
-        for (String line : input) {
-            int[] numbers = Arrays.stream(line.split(" ")).mapToInt(Integer::parseInt).toArray();
-            reports.add(numbers);
-        }
+    @Override
+    public String solvePuzzle(Iterator<? extends CharSequence> lines) {
 
         int safeReportsCount = 0;
-        for (int[] report : reports) {
+        while (lines.hasNext()) {
+            int[] report = Arrays.stream(lines.next().toString().split(" ")).mapToInt(Integer::parseInt).toArray();
             if (isSafeReport(report) || mayBeSafeReport(report)) {
                 safeReportsCount++;
             }
@@ -0,0 +1,53 @@
+package ch.nostromo.adventofcode.year2024.day03;
+
+import ch.nostromo.adventofcode.BaseInputGenerator;
+
+import java.io.PrintWriter;
+import java.util.Random;
+
+/**
+ * Lines of corrupted memory, about 3000 characters each and six per scale unit, mixing valid {@code mul(X,Y)},
+ * {@code do()} and {@code don't()} instructions with broken ones and noise.
+ * <p>
+ * The lines keep their regular length because part 2 searches the rest of a line at every position.
+ */
+public class InputGenerator extends BaseInputGenerator {
+
+    private static final int LINE_LENGTH = 3000;
+
+    private static final String NOISE = "!#$%&'*+,-/:;<>?@[]^_{}~ ()";
+
+    private static final String[] FUNCTIONS = {"select", "who", "what", "where", "when", "how", "from", "why"};
+
+    @Override
+    public void generate(double scale, Random random, PrintWriter out) {
+        int lines = scaled(6, scale);
+        for (int i = 0; i < lines; i++) {
+            StringBuilder line = new StringBuilder(LINE_LENGTH + 20);
+            while (line.length() < LINE_LENGTH) {
+                int roll = random.nextInt(20);
+                if (roll < 5) {
+                    line.append("mul(").append(between(random, 1, 999)).append(',').append(between(random, 1, 999)).append(')');
+                } else if (roll == 5) {
+                    line.append("do()");
+                } else if (roll == 6) {
+                    line.append("don't()");
+                } else if (roll == 7) {
+                    // Broken instructions the solvers have to skip
+                    String[] broken = {"mul(%d,%d]", "mul[%d,%d)", "mul(%d, %d)", "mul ( %d,%d )", "mul(%d*%d)"};
+                    line.append(String.format(broken[random.nextInt(broken.length)], between(random, 1, 999), between(random, 1, 999)));
+                } else if (roll == 8) {
+                    line.append(FUNCTIONS[random.nextInt(FUNCTIONS.length)]).append('(');
+                    if (random.nextBoolean()) {
+                        line.append(between(random, 1, 999)).append(',').append(between(random, 1, 999));
+                    }
+                    line.append(')');
+                } else {
+                    line.append(NOISE.charAt(random.nextInt(NOISE.length())));
+                }
+            }
+            out.println(line);
+        }
+    }
+
+}
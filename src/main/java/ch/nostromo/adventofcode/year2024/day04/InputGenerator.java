@@ -0,0 +1,27 @@
+package ch.nostromo.adventofcode.year2024.day04;
+
+import ch.nostromo.adventofcode.BaseInputGenerator;
+
+import java.io.PrintWriter;
+import java.util.Random;
+
+/**
+ * A square word search of the letters X, M, A and S, 140x140 per scale unit.
+ */
+public class InputGenerator extends BaseInputGenerator {
+
+    private static final String LETTERS = "XMAS";
+
+    @Override
+    public void generate(double scale, Random random, PrintWriter out) {
+        int side = scaledSide(140, scale);
+        for (int y = 0; y < side; y++) {
+            StringBuilder line = new StringBuilder(side);
+            for (int x = 0; x < side; x++) {
+                line.append(LETTERS.charAt(random.nextInt(LETTERS.length())));
+            }
+            out.println(line);
+        }
+    }
+
+}
@@ -0,0 +1,56 @@
+package ch.nostromo.adventofcode.year2024.day05;
+
+import ch.nostromo.adventofcode.BaseInputGenerator;
+
+import java.io.PrintWriter;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Ordering rules for every pair of 49 two-digit pages and 200 updates per scale unit, about half of them in order.
+ * The pages stay the same at every scale, as the solvers keep the rules in a 100x100 table.
+ */
+public class InputGenerator extends BaseInputGenerator {
+
+    private static final int PAGES = 49;
+
+    @Override
+    public void generate(double scale, Random random, PrintWriter out) {
+        List<Integer> pages = new ArrayList<>();
+        for (int page = 10; page < 100; page++) {
+            pages.add(page);
+        }
+        Collections.shuffle(pages, random);
+        List<Integer> order = pages.subList(0, PAGES);
+
+        List<String> rules = new ArrayList<>();
+        for (int i = 0; i < PAGES; i++) {
+            for (int j = i + 1; j < PAGES; j++) {
+                rules.add(order.get(i) + "|" + order.get(j));
+            }
+        }
+        Collections.shuffle(rules, random);
+        rules.forEach(out::println);
+        out.println();
+
+        int updates = scaled(200, scale);
+        for (int u = 0; u < updates; u++) {
+            List<Integer> update = new ArrayList<>(order);
+            Collections.shuffle(update, random);
+            update = new ArrayList<>(update.subList(0, 2 * between(random, 2, 11) + 1));
+            if (random.nextBoolean()) {
+                update.sort(Comparator.comparingInt(order::indexOf));
+            }
+
+            StringBuilder line = new StringBuilder();
+            for (int page : update) {
+                line.append(line.length() > 0 ? "," : "").append(page);
+            }
+            out.println(line);
+        }
+    }
+
+}
@@ -1,8 +1,8 @@
 package ch.nostromo.adventofcode.year2024.day05;
 
 import ch.nostromo.adventofcode.BasePuzzle;
-import lombok.AllArgsConstructor;
-import lombok.Data;
+import ch.nostromo.adventofcode.utils.collections.BitSet2D;
+import ch.nostromo.adventofcode.utils.collections.IntArrayList;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -89,8 +89,9 @@ public class Part1 extends BasePuzzle {
 
     public String solvePuzzle(List<String> input) {
 
-        List<Rule> rules = new ArrayList<>();
-        List<List<Integer>> pagesList = new ArrayList<>();
+        // A set bit (x, y) means page x has to be printed before page y
+        BitSet2D rules = new BitSet2D(0, 0, 100, 100);
+        List<IntArrayList> pagesList = new ArrayList<>();
 
         boolean rulesPart = true;
 
@@ -99,9 +100,9 @@ public class Part1 extends BasePuzzle {
                 rulesPart = false;
             } else {
                 if (rulesPart) {
-                    rules.add(new Rule(Integer.valueOf(line.split("\\|")[0]), Integer.valueOf(line.split("\\|")[1])));
+                    rules.set(Integer.parseInt(line.split("\\|")[0]), Integer.parseInt(line.split("\\|")[1]));
                 } else {
-                    List<Integer> numbers = new ArrayList<>();
+                    IntArrayList numbers = new IntArrayList();
                     for (String num : line.split(",")) {
                         numbers.add(Integer.parseInt(num.trim()));
                     }
@@ -112,57 +113,33 @@ public class Part1 extends BasePuzzle {
 
         int result = 0;
 
-        for (List<Integer> pages : pagesList) {
+        for (IntArrayList pages : pagesList) {
             result += checkPages(pages, rules);
         }
 
         return String.valueOf(result);
     }
 
-    Integer checkPages(List<Integer> pages, List<Rule> rules) {
+    int checkPages(IntArrayList pages, BitSet2D rules) {
         for (int i = 0; i < pages.size(); i++) {
             // Check page
-            if (!checkRule(pages.get(i), pages.subList(i, pages.size()), rules)) {
+            if (!checkRule(pages.get(i), pages, i, rules)) {
                 return 0;
             }
         }
         return pages.get(pages.size() / 2);
     }
 
-    boolean checkRule(int page, List<Integer> followingPages, List<Rule> rules) {
-        for (Integer followingPage : followingPages) {
-            for (Rule rule : rules) {
-                if (rule.isApplicable(page, followingPage) && ! rule.isRespected(page, followingPage)) {
-                    return false;
-                }
+    boolean checkRule(int page, IntArrayList pages, int from, BitSet2D rules) {
+        for (int i = from; i < pages.size(); i++) {
+            if (rules.get(pages.get(i), page)) {
+                return false;
             }
         }
-
         return true;
     }
 
 
-
-    @Data
-    @AllArgsConstructor
-    class Rule {
-        int start;
-        int end;
-
-        public boolean isApplicable(int page1, int page2) {
-            if (start == page1 && end == page2 || start == page2 && end == page1) {
-                return true;
-            }
-            return false;
-        }
-
-        public boolean isRespected(int page1, int page2) {
-            return start == page1 && end == page2;
-        }
-
-    }
-
-
     public Part1() {
         super(EXPECTED_TEST_RESULT);
     }
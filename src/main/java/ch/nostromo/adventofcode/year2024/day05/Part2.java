@@ -1,10 +1,11 @@
 package ch.nostromo.adventofcode.year2024.day05;
 
 import ch.nostromo.adventofcode.BasePuzzle;
-import lombok.AllArgsConstructor;
-import lombok.Data;
+import ch.nostromo.adventofcode.utils.collections.BitSet2D;
+import ch.nostromo.adventofcode.utils.collections.IntArrayList;
 
-import java.util.*;
+import java.util.ArrayList;
+import java.util.List;
 
 /**
  * --- Day 5: Print Queue ---
@@ -88,8 +89,9 @@ public class Part2 extends BasePuzzle {
 
     public String solvePuzzle(List<String> input) {
 
-        List<Rule> rules = new ArrayList<>();
-        List<List<Integer>> pagesList = new ArrayList<>();
+        // A set bit (x, y) means page x has to be printed before page y
+        BitSet2D rules = new BitSet2D(0, 0, 100, 100);
+        List<IntArrayList> pagesList = new ArrayList<>();
 
         boolean rulesPart = true;
 
@@ -98,9 +100,9 @@ public class Part2 extends BasePuzzle {
                 rulesPart = false;
             } else {
                 if (rulesPart) {
-                    rules.add(new Rule(Integer.valueOf(line.split("\\|")[0]), Integer.valueOf(line.split("\\|")[1])));
+                    rules.set(Integer.parseInt(line.split("\\|")[0]), Integer.parseInt(line.split("\\|")[1]));
                 } else {
-                    List<Integer> numbers = new ArrayList<>();
+                    IntArrayList numbers = new IntArrayList();
                     for (String num : line.split(",")) {
                         numbers.add(Integer.parseInt(num.trim()));
                     }
@@ -111,7 +113,7 @@ public class Part2 extends BasePuzzle {
 
         int result = 0;
 
-        for (List<Integer> pages : pagesList) {
+        for (IntArrayList pages : pagesList) {
             if (!checkPages(pages, rules)) {
                 result += reorderPages(pages, rules);
             }
@@ -121,35 +123,38 @@ public class Part2 extends BasePuzzle {
     }
 
 
-    int reorderPages(List<Integer> pages, List<Rule> rules) {
+    /**
+     * Topological sort over the positions of the pages, counting for every page how many others have to come first.
+     */
+    int reorderPages(IntArrayList pages, BitSet2D rules) {
 
-        List<Rule> applicableRules = new ArrayList<>();
-        for (Rule rule : rules) {
-            if (pages.contains(rule.start) && pages.contains(rule.end)) {
-                applicableRules.add(rule);
+        int[] linksToPages = new int[pages.size()];
+        for (int i = 0; i < pages.size(); i++) {
+            for (int j = 0; j < pages.size(); j++) {
+                if (rules.get(pages.get(j), pages.get(i))) {
+                    linksToPages[i]++;
+                }
             }
         }
 
-        Map<Integer, List<Integer>> rulesMap = createRulesMap(pages, applicableRules);
-        Map<Integer, Integer> linksToPages = createLinksToPages(pages,applicableRules);
-
-        Queue<Integer> toproc = new LinkedList<>();
-        for (int page : pages) {
-            if (linksToPages.get(page) == 0) {
-                toproc.add(page);
+        IntArrayList toproc = new IntArrayList(pages.size());
+        for (int i = 0; i < pages.size(); i++) {
+            if (linksToPages[i] == 0) {
+                toproc.add(i);
             }
         }
 
-        List<Integer> result = new ArrayList<>();
+        IntArrayList result = new IntArrayList(pages.size());
         while (!toproc.isEmpty()) {
-            int page = toproc.poll();
+            int page = pages.get(toproc.removeLast());
 
             result.add(page);
-            for (int nextPage : rulesMap.get(page)) {
-                // linksToPages.put(neighbor, linksToPages.get(neighbor) + 1);
-                linksToPages.put(nextPage, linksToPages.get(nextPage) - 1);
-                if (linksToPages.get(nextPage) == 0) {
-                    toproc.add(nextPage);
+            for (int next = 0; next < pages.size(); next++) {
+                if (rules.get(page, pages.get(next))) {
+                    linksToPages[next]--;
+                    if (linksToPages[next] == 0) {
+                        toproc.add(next);
+                    }
                 }
             }
         }
@@ -158,78 +163,26 @@ public class Part2 extends BasePuzzle {
 
     }
 
-    Map<Integer, Integer> createLinksToPages(List<Integer> pages, List<Rule> rules) {
-
-        Map<Integer, Integer> result = new HashMap<>();
-        for (Integer page : pages) {
-            result.put(page, 0);
-        }
-
-        for (Rule rule : rules) {
-            result.put(rule.end, result.get(rule.end) + 1);
-        }
-
-        return result;
-    }
-
-    Map<Integer, List<Integer>> createRulesMap(List<Integer> pages, List<Rule> rules) {
-        Map<Integer, List<Integer>> rulesMap = new HashMap<>();
-
-        for (Integer page : pages) {
-            rulesMap.put(page, new ArrayList<>());
-        }
-
-        // Add rule ends to any page
-        for (Rule rule : rules) {
-            rulesMap.get(rule.start).add(rule.end);
-        }
-
-        return rulesMap;
-    }
-
-    boolean checkPages(List<Integer> pages, List<Rule> rules) {
+    boolean checkPages(IntArrayList pages, BitSet2D rules) {
         for (int i = 0; i < pages.size(); i++) {
             // Check page
-            if (!checkRule(pages.get(i), pages.subList(i, pages.size()), rules)) {
+            if (!checkRule(pages.get(i), pages, i, rules)) {
                 return false;
             }
         }
         return true;
     }
 
-    boolean checkRule(int page, List<Integer> followingPages, List<Rule> rules) {
-        for (Integer followingPage : followingPages) {
-            for (Rule rule : rules) {
-                if (rule.isApplicable(page, followingPage) && !rule.isRespected(page, followingPage)) {
-                    return false;
-                }
+    boolean checkRule(int page, IntArrayList pages, int from, BitSet2D rules) {
+        for (int i = from; i < pages.size(); i++) {
+            if (rules.get(pages.get(i), page)) {
+                return false;
             }
         }
         return true;
     }
 
 
-    @Data
-    @AllArgsConstructor
-    class Rule {
-        int start;
-        int end;
-
-
-        public boolean isApplicable(int page1, int page2) {
-            if (start == page1 && end == page2 || start == page2 && end == page1) {
-                return true;
-            }
-            return false;
-        }
-
-        public boolean isRespected(int page1, int page2) {
-            return start == page1 && end == page2;
-        }
-
-    }
-
-
     public Part2() {
         super(EXPECTED_TEST_RESULT);
     }
@@ -0,0 +1,110 @@
+package ch.nostromo.adventofcode.year2024.day06;
+
+import ch.nostromo.adventofcode.BaseInputGenerator;
+
+import java.io.PrintWriter;
+import java.util.Arrays;
+import java.util.Random;
+
+/**
+ * A square lab, 130x130 per scale unit. Like in the real maps the guard takes a long way out: it walks an outward
+ * spiral, ever wider by two to four positions per turn, to the edge. The spiral is drawn first, then obstructions are
+ * strewn over about one of 25 positions the guard never passes, which does not change the patrol.
+ */
+public class InputGenerator extends BaseInputGenerator {
+
+    private static final int[] DX = {0, 1, 0, -1};
+
+    private static final int[] DY = {-1, 0, 1, 0};
+
+    @Override
+    public void generate(double scale, Random random, PrintWriter out) {
+        int side = Math.max(2, scaledSide(130, scale));
+        char[][] map;
+        do {
+            map = new char[side][side];
+            for (char[] row : map) {
+                Arrays.fill(row, '.');
+            }
+            boolean[][] visited = drawSpiral(map, random);
+            for (int y = 0; y < side; y++) {
+                for (int x = 0; x < side; x++) {
+                    if (!visited[y][x] && random.nextInt(25) == 0) {
+                        map[y][x] = '#';
+                    }
+                }
+            }
+        } while (!guardLeaves(map));
+
+        for (char[] row : map) {
+            out.println(row);
+        }
+    }
+
+    /**
+     * Places the guard and the obstructions turning it along the spiral, and returns the positions passed.
+     */
+    private static boolean[][] drawSpiral(char[][] map, Random random) {
+        int side = map.length;
+        boolean[][] visited = new boolean[side][side];
+        int x = between(random, side / 3, side - 1 - side / 3);
+        int y = between(random, side / 3, side - 1 - side / 3);
+        map[y][x] = '^';
+        visited[y][x] = true;
+
+        // Each leg is longer than the one before the last turn, so the spiral never crosses itself
+        int[] lengths = {between(random, 1, 3), between(random, 1, 3)};
+        for (int leg = 0; ; leg++) {
+            int direction = leg & 3;
+            if (leg >= 2) {
+                lengths[leg & 1] += between(random, 2, 4);
+            }
+            for (int step = 0; step <= lengths[leg & 1]; step++) {
+                int nextX = x + DX[direction];
+                int nextY = y + DY[direction];
+                if (nextX < 0 || nextY < 0 || nextX >= side || nextY >= side) {
+                    return visited;
+                }
+                if (step == lengths[leg & 1]) {
+                    map[nextY][nextX] = '#';
+                } else {
+                    x = nextX;
+                    y = nextY;
+                    visited[y][x] = true;
+                }
+            }
+        }
+    }
+
+    private static boolean guardLeaves(char[][] map) {
+        int side = map.length;
+        int x = 0;
+        int y = 0;
+        for (int row = 0; row < side; row++) {
+            for (int column = 0; column < side; column++) {
+                if (map[row][column] == '^') {
+                    x = column;
+                    y = row;
+                }
+            }
+        }
+
+        // Every position is passed in each of the four directions at most once on a patrol that ends
+        int direction = 0;
+        for (long steps = 4L * side * side; steps > 0; steps--) {
+            int nextX = x + DX[direction];
+            int nextY = y + DY[direction];
+            if (nextX < 0 || nextY < 0 || nextX >= side || nextY >= side) {
+                return true;
+            }
+            if (map[nextY][nextX] == '#') {
+                direction = (direction + 1) & 3;
+            } else {
+                x = nextX;
+                y = nextY;
+            }
+        }
+        return false;
+    }
+
+}
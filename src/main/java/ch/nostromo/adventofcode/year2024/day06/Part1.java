@@ -1,10 +1,10 @@
 package ch.nostromo.adventofcode.year2024.day06;
 
 import ch.nostromo.adventofcode.BasePuzzle;
+import ch.nostromo.adventofcode.PuzzleInput;
+import ch.nostromo.adventofcode.utils.Grid;
 
-import java.util.HashSet;
 import java.util.List;
-import java.util.Set;
 
 /**
  * --- Day 6: Guard Gallivant ---
@@ -104,47 +104,12 @@ public class Part1 extends BasePuzzle {
 
 
     public String solvePuzzle(List<String> input) {
-        int width = input.get(0).length();
-        return String.valueOf(travel(String.join("", input), width));
+        return solvePuzzle(PuzzleInput.of(input));
     }
 
-
-    int travel(String map, int width) {
-        // North, east, south, west
-        int[] directions = {-width, 1, width, -1};
-
-        int currentDirection = 0;
-        int currentPosition = map.indexOf("^");
-
-        Set<Integer> visitedFields = new HashSet<>();
-        visitedFields.add(currentPosition);
-
-        while (true) {
-            int nextPosition = currentPosition + directions[currentDirection];
-
-            // Is out of bounds
-            if (nextPosition < 0 || nextPosition > map.length()) {
-                break;
-            } else if (currentDirection == 1 && nextPosition % width < currentPosition % width) {
-                break;
-            } else if (currentDirection == 3 && nextPosition % width >  currentPosition % width) {
-                break;
-            }
-
-            if (map.charAt(nextPosition) != '#') {
-                currentPosition = nextPosition;
-                visitedFields.add(currentPosition);
-            } else {
-                currentDirection++;
-                if (currentDirection > 3) {
-                    currentDirection = 0;
-                }
-
-            }
-
-        }
-
-        return visitedFields.size();
+    @Override
+    public String solvePuzzle(PuzzleInput input) {
+        return String.valueOf(new Patrol(Grid.parse(input)).firstVisits().length);
     }
 
     public Part1() {
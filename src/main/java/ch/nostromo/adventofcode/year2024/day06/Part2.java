@@ -1,10 +1,10 @@
 package ch.nostromo.adventofcode.year2024.day06;
 
 import ch.nostromo.adventofcode.BasePuzzle;
+import ch.nostromo.adventofcode.PuzzleInput;
+import ch.nostromo.adventofcode.utils.Grid;
 
-import java.util.HashSet;
 import java.util.List;
-import java.util.Set;
 
 /**
  * --- Day 6: Guard Gallivant ---
@@ -191,70 +191,12 @@ public class Part2 extends BasePuzzle {
 
 
     public String solvePuzzle(List<String> input) {
-        int result = 0;
-
-        int width = input.get(0).length();
-        int height = input.size();
-        String map = String.join("", input);
-
-        for (int i = 0; i < map.length(); i++) {
-
-            String modifiedMap = map.substring(0, i) + '#' + map.substring(i + 1);
-
-            if (!modifiedMap.equals(map) && isParadox(modifiedMap, width, height)) {
-                result++;
-            }
-
-        }
-
-        return String.valueOf(result);
+        return solvePuzzle(PuzzleInput.of(input));
     }
 
-
-    boolean isParadox(String map, int width, int height) {
-        // North, east, south, west
-        int[] directions = {-width, 1, width, -1};
-
-        int currentDirection = 0;
-        int currentPosition = map.indexOf("^");
-
-        Set<Integer> visitedFieldsInDirection = new HashSet<>();
-        visitedFieldsInDirection.add(currentDirection * 100000 + currentPosition);
-
-        while (true) {
-            // calculate next position
-            int nextPosition = currentPosition + directions[currentDirection];
-
-            // Is out of bounds north / south
-            if (nextPosition < 0 || nextPosition > map.length()) {
-                break;
-            } else if (currentDirection == 1 && nextPosition % width < currentPosition % width) {
-                break;
-            } else if (currentDirection == 3 && nextPosition % width >  currentPosition % width) {
-                break;
-            }
-
-            // Is empty field?
-            if (map.charAt(nextPosition) != '#') {
-                currentPosition = nextPosition;
-            } else {
-                currentDirection++;
-                if (currentDirection > 3) {
-                    currentDirection = 0;
-                }
-
-            }
-
-            int nextCheck = currentDirection * 100000 + currentPosition;
-            if (visitedFieldsInDirection.contains(nextCheck)) {
-                return true;
-            } else {
-                visitedFieldsInDirection.add(nextCheck);
-            }
-
-        }
-
-        return false;
+    @Override
+    public String solvePuzzle(PuzzleInput input) {
+        return String.valueOf(new Patrol(Grid.parse(input)).countLoopObstructions());
     }
 
     public Part2() {
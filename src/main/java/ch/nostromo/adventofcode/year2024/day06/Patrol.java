@@ -0,0 +1,169 @@
+package ch.nostromo.adventofcode.year2024.day06;
+
+import ch.nostromo.adventofcode.utils.Grid;
+import ch.nostromo.adventofcode.utils.collections.IntArrayList;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.IntStream;
+
+/**
+ * The guard's patrol on a lab map, with jump tables so a walk costs one lookup per turn instead of one per step.
+ * <p>
+ * {@code jumps[direction][cell]} is the cell the guard stops at in front of the next obstacle, or the complement
+ * {@code ~cell} of the last cell before the edge if there is no obstacle that way. An added obstruction is not in the
+ * tables; every jump checks whether it lies on the way.
+ */
+public class Patrol {
+
+    private final Grid grid;
+
+    private final int start;
+
+    private final int stride;
+
+    private final int[] offsets = new int[4];
+
+    private final int[][] jumps = new int[4][];
+
+    public Patrol(Grid grid) {
+        this.grid = grid;
+        this.start = grid.indexOf('^');
+        this.stride = grid.getStride();
+
+        int cells = grid.getCells().length;
+        for (int direction = 0; direction < 4; direction++) {
+            int offset = grid.offset(direction);
+            offsets[direction] = offset;
+
+            // The neighbour in walking direction is always filled in first
+            int[] jump = new int[cells];
+            for (int n = 0; n < cells; n++) {
+                int p = offset < 0 ? n : cells - 1 - n;
+                if (grid.isBorder(p) || grid.get(p) == '#') {
+                    continue;
+                }
+                int next = p + offset;
+                jump[p] = grid.isBorder(next) ? ~p : grid.get(next) == '#' ? p : jump[next];
+            }
+            jumps[direction] = jump;
+        }
+    }
+
+    /**
+     * Every cell of the original patrol in the order the guard first reaches it, each packed with the cell and
+     * direction it was entered from as {@code cell << 32 | from << 2 | direction}. The start comes first, with
+     * {@code from} 0.
+     */
+    public long[] firstVisits() {
+        long[] visited = new long[(grid.getCells().length + 63) >>> 6];
+        IntArrayList cells = new IntArrayList();
+        IntArrayList froms = new IntArrayList();
+
+        int position = start;
+        int direction = Grid.NORTH;
+        visited[position >>> 6] |= 1L << position;
+        cells.add(position);
+        froms.add(direction);
+
+        // Each of the four states of a cell is passed at most once on a patrol that ends
+        for (long steps = 4L * grid.getCells().length; ; steps--) {
+            if (steps == 0) {
+                throw new IllegalStateException("The guard never leaves the lab");
+            }
+            int next = position + offsets[direction];
+            if (grid.isBorder(next)) {
+                break;
+            }
+
+            if (grid.get(next) == '#') {
+                direction = (direction + 1) & 3;
+            } else {
+                if ((visited[next >>> 6] & (1L << next)) == 0) {
+                    visited[next >>> 6] |= 1L << next;
+                    cells.add(next);
+                    froms.add(position << 2 | direction);
+                }
+                position = next;
+            }
+        }
+
+        long[] result = new long[cells.size()];
+        for (int i = 0; i < result.length; i++) {
+            result[i] = (long) cells.get(i) << 32 | froms.get(i);
+        }
+        return result;
+    }
+
+    /**
+     * Number of cells where a single added obstruction traps the guard in a loop.
+     * <p>
+     * Only cells of the original patrol can change it. For each of them the guard starts right before the cell, where
+     * it first got there, since the walk up to there stays the same. The candidates are spread over the common
+     * fork/join pool in four chunks per worker for balance, but each thread taking part holds a single bitset of
+     * (turning cell, direction) states across its chunks and clears only the words it set.
+     */
+    public int countLoopObstructions() {
+        long[] candidates = firstVisits();
+        int chunks = Math.min(candidates.length, ForkJoinPool.getCommonPoolParallelism() * 4);
+        ThreadLocal<long[]> threadStates = ThreadLocal.withInitial(() -> new long[(grid.getCells().length * 4 + 63) >>> 6]);
+        ThreadLocal<IntArrayList> threadTouched = ThreadLocal.withInitial(IntArrayList::new);
+
+        return IntStream.range(0, chunks)
+                .parallel()
+                .map(chunk -> {
+                    long[] states = threadStates.get();
+                    IntArrayList touched = threadTouched.get();
+
+                    int count = 0;
+                    // The start cell cannot be obstructed
+                    for (int i = 1 + chunk; i < candidates.length; i += chunks) {
+                        int obstruction = (int) (candidates[i] >>> 32);
+                        int from = (int) candidates[i];
+                        if (loops(obstruction, from >>> 2, from & 3, states, touched)) {
+                            count++;
+                        }
+                    }
+                    return count;
+                })
+                .sum();
+    }
+
+    private boolean loops(int obstruction, int position, int direction, long[] states, IntArrayList touched) {
+        int column = obstruction % stride;
+        boolean loop = false;
+
+        while (true) {
+            int offset = offsets[direction];
+            int jump = jumps[direction][position];
+            int stop = jump < 0 ? ~jump : jump;
+
+            boolean inRange = offset > 0 ? obstruction > position && obstruction <= stop : obstruction < position && obstruction >= stop;
+            if (inRange && (offset == 1 || offset == -1 || position % stride == column)) {
+                stop = obstruction - offset;
+            } else if (jump < 0) {
+                break;
+            }
+
+            position = stop;
+            direction = (direction + 1) & 3;
+
+            int state = position << 2 | direction;
+            long bit = 1L << state;
+            if ((states[state >>> 6] & bit) != 0) {
+                loop = true;
+                break;
+            }
+            if (states[state >>> 6] == 0) {
+                touched.add(state >>> 6);
+            }
+            states[state >>> 6] |= bit;
+        }
+
+        for (int i = 0; i < touched.size(); i++) {
+            states[touched.get(i)] = 0;
+        }
+        touched.clear();
+        return loop;
+    }
+
+}
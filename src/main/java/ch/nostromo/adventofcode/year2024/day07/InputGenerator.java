@@ -0,0 +1,49 @@
+package ch.nostromo.adventofcode.year2024.day07;
+
+import ch.nostromo.adventofcode.BaseInputGenerator;
+
+import java.io.PrintWriter;
+import java.util.Random;
+
+/**
+ * Calibration equations of 3 to 12 numbers, 850 per scale unit. About half of them can be made true.
+ * <p>
+ * The numbers have 15 digits in total at most, so no combination of operators overflows a long.
+ */
+public class InputGenerator extends BaseInputGenerator {
+
+    @Override
+    public void generate(double scale, Random random, PrintWriter out) {
+        int equations = scaled(850, scale);
+        for (int e = 0; e < equations; e++) {
+            int count = between(random, 3, 12);
+            int[] numbers = new int[count];
+            int digits = 0;
+            for (int i = 0; i < count; i++) {
+                int maxDigits = Math.min(3, 15 - digits - (count - i - 1));
+                numbers[i] = between(random, 1, (int) Math.pow(10, between(random, 1, maxDigits)) - 1);
+                digits += String.valueOf(numbers[i]).length();
+            }
+
+            long target = numbers[0];
+            for (int i = 1; i < count; i++) {
+                switch (random.nextInt(3)) {
+                    case 0 -> target = target + numbers[i];
+                    case 1 -> target = target * numbers[i];
+                    default -> target = Long.parseLong(target + "" + numbers[i]);
+                }
+            }
+            if (random.nextBoolean()) {
+                target++;
+            }
+
+            StringBuilder line = new StringBuilder();
+            line.append(target).append(':');
+            for (int number : numbers) {
+                line.append(' ').append(number);
+            }
+            out.println(line);
+        }
+    }
+
+}
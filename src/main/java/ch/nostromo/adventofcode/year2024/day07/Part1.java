@@ -1,8 +1,10 @@
 package ch.nostromo.adventofcode.year2024.day07;
 
 import ch.nostromo.adventofcode.BasePuzzle;
+import ch.nostromo.adventofcode.StreamingPuzzle;
 
 import java.util.Arrays;
+import java.util.Iterator;
 import java.util.List;
 
 /**
@@ -41,17 +43,22 @@ import java.util.List;
  * <p>
  * The first half of this puzzle is complete! It provides one gold star: *
  */
-public class Part1 extends BasePuzzle {
+public class Part1 extends BasePuzzle implements StreamingPuzzle {
 
     private static final String EXPECTED_TEST_RESULT = "3749";
 
 
     public String solvePuzzle(List<String> input) {
+        return solvePuzzle(input.iterator());
+    }
+
+    @Override
+    public String solvePuzzle(Iterator<? extends CharSequence> lines) {
 
         long result = 0;
 
-        for (String equation : input) {
-            String[] lineParts = equation.split(": ");
+        while (lines.hasNext()) {
+            String[] lineParts = lines.next().toString().split(": ");
 
             long targetValue = Long.parseLong(lineParts[0]);
             int[] numbers = Arrays.stream(lineParts[1].split(" ")).mapToInt(Integer::parseInt).toArray(); // Osi tribute code, hope it works as well as a loop :P
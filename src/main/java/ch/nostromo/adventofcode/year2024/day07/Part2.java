@@ -1,8 +1,10 @@
 package ch.nostromo.adventofcode.year2024.day07;
 
 import ch.nostromo.adventofcode.BasePuzzle;
+import ch.nostromo.adventofcode.StreamingPuzzle;
 
 import java.util.Arrays;
+import java.util.Iterator;
 import java.util.List;
 
 /**
@@ -57,17 +59,22 @@ import java.util.List;
  * <p>
  * Both parts of this puzzle are complete! They provide two gold stars: **
  */
-public class Part2 extends BasePuzzle {
+public class Part2 extends BasePuzzle implements StreamingPuzzle {
 
     private static final String EXPECTED_TEST_RESULT = "11387";
 
 
     public String solvePuzzle(List<String> input) {
+        return solvePuzzle(input.iterator());
+    }
+
+    @Override
+    public String solvePuzzle(Iterator<? extends CharSequence> lines) {
 
         long result = 0;
 
-        for (String equation : input) {
-            String[] parts = equation.split(": ");
+        while (lines.hasNext()) {
+            String[] parts = lines.next().toString().split(": ");
 
             long targetValue = Long.parseLong(parts[0]);
             int[] numbers = Arrays.stream(parts[1].split(" ")).mapToInt(Integer::parseInt).toArray(); // Osi tribute code, hope it works as well as a loop :P
@@ -0,0 +1,41 @@
+package ch.nostromo.adventofcode.year2024.day08;
+
+import ch.nostromo.adventofcode.BaseInputGenerator;
+
+import java.io.PrintWriter;
+import java.util.Arrays;
+import java.util.Random;
+
+/**
+ * A square map of antennas, 50x50 per scale unit, with about four antennas per frequency per scale unit on all 62
+ * frequencies.
+ */
+public class InputGenerator extends BaseInputGenerator {
+
+    private static final String FREQUENCIES = "0123456789abcdefghijklmnopqrstuvwxyzABCDEFGHIJKLMNOPQRSTUVWXYZ";
+
+    @Override
+    public void generate(double scale, Random random, PrintWriter out) {
+        int side = scaledSide(50, scale);
+        char[][] map = new char[side][side];
+        for (char[] row : map) {
+            Arrays.fill(row, '.');
+        }
+
+        int antennas = Math.min(side * side / 2, FREQUENCIES.length() * scaled(4, scale));
+        for (int a = 0; a < antennas; a++) {
+            int x;
+            int y;
+            do {
+                x = random.nextInt(side);
+                y = random.nextInt(side);
+            } while (map[y][x] != '.');
+            map[y][x] = FREQUENCIES.charAt(a % FREQUENCIES.length());
+        }
+
+        for (char[] row : map) {
+            out.println(row);
+        }
+    }
+
+}
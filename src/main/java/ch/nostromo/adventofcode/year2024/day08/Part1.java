@@ -1,6 +1,8 @@
 package ch.nostromo.adventofcode.year2024.day08;
 
 import ch.nostromo.adventofcode.BasePuzzle;
+import ch.nostromo.adventofcode.PuzzleInput;
+import ch.nostromo.adventofcode.utils.Grid;
 
 import java.util.*;
 
@@ -86,25 +88,30 @@ public class Part1 extends BasePuzzle {
 
 
     public String solvePuzzle(List<String> input) {
+        return solvePuzzle(PuzzleInput.of(input));
+    }
 
-        int width = input.get(0).length();
-        String map = String.join("", input);
+    @Override
+    public String solvePuzzle(PuzzleInput input) {
+        Grid map = Grid.parse(input);
 
         Map<Character, List<Integer>> frequenciesAntennas = new HashMap<>();
 
-        for (int i = 0; i < map.length(); i++) {
-            Character mapCharacter = map.charAt(i);
+        for (int y = 0; y < map.getHeight(); y++) {
+            for (int i = map.index(0, y); i < map.index(map.getWidth(), y); i++) {
+                Character mapCharacter = (char) map.get(i);
 
-            if (mapCharacter != '.') {
-                if (!frequenciesAntennas.containsKey(mapCharacter)) {
-                    frequenciesAntennas.put(mapCharacter, new ArrayList<>());
-                }
+                if (mapCharacter != '.') {
+                    if (!frequenciesAntennas.containsKey(mapCharacter)) {
+                        frequenciesAntennas.put(mapCharacter, new ArrayList<>());
+                    }
 
-                frequenciesAntennas.get(mapCharacter).add(i);
+                    frequenciesAntennas.get(mapCharacter).add(i);
+                }
             }
         }
 
-        int result = findAntiNodes(map, frequenciesAntennas, width);
+        int result = findAntiNodes(map, frequenciesAntennas);
 
 
         return String.valueOf(result);
@@ -112,18 +119,21 @@ public class Part1 extends BasePuzzle {
     }
 
 
-    int findAntiNodes(String map, Map<Character, List<Integer>> frequenciesAntennas, int width) {
+    int findAntiNodes(Grid map, Map<Character, List<Integer>> frequenciesAntennas) {
         Set<Integer> result = new HashSet<>();
 
         for (Character antennaCharacter : frequenciesAntennas.keySet()) {
             for (int antennaCoordinates : frequenciesAntennas.get(antennaCharacter)) {
                 for (int otherAntennaCoordinates : frequenciesAntennas.get(antennaCharacter)) {
                     if (antennaCoordinates != otherAntennaCoordinates) {
-                        int direction = otherAntennaCoordinates - antennaCoordinates;
-                        int antiNode = otherAntennaCoordinates + direction;
+                        int dx = map.x(otherAntennaCoordinates) - map.x(antennaCoordinates);
+                        int dy = map.y(otherAntennaCoordinates) - map.y(antennaCoordinates);
+
+                        int x = map.x(otherAntennaCoordinates) + dx;
+                        int y = map.y(otherAntennaCoordinates) + dy;
 
-                        if (!isOutOfBounds(map, antennaCoordinates, otherAntennaCoordinates, antiNode, width)) {
-                            result.add(antiNode);
+                        if (map.contains(x, y)) {
+                            result.add(map.index(x, y));
                         }
                     }
                 }
@@ -133,17 +143,6 @@ public class Part1 extends BasePuzzle {
         return result.size();
     }
 
-    private boolean isOutOfBounds(String map, int antennaCoordinates, int otherAntennaCoordinates, int antiNode, int width) {
-        boolean antennaDirection = otherAntennaCoordinates % width < antiNode % width;
-        boolean antiNodeDirection = antennaCoordinates % width < otherAntennaCoordinates% width;
-
-        if (antiNode < 0 || antiNode > map.length() - 1) {
-            return true;
-        } else {
-            return antennaDirection != antiNodeDirection;
-        }
-    }
-
 
     public Part1() {
         super(EXPECTED_TEST_RESULT);
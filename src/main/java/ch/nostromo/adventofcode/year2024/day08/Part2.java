@@ -1,6 +1,8 @@
 package ch.nostromo.adventofcode.year2024.day08;
 
 import ch.nostromo.adventofcode.BasePuzzle;
+import ch.nostromo.adventofcode.PuzzleInput;
+import ch.nostromo.adventofcode.utils.Grid;
 
 import java.util.*;
 
@@ -123,24 +125,30 @@ public class Part2 extends BasePuzzle {
 
 
     public String solvePuzzle(List<String> input) {
-        int width = input.get(0).length();
-        String map = String.join("", input);
+        return solvePuzzle(PuzzleInput.of(input));
+    }
+
+    @Override
+    public String solvePuzzle(PuzzleInput input) {
+        Grid map = Grid.parse(input);
 
         Map<Character, List<Integer>> frequenciesAntennas = new HashMap<>();
 
-        for (int i = 0; i < map.length(); i++) {
-            Character mapCharacter = map.charAt(i);
+        for (int y = 0; y < map.getHeight(); y++) {
+            for (int i = map.index(0, y); i < map.index(map.getWidth(), y); i++) {
+                Character mapCharacter = (char) map.get(i);
 
-            if (mapCharacter != '.') {
-                if (!frequenciesAntennas.containsKey(mapCharacter)) {
-                    frequenciesAntennas.put(mapCharacter, new ArrayList<>());
-                }
+                if (mapCharacter != '.') {
+                    if (!frequenciesAntennas.containsKey(mapCharacter)) {
+                        frequenciesAntennas.put(mapCharacter, new ArrayList<>());
+                    }
 
-                frequenciesAntennas.get(mapCharacter).add(i);
+                    frequenciesAntennas.get(mapCharacter).add(i);
+                }
             }
         }
 
-        int result = findAntiNodes(map, frequenciesAntennas, width);
+        int result = findAntiNodes(map, frequenciesAntennas);
 
 
         return String.valueOf(result);
@@ -148,21 +156,25 @@ public class Part2 extends BasePuzzle {
     }
 
 
-    int findAntiNodes(String map, Map<Character, List<Integer>> frequenciesAntennas, int width) {
+    int findAntiNodes(Grid map, Map<Character, List<Integer>> frequenciesAntennas) {
         Set<Integer> result = new HashSet<>();
 
         for (Character antennaCharacter : frequenciesAntennas.keySet()) {
             for (int antennaCoordinates : frequenciesAntennas.get(antennaCharacter)) {
                 for (int otherAntennaCoordinates : frequenciesAntennas.get(antennaCharacter)) {
                     if (antennaCoordinates != otherAntennaCoordinates) {
+                        int dx = map.x(otherAntennaCoordinates) - map.x(antennaCoordinates);
+                        int dy = map.y(otherAntennaCoordinates) - map.y(antennaCoordinates);
+
                         result.add(antennaCoordinates); // Why the fuck not :P
 
-                        int direction = otherAntennaCoordinates - antennaCoordinates;
-                        int antiNode = otherAntennaCoordinates + direction;
+                        int x = map.x(otherAntennaCoordinates) + dx;
+                        int y = map.y(otherAntennaCoordinates) + dy;
 
-                        while (!isOutOfBounds(map, antennaCoordinates, otherAntennaCoordinates, antiNode, width)) {
-                            result.add(antiNode);
-                            antiNode = antiNode + direction;
+                        while (map.contains(x, y)) {
+                            result.add(map.index(x, y));
+                            x += dx;
+                            y += dy;
                         }
                     }
                 }
@@ -173,17 +185,6 @@ public class Part2 extends BasePuzzle {
     }
 
 
-    private boolean isOutOfBounds(String map, int antennaCoordinates, int otherAntennaCoordinates, int antiNode, int width) {
-        boolean antennaDirection = otherAntennaCoordinates % width < antiNode % width;
-        boolean antiNodeDirection = antennaCoordinates % width < otherAntennaCoordinates % width;
-
-        if (antiNode < 0 || antiNode > map.length() - 1) {
-            return true;
-        } else {
-            return antennaDirection != antiNodeDirection;
-        }
-    }
-
     public Part2() {
         super(EXPECTED_TEST_RESULT);
     }
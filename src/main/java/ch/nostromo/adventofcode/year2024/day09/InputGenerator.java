@@ -0,0 +1,26 @@
+package ch.nostromo.adventofcode.year2024.day09;
+
+import ch.nostromo.adventofcode.BaseInputGenerator;
+
+import java.io.PrintWriter;
+import java.util.Random;
+
+/**
+ * A disk map of 20000 digits per scale unit, starting and ending with a file.
+ */
+public class InputGenerator extends BaseInputGenerator {
+
+    @Override
+    public void generate(double scale, Random random, PrintWriter out) {
+        int files = scaled(10000, scale);
+        StringBuilder diskMap = new StringBuilder(files * 2);
+        for (int i = 0; i < files; i++) {
+            if (i > 0) {
+                diskMap.append(random.nextInt(10));
+            }
+            diskMap.append(between(random, 1, 9));
+        }
+        out.println(diskMap);
+    }
+
+}
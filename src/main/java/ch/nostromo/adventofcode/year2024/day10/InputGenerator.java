@@ -0,0 +1,58 @@
+package ch.nostromo.adventofcode.year2024.day10;
+
+import ch.nostromo.adventofcode.BaseInputGenerator;
+
+import java.io.PrintWriter;
+import java.util.Random;
+
+/**
+ * A square topographic map of random heights, 45x45 per scale unit, with 200 hiking trails per scale unit walked into
+ * it from a trailhead at 0 up to 9. Later trails may cut through earlier ones.
+ */
+public class InputGenerator extends BaseInputGenerator {
+
+    private static final int[][] DIRECTIONS = {{0, 1}, {1, 0}, {0, -1}, {-1, 0}};
+
+    @Override
+    public void generate(double scale, Random random, PrintWriter out) {
+        int side = scaledSide(45, scale);
+        int[][] heights = new int[side][side];
+        for (int[] row : heights) {
+            for (int x = 0; x < side; x++) {
+                row[x] = random.nextInt(10);
+            }
+        }
+
+        for (int trail = scaled(200, scale); trail > 0; trail--) {
+            int x = random.nextInt(side);
+            int y = random.nextInt(side);
+            int previousX = -1;
+            int previousY = -1;
+            heights[y][x] = 0;
+            for (int height = 1; height <= 9; height++) {
+                // Any neighbour on the map except the one just left
+                int nextX;
+                int nextY;
+                do {
+                    int[] direction = DIRECTIONS[random.nextInt(DIRECTIONS.length)];
+                    nextX = x + direction[0];
+                    nextY = y + direction[1];
+                } while (nextX < 0 || nextY < 0 || nextX >= side || nextY >= side || nextX == previousX && nextY == previousY);
+                previousX = x;
+                previousY = y;
+                x = nextX;
+                y = nextY;
+                heights[y][x] = height;
+            }
+        }
+
+        for (int[] row : heights) {
+            StringBuilder line = new StringBuilder(side);
+            for (int height : row) {
+                line.append(height);
+            }
+            out.println(line);
+        }
+    }
+
+}
@@ -0,0 +1,26 @@
+package ch.nostromo.adventofcode.year2024.day11;
+
+import ch.nostromo.adventofcode.BaseInputGenerator;
+
+import java.io.PrintWriter;
+import java.util.Random;
+
+/**
+ * A line of 8 engraved stones per scale unit.
+ */
+public class InputGenerator extends BaseInputGenerator {
+
+    @Override
+    public void generate(double scale, Random random, PrintWriter out) {
+        int stones = scaled(8, scale);
+        StringBuilder line = new StringBuilder();
+        for (int i = 0; i < stones; i++) {
+            if (i > 0) {
+                line.append(' ');
+            }
+            line.append(between(random, 0, random.nextBoolean() ? 99 : 9999999));
+        }
+        out.println(line);
+    }
+
+}
@@ -1,10 +1,9 @@
 package ch.nostromo.adventofcode.year2024.day11;
 
 import ch.nostromo.adventofcode.BasePuzzle;
+import ch.nostromo.adventofcode.utils.collections.LongLongMap;
 
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
 
 /**
  * --- Day 11: Plutonian Pebbles ---
@@ -40,62 +39,46 @@ public class Part1 extends BasePuzzle {
 
 
     public String solvePuzzle(List<String> input) {
-
-        Map<Long, Long> stones = new HashMap<>();
-
-        for (String token : input.get(0).split(" ")) {
-            stones.put(Long.parseLong(token), 1L);
-        }
-
-        stones = recursiveBlink(stones, new HashMap<>(), 25);
-
-        long result = stones.values().stream().mapToLong(Long::longValue).sum();
-
-        return String.valueOf(result);
-
-
+        return String.valueOf(blink(parseStones(input), 25).sumValues());
     }
 
-    Map<Long, Long> recursiveBlink(Map<Long, Long> stones, Map<String, Map<Long, Long>> cache, int remainingBlinks) {
-        if (remainingBlinks == 0) {
-            return stones;
-        }
+    LongLongMap parseStones(List<String> input) {
+        LongLongMap stones = new LongLongMap();
 
-        String cacheKey = (stones) + ":" + remainingBlinks;
-        if (cache.containsKey(cacheKey)) {
-            return cache.get(cacheKey);
+        for (long stone : StoneCounter.parse(input.get(0))) {
+            stones.addTo(stone, 1);
         }
 
-        Map<Long, Long> newStones = new HashMap<>();
-
-        for (Map.Entry<Long, Long> entry : stones.entrySet()) {
-            long stone = entry.getKey();
-            long count = entry.getValue();
-
-            if (stone == 0) {
-                newStones.merge(1L, count, Long::sum);
-            } else {
-                String numStr = Long.toString(stone);
+        return stones;
+    }
 
-                if (numStr.length() % 2 == 0) {
-                    int mid = numStr.length() / 2;
-                    long left = Long.parseLong(numStr.substring(0, mid));
-                    long right = Long.parseLong(numStr.substring(mid));
+    /**
+     * Stones with the same number evolve the same way, so only the count per number is tracked.
+     */
+    LongLongMap blink(LongLongMap stones, int blinks) {
+        for (int i = 0; i < blinks; i++) {
+            LongLongMap newStones = new LongLongMap(stones.size() * 2);
 
-                    newStones.merge(left, count, Long::sum);
-                    newStones.merge(right, count, Long::sum);
+            stones.forEach((stone, count) -> {
+                if (stone == 0) {
+                    newStones.addTo(1, count);
                 } else {
-                    long newNumber = stone * 2024;
-                    newStones.merge(newNumber, count, Long::sum);
+                    int digits = StoneCounter.digits(stone);
+
+                    if ((digits & 1) == 0) {
+                        long half = StoneCounter.POWERS_OF_TEN[digits / 2];
+                        newStones.addTo(stone / half, count);
+                        newStones.addTo(stone % half, count);
+                    } else {
+                        newStones.addTo(Math.multiplyExact(stone, 2024), count);
+                    }
                 }
-            }
-        }
-
-        Map<Long, Long> result = recursiveBlink(newStones, cache, remainingBlinks - 1);
+            });
 
-        cache.put(cacheKey, result);
+            stones = newStones;
+        }
 
-        return result;
+        return stones;
     }
 
     public Part1() {
@@ -103,11 +86,6 @@ public class Part1 extends BasePuzzle {
     }
 
 
-    public Part1(String expectedTestResult) {
-        super(expectedTestResult);
-    }
-
-
     public static void main(String... args) {
         new Part1().run();
     }
@@ -2,9 +2,7 @@ package ch.nostromo.adventofcode.year2024.day11;
 
 import ch.nostromo.adventofcode.BasePuzzle;
 
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
 
 /**
  * --- Day 11: Plutonian Pebbles ---
@@ -34,29 +32,17 @@ import java.util.Map;
  * The fifth stone, 999, is replaced by a stone marked 2021976.
  * So, after blinking once, your five stones would become an arrangement of seven stones engraved with the numbers 1 2024 1 0 9 9 2021976.
  */
-public class Part2 extends Part1 {
+public class Part2 extends BasePuzzle {
 
+    private static final String EXPECTED_TEST_RESULT = "65601038650482";
 
 
     public String solvePuzzle(List<String> input) {
-
-        Map<Long, Long> stones = new HashMap<>();
-
-        for (String token : input.get(0).split(" ")) {
-            stones.put(Long.parseLong(token), 1L);
-        }
-
-        stones = recursiveBlink(stones, new HashMap<>(), 75);
-
-        long result = stones.values().stream().mapToLong(Long::longValue).sum();
-
-        return String.valueOf(result);
-
-
+        return new StoneCounter().count(StoneCounter.parse(input.get(0)), 75).toString();
     }
 
     public Part2() {
-        super("65601038650482");
+        super(EXPECTED_TEST_RESULT);
     }
 
     public static void main(String... args) {
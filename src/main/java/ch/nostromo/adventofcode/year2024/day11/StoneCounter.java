@@ -0,0 +1,191 @@
+package ch.nostromo.adventofcode.year2024.day11;
+
+import ch.nostromo.adventofcode.utils.collections.LongLongMap;
+
+import java.math.BigInteger;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Counts the stones after any number of blinks, exactly.
+ * <p>
+ * Only a few thousand different numbers ever show up, so every number gets an id together with the ids it turns
+ * into. The count of stones a single stone becomes after {@code n} blinks is the sum of its successors' counts after
+ * {@code n - 1} blinks; these are computed for all ids at once, one blink after the other, and kept per blink count
+ * requested, so a later request continues from there. The counts are {@link BigInteger}s since they outgrow a
+ * {@code long} after about 90 blinks; {@link #countModulo} is the faster way when a residue is enough. Answering more
+ * lines for the same blink count only sums up table entries.
+ */
+public class StoneCounter {
+
+    static final long[] POWERS_OF_TEN = new long[19];
+
+    static {
+        POWERS_OF_TEN[0] = 1;
+        for (int i = 1; i < POWERS_OF_TEN.length; i++) {
+            POWERS_OF_TEN[i] = POWERS_OF_TEN[i - 1] * 10;
+        }
+    }
+
+    private final LongLongMap ids = new LongLongMap();
+
+    private long[] stones = new long[64];
+
+    /**
+     * Ids of the stones each stone turns into; {@code right} is -1 if the stone does not split.
+     */
+    private int[] left = new int[64];
+
+    private int[] right = new int[64];
+
+    private int size;
+
+    /**
+     * Stones after the blink count, per id, for the ids known when the entry was computed.
+     */
+    private final Map<Integer, BigInteger[]> counts = new HashMap<>();
+
+    public BigInteger count(long[] line, int blinks) {
+        for (long stone : line) {
+            register(stone);
+        }
+
+        BigInteger[] perStone = countsAfter(blinks);
+        BigInteger result = BigInteger.ZERO;
+        for (long stone : line) {
+            result = result.add(perStone[(int) ids.get(stone, -1)]);
+        }
+        return result;
+    }
+
+    public BigInteger count(long stone, int blinks) {
+        return count(new long[]{stone}, blinks);
+    }
+
+    /**
+     * The count modulo {@code modulus}, at most 2<sup>62</sup>, in plain {@code long} arithmetic. Much faster than the
+     * exact count for thousands of blinks; not memoized.
+     */
+    public long countModulo(long[] line, int blinks, long modulus) {
+        if (modulus <= 0 || modulus > 1L << 62) {
+            throw new IllegalArgumentException("Modulus out of range: " + modulus);
+        }
+        for (long stone : line) {
+            register(stone);
+        }
+
+        long[] current = new long[size];
+        Arrays.fill(current, 1 % modulus);
+        for (int blink = 0; blink < blinks; blink++) {
+            long[] next = new long[size];
+            for (int id = 0; id < size; id++) {
+                long sum = right[id] < 0 ? current[left[id]] : current[left[id]] + current[right[id]];
+                next[id] = sum >= modulus ? sum - modulus : sum;
+            }
+            current = next;
+        }
+
+        long result = 0;
+        for (long stone : line) {
+            result = (result + current[(int) ids.get(stone, -1)]) % modulus;
+        }
+        return result;
+    }
+
+    private BigInteger[] countsAfter(int blinks) {
+        BigInteger[] cached = counts.get(blinks);
+        if (cached != null && cached.length == size) {
+            return cached;
+        }
+
+        // Continue from the most blinks already counted for all ids
+        int from = 0;
+        BigInteger[] current = new BigInteger[size];
+        Arrays.fill(current, BigInteger.ONE);
+        for (Map.Entry<Integer, BigInteger[]> entry : counts.entrySet()) {
+            if (entry.getKey() > from && entry.getKey() < blinks && entry.getValue().length == size) {
+                from = entry.getKey();
+                current = entry.getValue();
+            }
+        }
+
+        for (int blink = from; blink < blinks; blink++) {
+            BigInteger[] next = new BigInteger[size];
+            for (int id = 0; id < size; id++) {
+                next[id] = right[id] < 0 ? current[left[id]] : current[left[id]].add(current[right[id]]);
+            }
+            current = next;
+        }
+
+        counts.put(blinks, current);
+        return current;
+    }
+
+    /**
+     * Gives the stone and everything it turns into an id.
+     */
+    private void register(long stone) {
+        if (ids.containsKey(stone)) {
+            return;
+        }
+
+        int first = size;
+        add(stone);
+        for (int id = first; id < size; id++) {
+            long current = stones[id];
+            // Adding a successor may grow the arrays, so both are found before storing
+            int leftId;
+            int rightId = -1;
+            if (current == 0) {
+                leftId = idOf(1);
+            } else {
+                int digits = digits(current);
+                if ((digits & 1) == 0) {
+                    long half = POWERS_OF_TEN[digits / 2];
+                    leftId = idOf(current / half);
+                    rightId = idOf(current % half);
+                } else {
+                    leftId = idOf(Math.multiplyExact(current, 2024));
+                }
+            }
+            left[id] = leftId;
+            right[id] = rightId;
+        }
+    }
+
+    private int idOf(long stone) {
+        long id = ids.get(stone, -1);
+        return id >= 0 ? (int) id : add(stone);
+    }
+
+    private int add(long stone) {
+        if (size == stones.length) {
+            stones = Arrays.copyOf(stones, size * 2);
+            left = Arrays.copyOf(left, size * 2);
+            right = Arrays.copyOf(right, size * 2);
+        }
+        stones[size] = stone;
+        ids.put(stone, size);
+        return size++;
+    }
+
+    /**
+     * The numbers on the stones of an input line.
+     */
+    static long[] parse(String line) {
+        return Arrays.stream(line.trim().split(" +")).mapToLong(Long::parseLong).toArray();
+    }
+
+    /**
+     * Number of decimal digits of a non-negative number.
+     */
+    static int digits(long number) {
+        int digits = 1;
+        while (digits < POWERS_OF_TEN.length && number >= POWERS_OF_TEN[digits]) {
+            digits++;
+        }
+        return digits;
+    }
+
+}
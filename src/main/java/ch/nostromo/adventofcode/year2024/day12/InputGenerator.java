@@ -0,0 +1,35 @@
+package ch.nostromo.adventofcode.year2024.day12;
+
+import ch.nostromo.adventofcode.BaseInputGenerator;
+
+import java.io.PrintWriter;
+import java.util.Random;
+
+/**
+ * A square garden, 140x140 per scale unit, of plots grown from the plant to their left or above, so plants form
+ * irregular regions; regions of the same plant touching each other are one region.
+ */
+public class InputGenerator extends BaseInputGenerator {
+
+    @Override
+    public void generate(double scale, Random random, PrintWriter out) {
+        int side = scaledSide(140, scale);
+        char[] above = new char[side];
+        for (int y = 0; y < side; y++) {
+            char[] row = new char[side];
+            for (int x = 0; x < side; x++) {
+                int roll = random.nextInt(20);
+                if (roll < 9 && x > 0) {
+                    row[x] = row[x - 1];
+                } else if (roll < 18 && y > 0) {
+                    row[x] = above[x];
+                } else {
+                    row[x] = (char) between(random, 'A', 'Z');
+                }
+            }
+            out.println(row);
+            above = row;
+        }
+    }
+
+}
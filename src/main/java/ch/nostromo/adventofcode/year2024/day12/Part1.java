@@ -1,11 +1,9 @@
 package ch.nostromo.adventofcode.year2024.day12;
 
 import ch.nostromo.adventofcode.BasePuzzle;
-import lombok.AllArgsConstructor;
-import lombok.Data;
-import lombok.EqualsAndHashCode;
+import ch.nostromo.adventofcode.PuzzleInput;
+import ch.nostromo.adventofcode.utils.Grid;
 
-import java.util.ArrayList;
 import java.util.List;
 
 /**
@@ -97,122 +95,58 @@ public class Part1 extends BasePuzzle {
 
 
     public String solvePuzzle(List<String> input) {
-
-        String[][] map = new String[input.size()][input.get(0).length()];
-        for (int y = 0; y < input.size(); y++) {
-            for (int x = 0; x < input.get(y).length(); x++) {
-                map[y][x] = input.get(y).substring(x, x + 1);
-            }
-        }
-
-        return String.valueOf(findFences(map));
+        return solvePuzzle(PuzzleInput.of(input));
     }
 
-
-    @Data
-    class Tile {
-        String coords;
-        int fences;
+    @Override
+    public String solvePuzzle(PuzzleInput input) {
+        return String.valueOf(findFences(Grid.parse(input)));
     }
 
-    long findFences(String[][] map) {
-        long result = 0;
-
-        for (int y = 0; y < map.length; y++) {
-            for (int x = 0; x < map[y].length; x++) {
-                if (!map[y][x].equals("$")) {
-                    List<Tile> tiles = new ArrayList<>();
-
-                    parseRegion(map, y, x, map[y][x], tiles);
-                    consumeMap(map);
 
-                    long regionResult = 0;
-                    for (Tile tile : tiles) {
-                        regionResult += tile.fences;
-                    }
+    long findFences(Grid map) {
+        long result = 0;
 
-                    result += regionResult * tiles.size();
+        boolean[] visited = new boolean[map.getCells().length];
+        int[] stack = new int[map.getWidth() * map.getHeight()];
 
+        for (int y = 0; y < map.getHeight(); y++) {
+            for (int i = map.index(0, y); i < map.index(map.getWidth(), y); i++) {
+                if (!visited[i]) {
+                    result += priceRegion(map, i, visited, stack);
                 }
             }
         }
 
-
         return result;
 
     }
 
-    void consumeMap(String[][] map) {
-
-        for (int y = 0; y < map.length; y++) {
-            for (int x = 0; x < map[y].length; x++) {
-                if (map[y][x].equals(".")) {
-                    map[y][x] = "$";
+    long priceRegion(Grid map, int start, boolean[] visited, int[] stack) {
+        byte flowerType = map.get(start);
+        long area = 0;
+        long fences = 0;
+
+        int size = 0;
+        stack[size++] = start;
+        visited[start] = true;
+
+        while (size > 0) {
+            int tile = stack[--size];
+            area++;
+
+            for (int offset : map.getNeighbours4()) {
+                int next = tile + offset;
+                if (map.get(next) != flowerType) {
+                    fences++;
+                } else if (!visited[next]) {
+                    visited[next] = true;
+                    stack[size++] = next;
                 }
             }
         }
 
-    }
-
-
-    void parseRegion(String[][] map, int y, int x, String flowerType, List<Tile> tiles) {
-
-        Tile visitedTile = new Tile();
-        visitedTile.coords = x + "," + y;
-
-        tiles.add(visitedTile);
-
-        map[y][x] = ".";
-
-        // North
-        if (y > 0) {
-            String tile = map[y - 1][x];
-            if (tile.equals(flowerType)) {
-                parseRegion(map, y - 1, x, flowerType, tiles);
-            } else if (!tile.equals(".")) {
-                visitedTile.fences = visitedTile.fences + 1;
-            }
-        } else {
-            visitedTile.fences = visitedTile.fences + 1;
-        }
-
-        // South
-        if (y < map.length - 1) {
-            String tile = map[y + 1][x];
-            if (tile.equals(flowerType)) {
-                parseRegion(map, y + 1, x, flowerType, tiles);
-            } else if (!tile.equals(".")) {
-                visitedTile.fences = visitedTile.fences + 1;
-            }
-        } else {
-            visitedTile.fences = visitedTile.fences + 1;
-        }
-
-        // West
-        if (x > 0) {
-            String tile = map[y][x - 1];
-            if (tile.equals(flowerType)) {
-                parseRegion(map, y, x - 1, flowerType, tiles);
-            } else if (!tile.equals(".")) {
-                visitedTile.fences = visitedTile.fences + 1;
-            }
-        } else {
-            visitedTile.fences = visitedTile.fences + 1;
-        }
-
-        // EAST
-        if (x < map[y].length - 1) {
-            String targetTile = map[y][x + 1];
-            if (targetTile.equals(flowerType)) {
-                parseRegion(map, y, x + 1, flowerType, tiles);
-            } else if (!targetTile.equals(".")) {
-                visitedTile.fences = visitedTile.fences + 1;
-            }
-        } else {
-            visitedTile.fences = visitedTile.fences + 1;
-        }
-
-
+        return area * fences;
     }
 
     public Part1() {
@@ -222,4 +156,4 @@ public class Part1 extends BasePuzzle {
     public static void main(String... args) {
         new Part1().run();
     }
-}
\ No newline at end of file
+}
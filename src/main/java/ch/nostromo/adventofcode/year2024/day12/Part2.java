@@ -1,10 +1,9 @@
 package ch.nostromo.adventofcode.year2024.day12;
 
 import ch.nostromo.adventofcode.BasePuzzle;
-import lombok.Data;
+import ch.nostromo.adventofcode.PuzzleInput;
+import ch.nostromo.adventofcode.utils.Grid;
 
-import java.util.ArrayList;
-import java.util.Comparator;
 import java.util.List;
 
 /**
@@ -151,219 +150,73 @@ public class Part2 extends BasePuzzle {
 
 
     public String solvePuzzle(List<String> input) {
-
-        String[][] map = new String[input.size()][input.get(0).length()];
-        for (int y = 0; y < input.size(); y++) {
-            for (int x = 0; x < input.get(y).length(); x++) {
-                map[y][x] = input.get(y).substring(x, x + 1);
-            }
-        }
-
-        return String.valueOf(findFences(map));
+        return solvePuzzle(PuzzleInput.of(input));
     }
 
-
-    @Data
-    class Tile {
-        int x;
-        int y;
-        boolean northFence = false;
-        boolean southFence = false;
-        boolean eastFence = false;
-        boolean westFence = false;
+    @Override
+    public String solvePuzzle(PuzzleInput input) {
+        return String.valueOf(findFences(Grid.parse(input)));
     }
 
-    long findFences(String[][] map) {
-        long result = 0;
-
-        for (int y = 0; y < map.length; y++) {
-            for (int x = 0; x < map[y].length; x++) {
-                if (!map[y][x].equals("$")) {
-                    List<Tile> tiles = new ArrayList<>();
-
-                    parseRegion(map, y, x, map[y][x], tiles);
-                    consumeMap(map);
 
-                    result += (countFences(tiles, map.length, map[0].length) * tiles.size());
-
-                }
-            }
-        }
-
-
-        return result;
-
-    }
-
-    long countFences(List<Tile> allTiles, int height, int width) {
+    long findFences(Grid map) {
         long result = 0;
 
+        boolean[] visited = new boolean[map.getCells().length];
+        int[] stack = new int[map.getWidth() * map.getHeight()];
 
-        // North / south fences
-        for (int y = 0; y < height; y++) {
-            List<Tile> tiles = getTilesByYCoord(allTiles, y);
-
-            int lastNorthX = Integer.MIN_VALUE;
-            int lastSouthX = Integer.MIN_VALUE;
-            for (Tile tile : tiles) {
-
-                if (tile.northFence) {
-                    // continue current fence
-                    if (tile.x > lastNorthX + 1) {
-                        result++;
-                    }
-
-                    lastNorthX = tile.x;
-
-                }
-
-                if (tile.southFence) {
-                    // continue current fence
-                    if (tile.x > lastSouthX + 1) {
-                        result++;
-                    }
-
-                    lastSouthX = tile.x;
-
-                }
-            }
-        }
-
-        // east / west fences
-        for (int x = 0; x < width; x++) {
-            List<Tile> tiles = getTilesByXCoord(allTiles, x);
-
-            int lastWestY = Integer.MIN_VALUE;
-            int lastEastY = Integer.MIN_VALUE;
-            for (Tile tile : tiles) {
-
-                if (tile.westFence) {
-                    // continue current fence
-                    if (tile.y > lastWestY + 1) {
-                        result++;
-                    }
-
-                    lastWestY = tile.y;
-                }
-
-                if (tile.eastFence) {
-                    // continue current fence
-                    if (tile.y > lastEastY + 1) {
-                        result++;
-                    }
-
-                    lastEastY = tile.y;
+        for (int y = 0; y < map.getHeight(); y++) {
+            for (int i = map.index(0, y); i < map.index(map.getWidth(), y); i++) {
+                if (!visited[i]) {
+                    result += priceRegion(map, i, visited, stack);
                 }
             }
         }
 
-        return result;
-    }
-
-
-    List<Tile> getTilesByYCoord(List<Tile> tiles, int y) {
-        List<Tile> result = new ArrayList<>();
-
-        for (Tile tile : tiles) {
-            if (tile.y == y) {
-                result.add(tile);
-            }
-        }
-
-        result.sort(Comparator.comparingInt(o -> o.x));
-
         return result;
 
     }
 
-
-    List<Tile> getTilesByXCoord(List<Tile> tiles, int x) {
-        List<Tile> result = new ArrayList<>();
-
-        for (Tile tile : tiles) {
-            if (tile.x == x) {
-                result.add(tile);
-            }
-        }
-
-        result.sort(Comparator.comparingInt(o -> o.y));
-
-        return result;
-
-    }
-
-    void consumeMap(String[][] map) {
-
-        for (int y = 0; y < map.length; y++) {
-            for (int x = 0; x < map[y].length; x++) {
-                if (map[y][x].equals(".")) {
-                    map[y][x] = "$";
+    /**
+     * A region has as many sides as corners.
+     */
+    long priceRegion(Grid map, int start, boolean[] visited, int[] stack) {
+        byte flowerType = map.get(start);
+        int[] neighbours4 = map.getNeighbours4();
+        int[] neighbours8 = map.getNeighbours8();
+
+        long area = 0;
+        long corners = 0;
+
+        int size = 0;
+        stack[size++] = start;
+        visited[start] = true;
+
+        while (size > 0) {
+            int tile = stack[--size];
+            area++;
+
+            for (int offset : neighbours4) {
+                int next = tile + offset;
+                if (map.get(next) == flowerType && !visited[next]) {
+                    visited[next] = true;
+                    stack[size++] = next;
                 }
             }
-        }
 
-    }
-
-
-    void parseRegion(String[][] map, int y, int x, String flowerType, List<Tile> tiles) {
-
-        Tile visitedTile = new Tile();
-        visitedTile.x = x;
-        visitedTile.y = y;
-
-        tiles.add(visitedTile);
-
-        map[y][x] = ".";
-
-        // North
-        if (y > 0) {
-            String tile = map[y - 1][x];
-            if (tile.equals(flowerType)) {
-                parseRegion(map, y - 1, x, flowerType, tiles);
-            } else if (!tile.equals(".")) {
-                visitedTile.northFence = true;
-            }
-        } else {
-            visitedTile.northFence = true;
-        }
-
-        // South
-        if (y < map.length - 1) {
-            String tile = map[y + 1][x];
-            if (tile.equals(flowerType)) {
-                parseRegion(map, y + 1, x, flowerType, tiles);
-            } else if (!tile.equals(".")) {
-                visitedTile.southFence = true;
-            }
-        } else {
-            visitedTile.southFence = true;
-        }
-
-        // West
-        if (x > 0) {
-            String tile = map[y][x - 1];
-            if (tile.equals(flowerType)) {
-                parseRegion(map, y, x - 1, flowerType, tiles);
-            } else if (!tile.equals(".")) {
-                visitedTile.westFence = true;
-            }
-        } else {
-            visitedTile.westFence = true;
-        }
-
-        // EAST
-        if (x < map[y].length - 1) {
-            String targetTile = map[y][x + 1];
-            if (targetTile.equals(flowerType)) {
-                parseRegion(map, y, x + 1, flowerType, tiles);
-            } else if (!targetTile.equals(".")) {
-                visitedTile.eastFence = true;
+            // Outer corner if both sides are fenced, inner corner if both are not but the diagonal is
+            for (int direction = 0; direction < 8; direction += 2) {
+                boolean side = map.get(tile + neighbours8[direction]) == flowerType;
+                boolean nextSide = map.get(tile + neighbours8[(direction + 2) & 7]) == flowerType;
+                if (!side && !nextSide) {
+                    corners++;
+                } else if (side && nextSide && map.get(tile + neighbours8[direction + 1]) != flowerType) {
+                    corners++;
+                }
             }
-        } else {
-            visitedTile.eastFence = true;
         }
 
-
+        return area * corners;
     }
 
     public Part2() {
@@ -373,4 +226,4 @@ public class Part2 extends BasePuzzle {
     public static void main(String... args) {
         new Part2().run();
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,44 @@
+package ch.nostromo.adventofcode.year2024.day13;
+
+import ch.nostromo.adventofcode.BaseInputGenerator;
+
+import java.io.PrintWriter;
+import java.util.Random;
+
+/**
+ * 320 claw machines per scale unit. About a third of the prizes can be won with at most 100 presses of each button,
+ * the others lie somewhere near.
+ */
+public class InputGenerator extends BaseInputGenerator {
+
+    @Override
+    public void generate(double scale, Random random, PrintWriter out) {
+        int machines = scaled(320, scale);
+        for (int m = 0; m < machines; m++) {
+            int ax = between(random, 10, 99);
+            int ay = between(random, 10, 99);
+            int bx = between(random, 10, 99);
+            int by = between(random, 10, 99);
+
+            int prizeX;
+            int prizeY;
+            if (random.nextInt(3) == 0) {
+                int aPresses = between(random, 0, 100);
+                int bPresses = between(random, 0, 100);
+                prizeX = aPresses * ax + bPresses * bx;
+                prizeY = aPresses * ay + bPresses * by;
+            } else {
+                prizeX = between(random, 1000, 19999);
+                prizeY = between(random, 1000, 19999);
+            }
+
+            if (m > 0) {
+                out.println();
+            }
+            out.println("Button A: X+" + ax + ", Y+" + ay);
+            out.println("Button B: X+" + bx + ", Y+" + by);
+            out.println("Prize: X=" + prizeX + ", Y=" + prizeY);
+        }
+    }
+
+}
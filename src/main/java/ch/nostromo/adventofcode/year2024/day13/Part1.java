@@ -1,13 +1,12 @@
 package ch.nostromo.adventofcode.year2024.day13;
 
 import ch.nostromo.adventofcode.BasePuzzle;
+import ch.nostromo.adventofcode.utils.Scanner;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 
 import java.util.ArrayList;
 import java.util.List;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 
 /**
  * --- Day 13: Claw Contraption ---
@@ -114,33 +113,23 @@ public class Part1 extends BasePuzzle {
 
         List<ClawMachine> machines = new ArrayList<>();
 
-        Pattern buttonPattern = Pattern.compile("X\\+(-?\\d+), Y\\+(-?\\d+)");
-        Pattern prizePattern = Pattern.compile("X=([0-9]+), Y=([0-9]+)");
-
-        Matcher matcher;
+        Scanner scanner = new Scanner();
 
         for (int i = 0; i < input.size(); i+= 4) {
-            String strBtnA = input.get(i);
-            String strBtnB = input.get(i+1);
-            String strPrize = input.get(i+2);
-
-            matcher = buttonPattern.matcher(strBtnA);
-            matcher.find();
-
-            int ax = Integer.parseInt(matcher.group(1));
-            int ay = Integer.parseInt(matcher.group(2));
-
-            matcher = buttonPattern.matcher(strBtnB);
-            matcher.find();
-
-            int bx = Integer.parseInt(matcher.group(1));
-            int by = Integer.parseInt(matcher.group(2));
-
-            matcher = prizePattern.matcher(strPrize);
-            matcher.find();
-
-            int prizeX = Integer.parseInt(matcher.group(1));
-            int prizeY = Integer.parseInt(matcher.group(2));
+            scanner.reset(input.get(i)).expect("Button A: X+");
+            int ax = scanner.nextInt();
+            scanner.expect(", Y+");
+            int ay = scanner.nextInt();
+
+            scanner.reset(input.get(i + 1)).expect("Button B: X+");
+            int bx = scanner.nextInt();
+            scanner.expect(", Y+");
+            int by = scanner.nextInt();
+
+            scanner.reset(input.get(i + 2)).expect("Prize: X=");
+            int prizeX = scanner.nextInt();
+            scanner.expect(", Y=");
+            int prizeY = scanner.nextInt();
 
             machines.add(new ClawMachine(ax, ay, bx, by, prizeX, prizeY));
 
@@ -0,0 +1,21 @@
+package ch.nostromo.adventofcode.year2025.day01;
+
+import ch.nostromo.adventofcode.BaseInputGenerator;
+
+import java.io.PrintWriter;
+import java.util.Random;
+
+/**
+ * Dial rotations of 1 to 999 clicks, 4000 per scale unit.
+ */
+public class InputGenerator extends BaseInputGenerator {
+
+    @Override
+    public void generate(double scale, Random random, PrintWriter out) {
+        int rotations = scaled(4000, scale);
+        for (int i = 0; i < rotations; i++) {
+            out.println((random.nextBoolean() ? "L" : "R") + between(random, 1, 999));
+        }
+    }
+
+}
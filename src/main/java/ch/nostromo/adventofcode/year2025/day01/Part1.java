@@ -1,9 +1,11 @@
 package ch.nostromo.adventofcode.year2025.day01;
 
 import ch.nostromo.adventofcode.BasePuzzle;
+import ch.nostromo.adventofcode.StreamingPuzzle;
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.Iterator;
 import java.util.List;
 
 /**
@@ -65,15 +67,21 @@ import java.util.List;
 
  Analyze the rotations in your attached document. What's the actual password to open the door?
  */
-public class Part1 extends BasePuzzle {
+public class Part1 extends BasePuzzle implements StreamingPuzzle {
 
     private static final String EXPECTED_TEST_RESULT = "3";
 
     public String solvePuzzle(List<String> input) {
+        return solvePuzzle(input.iterator());
+    }
+
+    @Override
+    public String solvePuzzle(Iterator<? extends CharSequence> lines) {
         int result = 0;
 
         int currentPosition = 50;
-        for (String line : input) {
+        while (lines.hasNext()) {
+            String line = lines.next().toString();
             switch(line.substring(0,1).toUpperCase()) {
                 case "L": {
                     currentPosition = calculatePosition(currentPosition, -Integer.parseInt(line.substring(1)));
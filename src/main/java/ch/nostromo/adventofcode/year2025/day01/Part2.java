@@ -1,7 +1,9 @@
 package ch.nostromo.adventofcode.year2025.day01;
 
 import ch.nostromo.adventofcode.BasePuzzle;
+import ch.nostromo.adventofcode.StreamingPuzzle;
 
+import java.util.Iterator;
 import java.util.List;
 
 /**
@@ -94,15 +96,21 @@ import java.util.List;
  * <p>
  * Using password method 0x434C49434B, what is the password to open the door?
  */
-public class Part2 extends BasePuzzle {
+public class Part2 extends BasePuzzle implements StreamingPuzzle {
 
     private static final String EXPECTED_TEST_RESULT = "6";
 
     public String solvePuzzle(List<String> input) {
+        return solvePuzzle(input.iterator());
+    }
+
+    @Override
+    public String solvePuzzle(Iterator<? extends CharSequence> lines) {
         int result = 0;
 
         int currentPosition = 50;
-        for (String line : input) {
+        while (lines.hasNext()) {
+            String line = lines.next().toString();
 
             int distance = Integer.parseInt(line.substring(1));
 
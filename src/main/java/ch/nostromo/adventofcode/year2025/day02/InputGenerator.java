@@ -0,0 +1,37 @@
+package ch.nostromo.adventofcode.year2025.day02;
+
+import ch.nostromo.adventofcode.BaseInputGenerator;
+
+import java.io.PrintWriter;
+import java.util.Random;
+
+/**
+ * One line of 31 product id ranges per scale unit, with ids of one to ten digits.
+ * <p>
+ * A range spans up to a fiftieth of its first id, at most 200000 ids, as the solvers test every id of every range.
+ */
+public class InputGenerator extends BaseInputGenerator {
+
+    private static final long MAX_WIDTH = 200_000;
+
+    @Override
+    public void generate(double scale, Random random, PrintWriter out) {
+        int ranges = scaled(31, scale);
+        StringBuilder line = new StringBuilder();
+        for (int i = 0; i < ranges; i++) {
+            long low = 1;
+            for (int digits = between(random, 1, 10); digits > 1; digits--) {
+                low *= 10;
+            }
+            long from = between(random, low, low * 10 - 1);
+            long to = from + between(random, 0L, Math.max(10, Math.min(MAX_WIDTH, from / 50)));
+
+            if (i > 0) {
+                line.append(',');
+            }
+            line.append(from).append('-').append(to);
+        }
+        out.println(line);
+    }
+
+}
@@ -0,0 +1,25 @@
+package ch.nostromo.adventofcode.year2025.day03;
+
+import ch.nostromo.adventofcode.BaseInputGenerator;
+
+import java.io.PrintWriter;
+import java.util.Random;
+
+/**
+ * Battery banks of 100 joltage digits, 200 per scale unit.
+ */
+public class InputGenerator extends BaseInputGenerator {
+
+    @Override
+    public void generate(double scale, Random random, PrintWriter out) {
+        int banks = scaled(200, scale);
+        for (int b = 0; b < banks; b++) {
+            StringBuilder line = new StringBuilder(100);
+            for (int i = 0; i < 100; i++) {
+                line.append(between(random, 1, 9));
+            }
+            out.println(line);
+        }
+    }
+
+}
@@ -1,8 +1,10 @@
 package ch.nostromo.adventofcode.year2025.day03;
 
 import ch.nostromo.adventofcode.BasePuzzle;
+import ch.nostromo.adventofcode.StreamingPuzzle;
 
 import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.List;
 import java.util.StringTokenizer;
 
@@ -36,23 +38,28 @@ import java.util.StringTokenizer;
 
  To begin, get your puzzle input.
  */
-public class Part1 extends BasePuzzle {
+public class Part1 extends BasePuzzle implements StreamingPuzzle {
 
     private static final String EXPECTED_TEST_RESULT = "357";
 
     public String solvePuzzle(List<String> input) {
+        return solvePuzzle(input.iterator());
+    }
+
+    @Override
+    public String solvePuzzle(Iterator<? extends CharSequence> lines) {
         long result = 0;
 
-        for (String line : input) {
+        while (lines.hasNext()) {
 
-            result += checkBatteries(line);
+            result += checkBatteries(lines.next());
 
         }
 
         return String.valueOf(result);
     }
 
-    public static int checkBatteries(String line) {
+    public static int checkBatteries(CharSequence line) {
         int result = 0;
         for (int i = 0; i < line.length(); i++) {
             char c1 = line.charAt(i);
@@ -1,7 +1,9 @@
 package ch.nostromo.adventofcode.year2025.day03;
 
 import ch.nostromo.adventofcode.BasePuzzle;
+import ch.nostromo.adventofcode.StreamingPuzzle;
 
+import java.util.Iterator;
 import java.util.List;
 
 /**
@@ -59,16 +61,21 @@ import java.util.List;
  * In 818181911112111, the joltage 888911112111 is produced by turning on everything except some 1s near the front.
  * The total output joltage is now much larger: 987654321111 + 811111111119 + 434234234278 + 888911112111 = 3121910778619.
  */
-public class Part2 extends BasePuzzle {
+public class Part2 extends BasePuzzle implements StreamingPuzzle {
 
     private static final String EXPECTED_TEST_RESULT = "3121910778619";
 
     public String solvePuzzle(List<String> input) {
+        return solvePuzzle(input.iterator());
+    }
+
+    @Override
+    public String solvePuzzle(Iterator<? extends CharSequence> lines) {
         long result = 0;
 
-        for (String line : input) {
+        while (lines.hasNext()) {
 
-            result += checkBatteries(line);
+            result += checkBatteries(lines.next());
 
         }
 
@@ -76,7 +83,7 @@ public class Part2 extends BasePuzzle {
     }
 
 
-    public static long checkBatteries(String line) {
+    public static long checkBatteries(CharSequence line) {
 
         StringBuilder result = new StringBuilder();
 
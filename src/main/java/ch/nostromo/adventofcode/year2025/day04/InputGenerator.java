@@ -0,0 +1,25 @@
+package ch.nostromo.adventofcode.year2025.day04;
+
+import ch.nostromo.adventofcode.BaseInputGenerator;
+
+import java.io.PrintWriter;
+import java.util.Random;
+
+/**
+ * A square grid of paper rolls, 140x140 per scale unit, with rolls on about 60 percent of the positions.
+ */
+public class InputGenerator extends BaseInputGenerator {
+
+    @Override
+    public void generate(double scale, Random random, PrintWriter out) {
+        int side = scaledSide(140, scale);
+        for (int y = 0; y < side; y++) {
+            StringBuilder line = new StringBuilder(side);
+            for (int x = 0; x < side; x++) {
+                line.append(random.nextInt(10) < 6 ? '@' : '.');
+            }
+            out.println(line);
+        }
+    }
+
+}
@@ -1,6 +1,8 @@
 package ch.nostromo.adventofcode.year2025.day04;
 
 import ch.nostromo.adventofcode.BasePuzzle;
+import ch.nostromo.adventofcode.PuzzleInput;
+import ch.nostromo.adventofcode.utils.Grid;
 
 import java.util.List;
 
@@ -50,80 +52,37 @@ public class Part1 extends BasePuzzle {
     private static final char ROLL = '@';
 
     public String solvePuzzle(List<String> input) {
-        int result = 0;
-
-        for (int y = 0; y < input.size(); y++) {
-            for (int x = 0; x < input.get(y).length(); x++) {
+        return solvePuzzle(PuzzleInput.of(input));
+    }
 
-                if (input.get(y).charAt(x) == ROLL) {
-                    int forkable = forkable(input, x, y);
+    @Override
+    public String solvePuzzle(PuzzleInput input) {
+        int result = 0;
 
-                    if (forkable < 4) {
-                        result ++;
-                    }
+        Grid map = Grid.parse(input);
 
+        for (int y = 0; y < map.getHeight(); y++) {
+            for (int i = map.index(0, y); i < map.index(map.getWidth(), y); i++) {
+                if (map.get(i) == ROLL && forkable(map, i) < 4) {
+                    result++;
                 }
-
             }
-
         }
 
 
         return Integer.toString(result);
     }
 
-    public static int forkable(List<String> map, int x, int y) {
-        int maxY = map.size() - 1;
-        int maxX = map.get(0).length() - 1;
-
+    public static int forkable(Grid map, int position) {
         int result = 0;
 
-        // N
-        if (y > 0 && map.get(y - 1).charAt(x) == ROLL) {
-            result++;
-        }
-
-        // NE
-        if (y > 0 && x < maxX && map.get(y - 1).charAt(x + 1) == ROLL) {
-            result++;
-        }
-
-        // E
-        if (x < maxX && map.get(y).charAt(x + 1) == ROLL) {
-            result++;
-        }
-
-
-        // SE
-        if (y < maxY && x < maxX && map.get(y + 1).charAt(x + 1) == ROLL) {
-            result++;
-        }
-
-
-        // S
-        if (y < maxY && map.get(y + 1).charAt(x) == ROLL) {
-            result++;
-        }
-
-        // SW
-        if (y < maxY && x > 0 && map.get(y + 1).charAt(x - 1) == ROLL) {
-            result++;
-        }
-
-        // W
-        if (x > 0 && map.get(y).charAt(x - 1) == ROLL) {
-            result++;
-        }
-
-        // NW
-        if (y > 0 && x > 0 && map.get(y -1).charAt(x - 1) == ROLL) {
-            result++;
+        for (int offset : map.getNeighbours8()) {
+            if (map.get(position + offset) == ROLL) {
+                result++;
+            }
         }
 
-
         return result;
-
-
     }
 
     public Part1() {
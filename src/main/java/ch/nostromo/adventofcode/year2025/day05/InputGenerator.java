@@ -0,0 +1,33 @@
+package ch.nostromo.adventofcode.year2025.day05;
+
+import ch.nostromo.adventofcode.BaseInputGenerator;
+
+import java.io.PrintWriter;
+import java.util.Random;
+
+/**
+ * Fresh ingredient id ranges, partly overlapping, followed by available ingredient ids. 190 ranges and 1000 ids per
+ * scale unit.
+ */
+public class InputGenerator extends BaseInputGenerator {
+
+    @Override
+    public void generate(double scale, Random random, PrintWriter out) {
+        int ranges = scaled(190, scale);
+        int ids = scaled(1000, scale);
+        long maxId = 500_000_000_000_000L;
+
+        for (int i = 0; i < ranges; i++) {
+            long from = between(random, 1L, maxId);
+            long to = from + between(random, 0L, maxId / 100);
+            out.println(from + "-" + to);
+        }
+
+        out.println();
+
+        for (int i = 0; i < ids; i++) {
+            out.println(between(random, 1L, maxId));
+        }
+    }
+
+}
@@ -1,6 +1,8 @@
 package ch.nostromo.adventofcode.year2025.day05;
 
 import ch.nostromo.adventofcode.BasePuzzle;
+import ch.nostromo.adventofcode.utils.range.Interval;
+import ch.nostromo.adventofcode.utils.range.IntervalSet;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -48,15 +50,10 @@ public class Part1 extends BasePuzzle {
 
     private static final String EXPECTED_TEST_RESULT = "3";
 
-    record Range(long from, long to) {
-
-    }
-
-
     public String solvePuzzle(List<String> input) {
         int result = 0;
 
-        List<Range> ranges = new ArrayList<>();
+        List<Interval> ranges = new ArrayList<>();
         List<Long> numbers = new ArrayList<>();
 
         boolean rangesMode = true;
@@ -69,7 +66,7 @@ public class Part1 extends BasePuzzle {
                     long from = Long.parseLong(line.split("-")[0]);
                     long to = Long.parseLong(line.split("-")[1]);
 
-                    ranges.add(new Range(from, to));
+                    ranges.add(Interval.closed(from, to));
                 } else {
                     numbers.add(Long.parseLong(line));
                 }
@@ -80,17 +77,12 @@ public class Part1 extends BasePuzzle {
 
         }
 
-        for (Long number : numbers) {
-            boolean hit = false;
+        IntervalSet fresh = IntervalSet.of(ranges);
 
-            for (Range range : ranges) {
-                if (number >= range.from && number <= range.to && !hit) {
-                    hit = true;
-                    result++;
-                }
+        for (Long number : numbers) {
+            if (fresh.contains(number)) {
+                result++;
             }
-
-
         }
 
 
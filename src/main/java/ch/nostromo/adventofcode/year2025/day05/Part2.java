@@ -1,11 +1,11 @@
 package ch.nostromo.adventofcode.year2025.day05;
 
 import ch.nostromo.adventofcode.BasePuzzle;
+import ch.nostromo.adventofcode.utils.range.Interval;
+import ch.nostromo.adventofcode.utils.range.IntervalSet;
 
 import java.util.ArrayList;
-import java.util.HashSet;
 import java.util.List;
-import java.util.Set;
 
 /**
  * --- Day 5: Cafeteria ---
@@ -71,15 +71,8 @@ public class Part2 extends BasePuzzle {
 
     private static final String EXPECTED_TEST_RESULT = "14";
 
-    record Range(long from, long to) {
-
-    }
-
-
     public String solvePuzzle(List<String> input) {
-        long result = 0;
-
-        List<Range> ranges = new ArrayList<>();
+        List<Interval> ranges = new ArrayList<>();
 
         boolean rangesMode = true;
         for (String line : input) {
@@ -91,56 +84,18 @@ public class Part2 extends BasePuzzle {
                     long from = Long.parseLong(line.split("-")[0]);
                     long to = Long.parseLong(line.split("-")[1]);
 
-                    ranges.add(new Range(from, to));
+                    ranges.add(Interval.closed(from, to));
                 }
             }
 
 
         }
 
-        List<Range> mergedRanges = mergeRanges(ranges);
-
-        for (Range range : mergedRanges) {
-            result += range.to - range.from + 1;
-        }
-
-
-
+        long result = IntervalSet.of(ranges).measure();
 
         return Long.toString(result);
     }
 
-    private List<Range> mergeRanges(List<Range> ranges) {
-        if (ranges.isEmpty()) {
-            return new ArrayList<>();
-        }
-
-        // Sort ranges
-        ranges.sort((a, b) -> Long.compare(a.from(), b.from()));
-
-        List<Range> result = new ArrayList<>();
-
-        long currentFrom = ranges.get(0).from();
-        long currentTo = ranges.get(0).to();
-
-        for (int i = 1; i < ranges.size(); i++) {
-            Range range = ranges.get(i);
-
-            if (range.from() <= currentTo) {
-                currentTo = Math.max(currentTo, range.to());
-            } else {
-                result.add(new Range(currentFrom, currentTo));
-
-                currentFrom = range.from();
-                currentTo = range.to();
-            }
-        }
-
-        result.add(new Range(currentFrom, currentTo));
-
-        return result;
-    }
-
 
     public Part2() {
         super(EXPECTED_TEST_RESULT);
@@ -0,0 +1,53 @@
+package ch.nostromo.adventofcode.year2025.day06;
+
+import ch.nostromo.adventofcode.BaseInputGenerator;
+
+import java.io.PrintWriter;
+import java.util.Random;
+
+/**
+ * A worksheet of four rows of numbers with up to four digits and a row of operators, 1000 problems per scale unit.
+ * <p>
+ * The numbers of a problem are all aligned left or all right. The first problem always multiplies because part 1
+ * recognizes the operator row by its leading {@code *}.
+ */
+public class InputGenerator extends BaseInputGenerator {
+
+    private static final int ROWS = 4;
+
+    @Override
+    public void generate(double scale, Random random, PrintWriter out) {
+        int problems = scaled(1000, scale);
+        StringBuilder[] lines = new StringBuilder[ROWS + 1];
+        for (int row = 0; row <= ROWS; row++) {
+            lines[row] = new StringBuilder();
+        }
+
+        for (int problem = 0; problem < problems; problem++) {
+            if (problem > 0) {
+                for (StringBuilder line : lines) {
+                    line.append(' ');
+                }
+            }
+
+            int width = between(random, 1, 4);
+            boolean alignLeft = random.nextBoolean();
+            int widest = random.nextInt(ROWS);
+            for (int row = 0; row < ROWS; row++) {
+                int digits = row == widest ? width : between(random, 1, width);
+                String number = String.valueOf(between(random, digits == 1 ? 1 : (int) Math.pow(10, digits - 1), (int) Math.pow(10, digits) - 1));
+                String padding = " ".repeat(width - digits);
+                lines[row].append(alignLeft ? number + padding : padding + number);
+            }
+
+            char operator = problem == 0 || random.nextBoolean() ? '*' : '+';
+            lines[ROWS].append(operator).append(" ".repeat(width - 1));
+        }
+
+        for (int row = 0; row < ROWS; row++) {
+            out.println(lines[row]);
+        }
+        out.println(lines[ROWS].toString().stripTrailing());
+    }
+
+}